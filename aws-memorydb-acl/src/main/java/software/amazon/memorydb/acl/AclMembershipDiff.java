@@ -0,0 +1,64 @@
+package software.amazon.memorydb.acl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Users to add to and remove from an ACL to go from its current to its desired members, computed on hashed sets so
+ * that large ACLs are compared in linear time. The names are sorted, so the same change is always split into the same
+ * batches.
+ */
+final class AclMembershipDiff {
+  // UpdateACL documents no maximum for UserNamesToAdd and UserNamesToRemove, the bound is the users per ACL quota,
+  // 100 by default. A batch never names more users than an ACL holds under the default quota, and ACLs whose quota was
+  // raised are changed in several requests, each stabilized before the next.
+  static final int MAX_USER_NAMES_PER_UPDATE = 100;
+
+  private final List<String> userNamesToAdd;
+  private final List<String> userNamesToRemove;
+
+  private AclMembershipDiff(final List<String> userNamesToAdd, final List<String> userNamesToRemove) {
+    this.userNamesToAdd = userNamesToAdd;
+    this.userNamesToRemove = userNamesToRemove;
+  }
+
+  /**
+   * @param current user names of the ACL, may be null
+   * @param desired user names of the template, may be null
+   */
+  static AclMembershipDiff between(final Collection<String> current, final Collection<String> desired) {
+    final Set<String> currentNames = current != null ? new HashSet<>(current) : Collections.emptySet();
+    final Set<String> desiredNames = desired != null ? new HashSet<>(desired) : Collections.emptySet();
+
+    final Set<String> toAdd = new TreeSet<>(desiredNames);
+    toAdd.removeAll(currentNames);
+    final Set<String> toRemove = new TreeSet<>(currentNames);
+    toRemove.removeAll(desiredNames);
+    return new AclMembershipDiff(new ArrayList<>(toAdd), new ArrayList<>(toRemove));
+  }
+
+  boolean isEmpty() {
+    return userNamesToAdd.isEmpty() && userNamesToRemove.isEmpty();
+  }
+
+  List<String> getUserNamesToAdd() {
+    return Collections.unmodifiableList(userNamesToAdd);
+  }
+
+  List<String> getUserNamesToRemove() {
+    return Collections.unmodifiableList(userNamesToRemove);
+  }
+
+  /**
+   * The names of the next batch, at most {@link #MAX_USER_NAMES_PER_UPDATE} of the pending ones.
+   */
+  static List<String> nextBatch(final List<String> pending) {
+    return pending == null ? Collections.emptyList()
+        : new ArrayList<>(pending.subList(0, Math.min(pending.size(), MAX_USER_NAMES_PER_UPDATE)));
+  }
+}
@@ -5,14 +5,22 @@ import com.google.common.base.Throwables;
 import java.security.InvalidParameterException;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.ACL;
 import software.amazon.awssdk.services.memorydb.model.AclAlreadyExistsException;
 import software.amazon.awssdk.services.memorydb.model.AclNotFoundException;
+import software.amazon.awssdk.services.memorydb.model.AclQuotaPerCustomerExceededException;
+import software.amazon.awssdk.services.memorydb.model.DefaultUserRequiredException;
 import software.amazon.awssdk.services.memorydb.model.DescribeAcLsResponse;
+import software.amazon.awssdk.services.memorydb.model.DuplicateUserNameException;
+import software.amazon.awssdk.services.memorydb.model.InvalidAclStateException;
+import software.amazon.awssdk.services.memorydb.model.InvalidParameterCombinationException;
 import software.amazon.awssdk.services.memorydb.model.InvalidParameterValueException;
+import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
+import software.amazon.awssdk.services.memorydb.model.TagQuotaPerResourceExceededException;
 import software.amazon.awssdk.services.memorydb.model.UserNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
@@ -20,34 +28,87 @@ import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.memorydb.common.ConcurrentListTags;
+import software.amazon.memorydb.common.HandlerMetrics;
+import software.amazon.memorydb.common.RetryPolicy;
+import software.amazon.memorydb.common.StabilizationDelay;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+  private static final String ARN_RESOURCE_TYPE = "acl";
 
   private static final String MESSAGE_FORMAT_FAILED_TO_STABILIZE = "ACL %s failed to stabilize.";
-  @VisibleForTesting
-  static Constant STABILIZATION_DELAY = Constant.of()
+  protected static final StabilizationDelay STABILIZATION_DELAY = StabilizationDelay.of()
+      .timeout(Duration.ofHours(1L))
+      // ACLs usually become active within seconds
+      .initialDelay(Duration.ofSeconds(2))
+      .maxDelay(Duration.ofSeconds(30))
+      .build();
+  protected static final StabilizationDelay DELETE_STABILIZATION_DELAY = StabilizationDelay.of()
       .timeout(Duration.ofHours(1L))
-      .delay(Duration.ofSeconds(60))
+      // ACL deletes usually complete within seconds, so the first polls come quickly
+      .initialDelay(Duration.ofSeconds(1))
+      .maxDelay(Duration.ofSeconds(10))
       .build();
 
+  protected static final Integer RETRY_COUNT = 5;
+  protected static final Integer THROTTLE_RETRY_COUNT = 10;
+  @VisibleForTesting
+  static RetryPolicy RETRY_POLICY = RetryPolicy.of()
+      .terminal(AclAlreadyExistsException.class
+          , AclNotFoundException.class
+          , AclQuotaPerCustomerExceededException.class
+          , DefaultUserRequiredException.class
+          , DuplicateUserNameException.class
+          , InvalidParameterCombinationException.class
+          , InvalidParameterValueException.class
+          , TagQuotaPerResourceExceededException.class
+          , UserNotFoundException.class
+          , CfnAlreadyExistsException.class
+          , CfnNotFoundException.class
+          , CfnInvalidRequestException.class)
+      // the acl is being modified by another request
+      .conflict(InvalidAclStateException.class)
+      .build();
+
+  private HandlerMetrics metrics = new HandlerMetrics(ResourceModel.TYPE_NAME, getAction());
+
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
       final AmazonWebServicesClientProxy proxy,
       final ResourceHandlerRequest<ResourceModel> request,
       final CallbackContext callbackContext,
       final Logger logger) {
-    return handleRequest(
-        proxy,
-        request,
-        callbackContext != null ? callbackContext : new CallbackContext(),
-        proxy.newProxy(ClientBuilder::getClient),
-        logger
-    );
+    // handler instances are reused by warm containers
+    metrics = new HandlerMetrics(ResourceModel.TYPE_NAME, getAction());
+    ProgressEvent<ResourceModel, CallbackContext> event = null;
+    try {
+      event = handleRequest(
+          proxy,
+          request,
+          callbackContext != null ? callbackContext : new CallbackContext(),
+          metrics.instrument(proxy.newProxy(ClientBuilder::getClient)),
+          logger
+      );
+      return event;
+    } finally {
+      metrics.emit(logger, event);
+    }
+  }
+
+  /**
+   * Records a stabilization poll in the metrics of the current invocation and returns its outcome.
+   */
+  protected boolean recordStabilizationPoll(final boolean stabilized) {
+    return metrics.recordStabilizationPoll(stabilized);
+  }
+
+  private String getAction() {
+    return getClass().getSimpleName().replace("Handler", "");
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -109,4 +170,68 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
       throw new CfnGeneralServiceException(e);
     }
   }
+
+
+  /**
+   * Retry filter of the call chains. Terminal failures are not retried, throttled calls are retried from their own
+   * budget so that a throttling storm backs off instead of exhausting the retries of other failures. The backoff of
+   * the retry is left in the context for {@link #retryBackoff(Delay, CallbackContext)}.
+   */
+  protected boolean shouldRetry(final Exception exception, final CallbackContext context, final Logger logger) {
+    final RetryPolicy.Category category = RETRY_POLICY.classify(exception);
+    final int attempt;
+    if (category == RetryPolicy.Category.TERMINAL) {
+      return false;
+    } else if (category == RetryPolicy.Category.THROTTLING) {
+      if (context.getThrottleRetriesRemaining() == null) {
+        context.setThrottleRetriesRemaining(THROTTLE_RETRY_COUNT);
+      }
+      if (context.getThrottleRetriesRemaining() <= 0) {
+        return false;
+      }
+      context.setThrottleRetriesRemaining(context.getThrottleRetriesRemaining() - 1);
+      attempt = THROTTLE_RETRY_COUNT - context.getThrottleRetriesRemaining();
+    } else {
+      if (context.getRetriesRemaining() == null) {
+        context.setRetriesRemaining(RETRY_COUNT);
+      }
+      if (context.getRetriesRemaining() <= 0) {
+        return false;
+      }
+      logger.log(exception.toString() + " " + exception.getMessage() + " " + exception.getCause() + "\n"
+          + Throwables.getStackTraceAsString(exception));
+      context.setRetriesRemaining(context.getRetriesRemaining() - 1);
+      attempt = RETRY_COUNT - context.getRetriesRemaining();
+    }
+
+    final Duration backoff = RETRY_POLICY.backoff(category, attempt);
+    context.setRetryDelaySeconds((int) backoff.getSeconds());
+    logger.log(String.format("Caught a %s exception, retrying in %ds, RetriesRemaining %s, ThrottleRetriesRemaining %s",
+        category, backoff.getSeconds(), context.getRetriesRemaining(), context.getThrottleRetriesRemaining()));
+    return true;
+  }
+
+  /**
+   * Delay of a call chain that waits for the backoff chosen by {@link #shouldRetry(Exception, CallbackContext, Logger)}
+   * before a retry and follows the given delay otherwise.
+   */
+  protected Delay retryBackoff(final Delay delay, final CallbackContext context) {
+    return RETRY_POLICY.withRetryBackoff(delay, () -> {
+      final Integer seconds = context.getRetryDelaySeconds();
+      context.setRetryDelaySeconds(null);
+      return seconds == null ? null : Duration.ofSeconds(seconds);
+    });
+  }
+
+  /**
+   * Builds the ARN of the resource from the account and region of the request, so that ListTags can be issued
+   * without waiting for the describe call. Returns null when the request does not carry them.
+   */
+  protected static String buildArn(final ResourceHandlerRequest<ResourceModel> request, final String name) {
+    return ConcurrentListTags.buildArn(request, ARN_RESOURCE_TYPE, name);
+  }
+
+  protected ListTagsResponse joinListTags(final CompletableFuture<ListTagsResponse> listTags) {
+    return handleExceptions(() -> ConcurrentListTags.join(listTags));
+  }
 }
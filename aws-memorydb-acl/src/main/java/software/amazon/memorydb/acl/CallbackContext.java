@@ -1,5 +1,6 @@
 package software.amazon.memorydb.acl;
 
+import java.util.List;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 @lombok.Getter
@@ -7,4 +8,12 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    // members still to be changed by UpdateACL, null until the membership diff has been computed
+    private List<String> pendingUserNamesToAdd;
+    private List<String> pendingUserNamesToRemove;
+    private int completedUpdateBatches;
+    private Integer retriesRemaining;
+    private Integer throttleRetriesRemaining;
+    // backoff of the retry about to happen, consumed by the delay of the call chain
+    private Integer retryDelaySeconds;
 }
@@ -37,12 +37,13 @@ public class CreateHandler extends BaseHandlerStd {
                 proxy.initiate("AWS-MemoryDB-ACL::Create", proxyClient, progress.getResourceModel(),
                     progress.getCallbackContext())
                     .translateToServiceRequest(Translator::translateToCreateRequest)
-                    .backoffDelay(STABILIZATION_DELAY)
+                    .backoffDelay(retryBackoff(STABILIZATION_DELAY, progress.getCallbackContext()))
                     .makeServiceCall((awsRequest, client) -> handleExceptions(() ->
                         client.injectCredentialsAndInvokeV2(awsRequest, client.client()::createACL)))
                     .stabilize(
-                        (updateUserRequest, updateUserResponse, proxyInvocation, model, context) -> isAclStabilized(
-                            proxyInvocation, model, logger))
+                        (updateUserRequest, updateUserResponse, proxyInvocation, model, context) -> recordStabilizationPoll(
+                            isAclStabilized(proxyInvocation, model, logger)))
+                    .retryErrorFilter((awsRequest, exception, client, model, context) -> shouldRetry(exception, context, logger))
                     .progress()
             ).then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
@@ -1,7 +1,11 @@
 package software.amazon.memorydb.acl;
 
+import java.util.Optional;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.ACL;
+import software.amazon.awssdk.services.memorydb.model.AclNotFoundException;
+import software.amazon.awssdk.services.memorydb.model.DeleteAclRequest;
+import software.amazon.awssdk.services.memorydb.model.DeleteAclResponse;
 import software.amazon.awssdk.services.memorydb.model.InvalidAclStateException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
@@ -12,6 +16,8 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class DeleteHandler extends BaseHandlerStd {
+    static final String MESSAGE_FORMAT_ACL_ASSOCIATED = "ACL %s can not be deleted, it is associated with clusters %s.";
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -23,32 +29,9 @@ public class DeleteHandler extends BaseHandlerStd {
 
         this.logger = logger;
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress -> checkAclIsAssociated(proxy, proxyClient, progress, request))
             .then(progress -> deleteAcl(proxy, proxyClient, progress, request, logger));
     }
 
-    protected ProgressEvent<ResourceModel, CallbackContext> checkAclIsAssociated(
-        final AmazonWebServicesClientProxy proxy,
-        final ProxyClient<MemoryDbClient> proxyClient,
-        final ProgressEvent<ResourceModel, CallbackContext> progress,
-        final ResourceHandlerRequest<ResourceModel> request) {
-        final ResourceModel desiredResourceState = request.getDesiredResourceState();
-        ACL acl = null;
-        try {
-            acl = getACL(proxy, proxyClient, desiredResourceState);
-        } catch (CfnNotFoundException exception) {
-            return progress;
-        }
-
-        if (!acl.clusters().isEmpty()) {
-            throw new CfnGeneralServiceException(
-                InvalidAclStateException.builder().message("Acl associated "
-                    + "to a cluster can not deleted.").build());
-        }
-
-        return progress;
-    }
-
     private ProgressEvent<ResourceModel, CallbackContext> deleteAcl(final AmazonWebServicesClientProxy proxy,
         final ProxyClient<MemoryDbClient> proxyClient,
         final ProgressEvent<ResourceModel, CallbackContext> progress,
@@ -57,33 +40,63 @@ public class DeleteHandler extends BaseHandlerStd {
         return proxy.initiate("AWS-MemoryDB-ACL::Delete", proxyClient,
             request.getDesiredResourceState(), progress.getCallbackContext())
             .translateToServiceRequest(Translator::translateToDeleteRequest)
-            .backoffDelay(STABILIZATION_DELAY)
-            .makeServiceCall((modelRequest, proxyInvocation) -> {
-                return handleExceptions(() -> {
-                    try {
-                        return proxyInvocation.injectCredentialsAndInvokeV2(modelRequest,
-                            proxyInvocation.client()::deleteACL);
-                    } catch (final InvalidAclStateException e) {
-                        //Out of band flow
-                        return null;
-                    }
-                });
-            })
-            .stabilize((deleteUserRequest, deleteUserResponse, proxyInvocation, model, context) -> isAclDeleted(
+            .backoffDelay(retryBackoff(DELETE_STABILIZATION_DELAY, progress.getCallbackContext()))
+            .makeServiceCall((modelRequest, proxyInvocation) -> handleExceptions(() -> {
+                // the describe is part of the memoized delete call, so it only runs before the acl is deleted
+                checkAclIsAssociated(describeAcl(proxyInvocation, modelRequest.aclName())
+                    .orElseThrow(() -> AclNotFoundException.builder().message("ACL " + modelRequest.aclName() + " not found").build()));
+                return deleteAcl(proxyInvocation, modelRequest);
+            }))
+            .stabilize((deleteAclRequest, deleteAclResponse, proxyInvocation, model, context) -> isAclDeleted(
                 proxyInvocation, model, logger))
-            .done((deleteUserRequest, deleteUserResponse, proxyInvocation, model, context) -> ProgressEvent
+            .retryErrorFilter((deleteAclRequest, exception, proxyInvocation, model, context) -> shouldRetryDelete(exception, context, logger))
+            .done((deleteAclRequest, deleteAclResponse, proxyInvocation, model, context) -> ProgressEvent
                 .defaultSuccessHandler(null));
     }
 
+    /**
+     * An ACL still associated with clusters is not retried, it stays associated until the clusters are changed.
+     */
+    private boolean shouldRetryDelete(final Exception exception, final CallbackContext context, final Logger logger) {
+        return !(exception.getCause() instanceof InvalidAclStateException) && shouldRetry(exception, context, logger);
+    }
+
+    protected void checkAclIsAssociated(final ACL acl) {
+        if (!acl.clusters().isEmpty()) {
+            throw new CfnGeneralServiceException(
+                InvalidAclStateException.builder().message(
+                    String.format(MESSAGE_FORMAT_ACL_ASSOCIATED, acl.name(), String.join(", ", acl.clusters()))).build());
+        }
+    }
+
+    private DeleteAclResponse deleteAcl(final ProxyClient<MemoryDbClient> proxyClient, final DeleteAclRequest request) {
+        try {
+            return proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::deleteACL);
+        } catch (final InvalidAclStateException e) {
+            //Out of band flow
+            return null;
+        }
+    }
+
+    private Optional<ACL> describeAcl(final ProxyClient<MemoryDbClient> proxyClient, final String aclName) {
+        return proxyClient.injectCredentialsAndInvokeV2(
+            Translator.translateToReadRequest(ResourceModel.builder().aCLName(aclName).build()),
+            proxyClient.client()::describeACLs).acLs().stream().findFirst();
+    }
+
     protected boolean isAclDeleted(
         final ProxyClient<MemoryDbClient> proxyClient,
         final ResourceModel model,
         Logger logger) {
         try {
-            isAclStabilized(proxyClient, model, logger);
-        } catch (CfnNotFoundException e) {
-            return true;
+            final Optional<ACL> acl = describeAcl(proxyClient, model.getACLName());
+            if (!acl.isPresent()) {
+                return recordStabilizationPoll(true);
+            }
+            logger.log("Delete status: " + acl.get().name() + " " + acl.get().status());
+            return recordStabilizationPoll(false);
+        } catch (final AclNotFoundException e) {
+            return recordStabilizationPoll(true);
         }
-        return false;
     }
 }
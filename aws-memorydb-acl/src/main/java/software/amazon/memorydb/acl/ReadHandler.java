@@ -1,11 +1,16 @@
 package software.amazon.memorydb.acl;
 
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.commons.collections.CollectionUtils;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.memorydb.common.ConcurrentListTags;
 
 public class ReadHandler extends BaseHandlerStd {
     private Logger logger;
@@ -19,9 +24,25 @@ public class ReadHandler extends BaseHandlerStd {
         this.logger = logger;
 
         logger.log(String.format("%s read handler is being invoked", ResourceModel.TYPE_NAME));
+        final String arn = buildArn(request, request.getDesiredResourceState().getACLName());
+        if (arn == null) {
+            // the ARN is only known once the ACL has been described
+            return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+                .then(progress -> describeUser(proxy, progress, proxyClient))
+                .then(progress -> listTags(proxy, progress, proxyClient))
+                .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
+        }
+
+        final CompletableFuture<ListTagsResponse> listTags = ConcurrentListTags.listTagsAsync(proxyClient, arn);
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress -> describeUser(proxy, progress, proxyClient))
-            .then(progress -> listTags(proxy, progress, proxyClient))
+            .then(progress -> {
+                final ListTagsResponse listTagsResponse = joinListTags(listTags);
+                if (CollectionUtils.isNotEmpty(listTagsResponse.tagList())) {
+                    progress.getResourceModel().setTags(Translator.translateTags(listTagsResponse.tagList()));
+                }
+                return progress;
+            })
             .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
     }
 
@@ -50,7 +71,9 @@ public class ReadHandler extends BaseHandlerStd {
             .translateToServiceRequest(Translator::translateToListTagsRequest)
             .makeServiceCall((awsRequest, client) -> handleExceptions(() -> client.injectCredentialsAndInvokeV2(awsRequest, client.client()::listTags)))
             .done( (listTagsRequest, listTagsResponse, proxyInvocation, resourceModel, context) -> {
-                    resourceModel.setTags(Translator.translateTags(listTagsResponse.tagList()));
+                    if (CollectionUtils.isNotEmpty(listTagsResponse.tagList())) {
+                        resourceModel.setTags(Translator.translateTags(listTagsResponse.tagList()));
+                    }
                     return ProgressEvent.progress(resourceModel, context);
                 }
             );
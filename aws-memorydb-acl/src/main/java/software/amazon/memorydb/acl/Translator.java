@@ -86,6 +86,24 @@ public class Translator {
         .build();
   }
 
+  /**
+   * Request to update the members of a resource, one batch at a time
+   *
+   * @param model resource model
+   * @param userNamesToAdd users to add in this batch
+   * @param userNamesToRemove users to remove in this batch
+   * @return awsRequest the aws service request to modify a resource
+   */
+  static UpdateAclRequest translateToUpdateRequest(final ResourceModel model,
+      final List<String> userNamesToAdd,
+      final List<String> userNamesToRemove) {
+    return UpdateAclRequest.builder()
+        .aclName(model.getACLName())
+        .userNamesToAdd(userNamesToAdd.isEmpty() ? null : userNamesToAdd)
+        .userNamesToRemove(userNamesToRemove.isEmpty() ? null : userNamesToRemove)
+        .build();
+  }
+
   /**
    * Request to list resources
    * @param nextToken token passed to the aws service list resources request
@@ -128,7 +146,11 @@ public class Translator {
   }
 
   static ListTagsRequest translateToListTagsRequest(final ResourceModel model) {
-    return ListTagsRequest.builder().resourceArn(model.getArn()).build();
+    return translateToListTagsRequest(model.getArn());
+  }
+
+  static ListTagsRequest translateToListTagsRequest(final String arn) {
+    return ListTagsRequest.builder().resourceArn(arn).build();
   }
 
   static Set<software.amazon.memorydb.acl.Tag> translateTags(final Collection<Tag> tags) {
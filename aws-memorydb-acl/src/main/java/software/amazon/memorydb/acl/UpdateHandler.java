@@ -2,24 +2,16 @@ package software.amazon.memorydb.acl;
 
 import com.amazonaws.util.CollectionUtils;
 import com.amazonaws.util.StringUtils;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.ACL;
-import software.amazon.awssdk.services.memorydb.model.AclNotFoundException;
-import software.amazon.awssdk.services.memorydb.model.DescribeAcLsRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeAcLsResponse;
-import software.amazon.awssdk.services.memorydb.model.UpdateAclRequest;
-import software.amazon.awssdk.services.memorydb.model.UpdateAclRequest.Builder;
-import software.amazon.awssdk.services.memorydb.model.UpdateAclResponse;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -51,61 +43,58 @@ public class UpdateHandler extends BaseHandlerStd {
         ResourceHandlerRequest<ResourceModel> request,
         ProxyClient<MemoryDbClient> proxyClient
     ) {
-        if (hasChangeOnCoreModel(request.getDesiredResourceState(), request.getPreviousResourceState())) {
-            return proxy.initiate("AWS-MemoryDB-User::Update", proxyClient, progress.getResourceModel(),
-                progress.getCallbackContext())
-                .translateToServiceRequest(Translator::translateToUpdateRequest)
-                .makeServiceCall((awsRequest, proxyInvocation)  -> handleExceptions(() -> {
-                        try {
-                            //Get current acl
-                            DescribeAcLsRequest describeRequest =
-                                DescribeAcLsRequest.builder().aclName(awsRequest.aclName()).build();
-                            final DescribeAcLsResponse describeResponse =
-                                proxyInvocation.injectCredentialsAndInvokeV2(describeRequest,
-                                    proxyInvocation.client()::describeACLs);
-
-                            ACL acl = describeResponse.acLs().get(0);
-
-                            //Create list of resources to add and remove
-                            List<String> userIdsToAdd = progress.getResourceModel().getUserNames().stream()
-                                .distinct()
-                                .filter(((Predicate<String>) acl.userNames()::contains).negate())
-                                .collect(Collectors.toList());
-
-                            this.logger.log(acl.toString());
-
-                            List<String> userIdsToRemove = acl.userNames().stream()
-                                .distinct()
-                                .filter(
-                                    ((Predicate<String>) progress.getResourceModel().getUserNames()::contains).negate())
-                                .collect(Collectors.toList());
-
-                            Builder builder = UpdateAclRequest.builder();
-                            builder.aclName(acl.name());
-                            builder.userNamesToAdd(userIdsToAdd.isEmpty() ? null : userIdsToAdd);
-                            builder.userNamesToRemove(userIdsToRemove.isEmpty() ? null : userIdsToRemove);
-                            UpdateAclRequest updateRequest = builder.build();
-
-                            //Update ACL
-                            final UpdateAclResponse response =
-                                proxyInvocation.injectCredentialsAndInvokeV2(updateRequest,
-                                    proxyInvocation.client()::updateACL);
-
-                            return response;
-                        } catch (final AclNotFoundException e) {
-                            throw new CfnNotFoundException(e);
-                        } catch (final AwsServiceException e) {
-                            throw new CfnGeneralServiceException(e);
-                        }
-                    }
-                ))
-                .stabilize(
-                    (updateUserRequest, updateUserResponse, proxyInvocation, model, context) -> isAclStabilized(
-                        proxyInvocation, model, logger))
-                .progress();
-        } else {
+        if (!hasChangeOnCoreModel(request.getDesiredResourceState(), request.getPreviousResourceState())) {
+            return progress;
+        }
+
+        final CallbackContext context = progress.getCallbackContext();
+        if (context.getPendingUserNamesToAdd() == null) {
+            // first pass, diff the desired users against the current members of the acl
+            final ACL acl = getACL(proxy, proxyClient, progress.getResourceModel());
+            final AclMembershipDiff diff =
+                AclMembershipDiff.between(acl.userNames(), progress.getResourceModel().getUserNames());
+            this.logger.log(String.format("ACL %s: %d users to add, %d users to remove", acl.name(),
+                diff.getUserNamesToAdd().size(), diff.getUserNamesToRemove().size()));
+            context.setPendingUserNamesToAdd(new ArrayList<>(diff.getUserNamesToAdd()));
+            context.setPendingUserNamesToRemove(new ArrayList<>(diff.getUserNamesToRemove()));
+        }
+        return updateNextBatch(proxy, progress, proxyClient);
+    }
+
+    /**
+     * Submits the pending membership changes one batch at a time, waiting for the acl to be active again before the
+     * next batch. The batches already applied are tracked in the callback context, so a re-invocation resumes with
+     * the first batch that has not been applied.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> updateNextBatch(
+        AmazonWebServicesClientProxy proxy,
+        ProgressEvent<ResourceModel, CallbackContext> progress,
+        ProxyClient<MemoryDbClient> proxyClient
+    ) {
+        final CallbackContext context = progress.getCallbackContext();
+        final List<String> userNamesToAdd = AclMembershipDiff.nextBatch(context.getPendingUserNamesToAdd());
+        final List<String> userNamesToRemove = AclMembershipDiff.nextBatch(context.getPendingUserNamesToRemove());
+        if (userNamesToAdd.isEmpty() && userNamesToRemove.isEmpty()) {
             return progress;
         }
+
+        final int batch = context.getCompletedUpdateBatches();
+        return proxy.initiate("AWS-MemoryDB-ACL::Update-" + batch, proxyClient, progress.getResourceModel(), context)
+            .translateToServiceRequest(model -> Translator.translateToUpdateRequest(model, userNamesToAdd, userNamesToRemove))
+            .backoffDelay(retryBackoff(STABILIZATION_DELAY, context))
+            .makeServiceCall((awsRequest, proxyInvocation) -> handleExceptions(() ->
+                proxyInvocation.injectCredentialsAndInvokeV2(awsRequest, proxyInvocation.client()::updateACL)))
+            .stabilize(
+                (updateAclRequest, updateAclResponse, proxyInvocation, model, callbackContext) -> recordStabilizationPoll(
+                    isAclStabilized(proxyInvocation, model, logger)))
+            .retryErrorFilter((awsRequest, exception, client, model, callbackContext) -> shouldRetry(exception, callbackContext, logger))
+            .done((updateAclRequest, updateAclResponse, proxyInvocation, model, callbackContext) -> {
+                callbackContext.getPendingUserNamesToAdd().removeAll(userNamesToAdd);
+                callbackContext.getPendingUserNamesToRemove().removeAll(userNamesToRemove);
+                callbackContext.setCompletedUpdateBatches(batch + 1);
+                return ProgressEvent.progress(model, callbackContext);
+            })
+            .then(next -> updateNextBatch(proxy, next, proxyClient));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> updateTags(
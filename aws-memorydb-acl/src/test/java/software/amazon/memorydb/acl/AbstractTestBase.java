@@ -14,11 +14,17 @@ import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.ACL;
+import software.amazon.awssdk.services.memorydb.model.AclAlreadyExistsException;
+import software.amazon.awssdk.services.memorydb.model.AclNotFoundException;
+import software.amazon.awssdk.services.memorydb.model.InvalidAclStateException;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
 import software.amazon.cloudformation.proxy.LoggerProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.memorydb.common.RetryPolicy;
 
 public class AbstractTestBase {
 
@@ -53,9 +59,13 @@ public class AbstractTestBase {
     CLUSTERS = ImmutableList.of("test-clusters");
     TAG_SET = Sets.newSet(Tag.builder().key("key").value("value").build());
 
-    BaseHandlerStd.STABILIZATION_DELAY = Constant.of()
-        .timeout(Duration.ofSeconds(5L))
-        .delay(Duration.ofSeconds(1L))
+    BaseHandlerStd.RETRY_POLICY = RetryPolicy.of()
+        .terminal(AclAlreadyExistsException.class, AclNotFoundException.class, CfnAlreadyExistsException.class,
+            CfnNotFoundException.class, CfnInvalidRequestException.class)
+        .conflict(InvalidAclStateException.class)
+        .backoff(RetryPolicy.Category.THROTTLING, Duration.ofSeconds(1L), Duration.ofSeconds(1L))
+        .backoff(RetryPolicy.Category.TRANSIENT, Duration.ofSeconds(1L), Duration.ofSeconds(1L))
+        .backoff(RetryPolicy.Category.CONFLICT, Duration.ofSeconds(1L), Duration.ofSeconds(1L))
         .build();
   }
 
@@ -0,0 +1,33 @@
+package software.amazon.memorydb.acl;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AclMembershipDiffTest {
+
+    @Test
+    public void between_ComputesSortedAddsAndRemoves() {
+        final AclMembershipDiff diff = AclMembershipDiff.between(
+            ImmutableList.of("carol", "alice", "bob"), ImmutableList.of("dave", "bob", "bob", "alice"));
+
+        assertThat(diff.isEmpty()).isFalse();
+        assertThat(diff.getUserNamesToAdd()).containsExactly("dave");
+        assertThat(diff.getUserNamesToRemove()).containsExactly("carol");
+        assertThat(AclMembershipDiff.between(null, ImmutableList.of()).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void nextBatch_IsCappedAtServiceLimit() {
+        final List<String> pending = IntStream.range(0, 250).mapToObj(i -> "user-" + i).collect(Collectors.toList());
+
+        assertThat(AclMembershipDiff.nextBatch(pending)).hasSize(AclMembershipDiff.MAX_USER_NAMES_PER_UPDATE)
+            .isEqualTo(pending.subList(0, AclMembershipDiff.MAX_USER_NAMES_PER_UPDATE));
+        assertThat(AclMembershipDiff.nextBatch(pending.subList(200, 250))).hasSize(50);
+        assertThat(AclMembershipDiff.nextBatch(null)).isEmpty();
+    }
+}
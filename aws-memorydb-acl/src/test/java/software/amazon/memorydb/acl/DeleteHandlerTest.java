@@ -2,12 +2,14 @@ package software.amazon.memorydb.acl;
 
 import java.time.Duration;
 import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.AclNotFoundException;
 import software.amazon.awssdk.services.memorydb.model.DeleteAclRequest;
 import software.amazon.awssdk.services.memorydb.model.DeleteAclResponse;
 import software.amazon.awssdk.services.memorydb.model.DescribeAcLsRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeAcLsResponse;
+import software.amazon.awssdk.services.memorydb.model.MemoryDbException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -20,13 +22,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;;
+import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.fail;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -77,8 +81,12 @@ public class DeleteHandlerTest extends AbstractTestBase {
             fail("Expected to receive InvalidACLStateException");
         } catch (Exception e) {
             sdkClient.serviceName();
-            assertThat(CfnGeneralServiceException.class.equals(e.getClass()));
+            assertThat(e).isInstanceOf(CfnGeneralServiceException.class);
+            assertThat(e.getMessage()).contains(String.format(DeleteHandler.MESSAGE_FORMAT_ACL_ASSOCIATED, ACL_NAME, "test-clusters"));
         }
+
+        verify(sdkClient).describeACLs(any(DescribeAcLsRequest.class));
+        verify(sdkClient, never()).deleteACL(any(DeleteAclRequest.class));
     }
 
     @Test
@@ -121,14 +129,52 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+
+        // one describe before the delete, then one per stabilization poll
+        verify(sdkClient, times(3)).describeACLs(any(DescribeAcLsRequest.class));
+        verify(sdkClient).deleteACL(any(DeleteAclRequest.class));
+    }
+
+    @Test
+    public void handleRequest_RetriesThrottledPoll() {
+        when(sdkClient.deleteACL(any(DeleteAclRequest.class))).thenReturn(DeleteAclResponse.builder().build());
+
+        final DescribeAcLsResponse describeAcl =
+            DescribeAcLsResponse.builder().acLs(buildDefaultAcl(ACTIVE, false, null)).build();
+
+        AtomicInteger attempt = new AtomicInteger(3);
+        when(sdkClient.describeACLs(any(DescribeAcLsRequest.class))).then((m) -> {
+            switch (attempt.getAndDecrement()) {
+                case 3:
+                    return describeAcl;
+                case 2:
+                    throw MemoryDbException.builder().statusCode(400)
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build()).build();
+                default:
+                    throw AclNotFoundException.builder().build();
+            }
+        });
+
+        final DeleteHandler handler = new DeleteHandler();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(buildDefaultResourceModel())
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
+            new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getErrorCode()).isNull();
+
+        verify(sdkClient, times(3)).describeACLs(any(DescribeAcLsRequest.class));
+        verify(sdkClient).deleteACL(any(DeleteAclRequest.class));
     }
 
     @Test
     public void handleRequest_AlreadyDeleted() {
         doThrow(AclNotFoundException.class)
             .when(proxyClient.client()).describeACLs(any(DescribeAcLsRequest.class));
-        doThrow(AclNotFoundException.class)
-            .when(proxyClient.client()).deleteACL(any(DeleteAclRequest.class));
 
         final DeleteHandler handler = new DeleteHandler();
 
@@ -144,5 +190,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
         } catch (CfnNotFoundException e) {
             assertThat(e.getCause() instanceof AclNotFoundException).isTrue();
         }
+
+        verify(sdkClient, never()).deleteACL(any(DeleteAclRequest.class));
     }
 }
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -106,4 +107,55 @@ public class ReadHandlerTest extends AbstractTestBase {
             assertThat(e.getCause() instanceof AclNotFoundException).isTrue();
         }
     }
+
+    @Test
+    public void handleRequest_ListTagsWithDerivedArn() {
+        final ReadHandler handler = new ReadHandler();
+
+        final ResourceModel model = buildDefaultResourceModel();
+        final ArgumentCaptor<ListTagsRequest> captor = ArgumentCaptor.forClass(ListTagsRequest.class);
+        when(proxyClient.client().listTags(captor.capture())).thenReturn(ListTagsResponse.builder()
+                .tagList(software.amazon.awssdk.services.memorydb.model.Tag.builder().key("service").value("memorydb").build())
+                .build());
+        when(sdkClient.describeACLs(any(DescribeAcLsRequest.class)))
+                .thenReturn(DescribeAcLsResponse.builder().acLs(buildDefaultAcl()).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .awsAccountId("123456789012")
+                .region("us-east-1")
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getTags()).hasSize(1);
+        assertThat(captor.getValue().resourceArn())
+                .isEqualTo("arn:aws:memorydb:us-east-1:123456789012:acl/" + model.getACLName());
+        verify(sdkClient).describeACLs(any(DescribeAcLsRequest.class));
+        verify(proxyClient.client()).listTags(any(ListTagsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_UntaggedAclHasNoTags() {
+        final ReadHandler handler = new ReadHandler();
+
+        final ResourceModel model = buildDefaultResourceModel();
+        when(proxyClient.client().listTags(any(ListTagsRequest.class))).thenReturn(ListTagsResponse.builder().build());
+        when(sdkClient.describeACLs(any(DescribeAcLsRequest.class)))
+                .thenReturn(DescribeAcLsResponse.builder().acLs(buildDefaultAcl()).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .awsAccountId("123456789012")
+                .region("us-east-1")
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getTags()).isNull();
+        verify(sdkClient).describeACLs(any(DescribeAcLsRequest.class));
+        verify(proxyClient.client()).listTags(any(ListTagsRequest.class));
+    }
 }
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.mockito.ArgumentCaptor;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.AclNotFoundException;
@@ -38,6 +39,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -89,8 +92,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
             }
         });
 
+        // the acl does not have the desired user yet
         final DescribeAcLsResponse describeInProgressAclResponse =
-            DescribeAcLsResponse.builder().acLs(buildDefaultAcl(MODIFYING, true, ImmutableList.of("test"))).build();
+            DescribeAcLsResponse.builder().acLs(buildDefaultAcl(MODIFYING, true, ImmutableList.of())).build();
         final DescribeAcLsResponse describeUpdatedAclResponse =
             DescribeAcLsResponse.builder().acLs(buildDefaultAcl(ACTIVE, true, ImmutableList.of("test"))).build();
         AtomicInteger attempt = new AtomicInteger(2);
@@ -181,10 +185,24 @@ public class UpdateHandlerTest extends AbstractTestBase {
             ListTagsResponse.builder().tagList(Translator.translateTagsToSdk(TAG_SET)).build();
         when(sdkClient.listTags(any(ListTagsRequest.class))).thenReturn(listTagsResponse);
 
+        List<String> userIdsToAdd = target.stream()
+            .distinct()
+            .filter(((Predicate<String>) current::contains).negate())
+            .collect(Collectors.toList());
+
+        List<String> userIdsToRemove = current.stream()
+            .distinct()
+            .filter(((Predicate<String>) target::contains).negate())
+            .collect(Collectors.toList());
+
+        final boolean membershipChanged = !userIdsToAdd.isEmpty() || !userIdsToRemove.isEmpty();
+
         final ArgumentCaptor<UpdateAclRequest> updateAclCapture = ArgumentCaptor.forClass(UpdateAclRequest.class);
 
-        final UpdateAclResponse updateAclResponse = UpdateAclResponse.builder().build();
-        when(sdkClient.updateACL(any(UpdateAclRequest.class))).thenReturn(updateAclResponse);
+        if (membershipChanged) {
+            final UpdateAclResponse updateAclResponse = UpdateAclResponse.builder().build();
+            when(sdkClient.updateACL(any(UpdateAclRequest.class))).thenReturn(updateAclResponse);
+        }
 
         final DescribeAcLsResponse describeAclBefore =
             DescribeAcLsResponse.builder().acLs(buildDefaultAcl(ACTIVE, false, current)).build();
@@ -194,7 +212,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
         final DescribeAcLsResponse describeModifiedUserResponse =
             DescribeAcLsResponse.builder().acLs(buildDefaultAcl(ACTIVE, false, target)).build();
 
-        AtomicInteger attempt = new AtomicInteger(3);
+        // without a membership change there is no update to wait for
+        AtomicInteger attempt = new AtomicInteger(membershipChanged ? 3 : 1);
         when(sdkClient.describeACLs(any(DescribeAcLsRequest.class))).then((m) -> {
             switch (attempt.getAndDecrement()) {
                 case 3:
@@ -229,20 +248,49 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        List<String> userIdsToAdd = target.stream()
-            .distinct()
-            .filter(((Predicate<String>) current::contains).negate())
-            .collect(Collectors.toList());
-
-        List<String> userIdsToRemove = current.stream()
-            .distinct()
-            .filter(((Predicate<String>) target::contains).negate())
-            .collect(Collectors.toList());
-
+        if (!membershipChanged) {
+            verify(sdkClient, never()).updateACL(any(UpdateAclRequest.class));
+            return;
+        }
         verify(sdkClient).updateACL(updateAclCapture.capture());
         UpdateAclRequest convertedRequest = updateAclCapture.getValue();
-        assertThat(userIdsToAdd.equals(convertedRequest.userNamesToAdd()));
-        assertThat(userIdsToRemove.equals(convertedRequest.userNamesToRemove()));
+        assertThat(convertedRequest.userNamesToAdd()).containsExactlyElementsOf(userIdsToAdd);
+        assertThat(convertedRequest.userNamesToRemove()).containsExactlyElementsOf(userIdsToRemove);
+    }
+
+    @Test
+    public void handleRequest_LargeMembershipChangeIsBatched() {
+        final List<String> current = IntStream.range(0, 120).mapToObj(i -> "old-user-" + i).collect(Collectors.toList());
+        final List<String> target = IntStream.range(0, 150).mapToObj(i -> "new-user-" + i).collect(Collectors.toList());
+
+        when(sdkClient.listTags(any(ListTagsRequest.class)))
+            .thenReturn(ListTagsResponse.builder().tagList(Translator.translateTagsToSdk(TAG_SET)).build());
+        when(sdkClient.updateACL(any(UpdateAclRequest.class))).thenReturn(UpdateAclResponse.builder().build());
+        when(sdkClient.describeACLs(any(DescribeAcLsRequest.class)))
+            .thenReturn(DescribeAcLsResponse.builder().acLs(buildDefaultAcl(ACTIVE, false, current)).build())
+            .thenReturn(DescribeAcLsResponse.builder().acLs(buildDefaultAcl(ACTIVE, false, target)).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(buildDefaultResourceModel(current))
+            .desiredResourceState(buildDefaultResourceModel(target))
+            .previousResourceTags(Translator.translateTags(TAG_SET))
+            .desiredResourceTags(Translator.translateTags(TAG_SET))
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new UpdateHandler()
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ArgumentCaptor<UpdateAclRequest> updateAclCapture = ArgumentCaptor.forClass(UpdateAclRequest.class);
+        verify(sdkClient, times(2)).updateACL(updateAclCapture.capture());
+        final List<UpdateAclRequest> batches = updateAclCapture.getAllValues();
+        assertThat(batches.get(0).userNamesToAdd()).hasSize(100);
+        assertThat(batches.get(0).userNamesToRemove()).hasSize(100);
+        assertThat(batches.get(1).userNamesToAdd()).hasSize(50);
+        assertThat(batches.get(1).userNamesToRemove()).hasSize(20);
+        assertThat(batches.stream().flatMap(batch -> batch.userNamesToAdd().stream())).containsExactlyInAnyOrderElementsOf(target);
+        assertThat(batches.stream().flatMap(batch -> batch.userNamesToRemove().stream())).containsExactlyInAnyOrderElementsOf(current);
     }
 
     @Test
@@ -267,8 +315,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
             }
         });
 
+        // the acl does not have the desired user yet
         final DescribeAcLsResponse describeInProgressAclResponse =
-            DescribeAcLsResponse.builder().acLs(buildDefaultAcl(MODIFYING, true, ImmutableList.of("test"))).build();
+            DescribeAcLsResponse.builder().acLs(buildDefaultAcl(MODIFYING, true, ImmutableList.of())).build();
         final DescribeAcLsResponse describeUpdatedAclResponse =
             DescribeAcLsResponse.builder().acLs(buildDefaultAcl(ACTIVE, true, ImmutableList.of("test"))).build();
         AtomicInteger attempt = new AtomicInteger(2);
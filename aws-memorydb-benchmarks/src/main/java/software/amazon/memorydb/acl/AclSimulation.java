@@ -0,0 +1,61 @@
+package software.amazon.memorydb.acl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import software.amazon.awssdk.services.memorydb.model.AuthenticationMode;
+import software.amazon.awssdk.services.memorydb.model.CreateUserRequest;
+import software.amazon.awssdk.services.memorydb.model.DeleteUserRequest;
+import software.amazon.awssdk.services.memorydb.model.InputAuthenticationType;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.memorydb.simulator.HandlerDriver;
+import software.amazon.memorydb.simulator.HandlerRun;
+
+/**
+ * Runs the ACL handlers through a full lifecycle against the simulator: create, read, adding a user, list and delete.
+ * The added user is created and deleted directly on the simulator, outside of the measured runs.
+ * Lives in the handler package to reach the handlers' proxy client entry point.
+ */
+public final class AclSimulation {
+
+    private AclSimulation() {
+    }
+
+    public static List<HandlerRun<ResourceModel>> lifecycle(final HandlerDriver driver, final String aclName) {
+        final String userName = aclName + "-user";
+        driver.getSimulator().createUser(CreateUserRequest.builder()
+                .userName(userName)
+                .accessString("on ~* &* +@read")
+                .authenticationMode(AuthenticationMode.builder().type(InputAuthenticationType.PASSWORD)
+                        .passwords("simulation-password-0001").build())
+                .build());
+
+        final Map<String, String> tags = Collections.singletonMap("stage", "simulation");
+        final ResourceModel created = ResourceModel.builder().aCLName(aclName).userNames(Collections.singletonList("default")).build();
+        final ResourceModel updated = ResourceModel.builder().aCLName(aclName).userNames(Arrays.asList("default", userName)).build();
+
+        final List<HandlerRun<ResourceModel>> runs = new ArrayList<>();
+        runs.add(run(driver, "ACL::Create", new CreateHandler(),
+                driver.<ResourceModel>request().desiredResourceState(created).desiredResourceTags(tags).build()));
+        runs.add(run(driver, "ACL::Read", new ReadHandler(),
+                driver.<ResourceModel>request().desiredResourceState(created).build()));
+        runs.add(run(driver, "ACL::Update", new UpdateHandler(),
+                driver.<ResourceModel>request().desiredResourceState(updated).previousResourceState(created)
+                        .desiredResourceTags(tags).previousResourceTags(tags).build()));
+        runs.add(run(driver, "ACL::List", new ListHandler(),
+                driver.<ResourceModel>request().desiredResourceState(ResourceModel.builder().build()).build()));
+        runs.add(run(driver, "ACL::Delete", new DeleteHandler(),
+                driver.<ResourceModel>request().desiredResourceState(updated).build()));
+
+        driver.getSimulator().deleteUser(DeleteUserRequest.builder().userName(userName).build());
+        return runs;
+    }
+
+    private static HandlerRun<ResourceModel> run(final HandlerDriver driver, final String operation, final BaseHandlerStd handler,
+                                                 final ResourceHandlerRequest<ResourceModel> request) {
+        return driver.<ResourceModel, CallbackContext>run(operation, handler::handleRequest, request, CallbackContext::new);
+    }
+}
@@ -0,0 +1,110 @@
+package software.amazon.memorydb.acl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.memorydb.model.ACL;
+import software.amazon.awssdk.services.memorydb.model.CreateAclRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeAcLsResponse;
+import software.amazon.memorydb.benchmark.SyntheticData;
+
+/**
+ * Translation of DescribeACLs responses carrying large user lists, and of ACL tags.
+ * Lives in the handler package to reach the package-private {@link Translator}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AclTranslatorBenchmark {
+
+    @Param({"10", "1000", "5000"})
+    private int users;
+
+    @Param({"50"})
+    private int tagCount;
+
+    private DescribeAcLsResponse readResponse;
+    private DescribeAcLsResponse listResponse;
+    private ResourceModel model;
+    private Map<String, String> tagMap;
+    private Set<Tag> modelTags;
+    private List<software.amazon.awssdk.services.memorydb.model.Tag> sdkTags;
+
+    @Setup
+    public void setup() {
+        readResponse = DescribeAcLsResponse.builder().acLs(acl("benchmark-acl", users)).build();
+        final List<ACL> acls = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            acls.add(acl("benchmark-acl-" + i, users));
+        }
+        listResponse = DescribeAcLsResponse.builder().acLs(acls).build();
+        tagMap = SyntheticData.tags(tagCount);
+        modelTags = Translator.translateTags(tagMap);
+        sdkTags = tagMap.entrySet().stream()
+                .map(entry -> software.amazon.awssdk.services.memorydb.model.Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+                .collect(Collectors.toList());
+        model = Translator.translateFromReadResponse(readResponse);
+        model.setTags(modelTags);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return Translator.translateFromReadResponse(readResponse);
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateFromListRequest() {
+        return Translator.translateFromListRequest(listResponse);
+    }
+
+    @Benchmark
+    public CreateAclRequest translateToCreateRequest() {
+        return Translator.translateToCreateRequest(model);
+    }
+
+    @Benchmark
+    public Set<Tag> translateTagsFromSdk() {
+        return Translator.translateTags(sdkTags);
+    }
+
+    @Benchmark
+    public Set<Tag> translateTagsFromMap() {
+        return Translator.translateTags(tagMap);
+    }
+
+    @Benchmark
+    public Map<String, String> translateTagsToMap() {
+        return Translator.translateTags(modelTags);
+    }
+
+    private static ACL acl(final String name, final int userCount) {
+        final List<String> userNames = new ArrayList<>();
+        for (int i = 0; i < userCount; i++) {
+            userNames.add(String.format("benchmark-user-%05d", i));
+        }
+        return ACL.builder()
+                .name(name)
+                .arn(SyntheticData.arn("acl", name))
+                .status("active")
+                .userNames(userNames)
+                .build();
+    }
+}
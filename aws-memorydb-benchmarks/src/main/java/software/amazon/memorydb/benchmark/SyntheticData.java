@@ -0,0 +1,35 @@
+package software.amazon.memorydb.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Helpers shared by the translator benchmarks to build synthetic service responses.
+ */
+public final class SyntheticData {
+
+    private SyntheticData() {
+    }
+
+    public static String arn(final String resourceType, final String name) {
+        return String.format("arn:aws:memorydb:us-east-1:123456789012:%s/%s", resourceType, name);
+    }
+
+    public static Map<String, String> tags(final int count) {
+        final Map<String, String> tags = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            tags.put("tag-key-" + i, "tag-value-" + i);
+        }
+        return tags;
+    }
+
+    /**
+     * Slot range of the given shard when the key space is split evenly across {@code shardCount} shards.
+     */
+    public static String slots(final int shard, final int shardCount) {
+        final int totalSlots = 16384;
+        final int first = shard * totalSlots / shardCount;
+        final int last = (shard + 1) * totalSlots / shardCount - 1;
+        return first + "-" + last;
+    }
+}
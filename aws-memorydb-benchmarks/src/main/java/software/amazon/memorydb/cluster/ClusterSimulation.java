@@ -0,0 +1,60 @@
+package software.amazon.memorydb.cluster;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.memorydb.simulator.HandlerDriver;
+import software.amazon.memorydb.simulator.HandlerRun;
+
+/**
+ * Runs the cluster handlers through a full lifecycle against the simulator: create, read, a description and replica
+ * update, resharding, list and delete. Lives in the handler package to reach the handlers' proxy client entry point.
+ */
+public final class ClusterSimulation {
+
+    private ClusterSimulation() {
+    }
+
+    public static List<HandlerRun<ResourceModel>> lifecycle(final HandlerDriver driver, final String clusterName) {
+        final Map<String, String> tags = Collections.singletonMap("stage", "simulation");
+        final ResourceModel created = model(clusterName, null, 2, 1);
+        final ResourceModel scaled = model(clusterName, "scaled replicas", 2, 2);
+        final ResourceModel resharded = model(clusterName, "scaled replicas", 3, 2);
+
+        final List<HandlerRun<ResourceModel>> runs = new ArrayList<>();
+        runs.add(run(driver, "Cluster::Create", new CreateHandler(),
+                driver.<ResourceModel>request().desiredResourceState(created).desiredResourceTags(tags).build()));
+        runs.add(run(driver, "Cluster::Read", new ReadHandler(),
+                driver.<ResourceModel>request().desiredResourceState(created).build()));
+        runs.add(run(driver, "Cluster::Update(replicas)", new UpdateHandler(),
+                driver.<ResourceModel>request().desiredResourceState(scaled).previousResourceState(created)
+                        .desiredResourceTags(tags).previousResourceTags(tags).build()));
+        runs.add(run(driver, "Cluster::Update(shards)", new UpdateHandler(),
+                driver.<ResourceModel>request().desiredResourceState(resharded).previousResourceState(scaled)
+                        .desiredResourceTags(tags).previousResourceTags(tags).build()));
+        runs.add(run(driver, "Cluster::List", new ListHandler(),
+                driver.<ResourceModel>request().desiredResourceState(ResourceModel.builder().build()).build()));
+        runs.add(run(driver, "Cluster::Delete", new DeleteHandler(),
+                driver.<ResourceModel>request().desiredResourceState(resharded).build()));
+        return runs;
+    }
+
+    private static ResourceModel model(final String clusterName, final String description, final int shards, final int replicas) {
+        return ResourceModel.builder()
+                .clusterName(clusterName)
+                .description(description)
+                .nodeType("db.r6g.large")
+                .aCLName("open-access")
+                .numShards(shards)
+                .numReplicasPerShard(replicas)
+                .build();
+    }
+
+    private static HandlerRun<ResourceModel> run(final HandlerDriver driver, final String operation, final BaseHandlerStd handler,
+                                                 final ResourceHandlerRequest<ResourceModel> request) {
+        return driver.<ResourceModel, CallbackContext>run(operation, handler::handleRequest, request, CallbackContext::new);
+    }
+}
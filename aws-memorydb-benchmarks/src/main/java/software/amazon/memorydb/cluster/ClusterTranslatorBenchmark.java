@@ -0,0 +1,131 @@
+package software.amazon.memorydb.cluster;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.memorydb.model.Cluster;
+import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.memorydb.model.Node;
+import software.amazon.awssdk.services.memorydb.model.SecurityGroupMembership;
+import software.amazon.awssdk.services.memorydb.model.Shard;
+import software.amazon.memorydb.benchmark.SyntheticData;
+
+/**
+ * Translation of DescribeClusters responses and tags, which runs on every Read, List and stabilization callback.
+ * Lives in the handler package to reach the package-private {@link Translator}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClusterTranslatorBenchmark {
+
+    @Param({"1", "100", "500"})
+    private int shards;
+
+    @Param({"5"})
+    private int replicasPerShard;
+
+    @Param({"50"})
+    private int tagCount;
+
+    private Cluster cluster;
+    private DescribeClustersResponse listResponse;
+    private Map<String, String> tagMap;
+    private Set<Tag> modelTags;
+    private List<software.amazon.awssdk.services.memorydb.model.Tag> sdkTags;
+
+    @Setup
+    public void setup() {
+        cluster = cluster("benchmark-cluster", shards, replicasPerShard);
+        final List<Cluster> clusters = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            clusters.add(cluster("benchmark-cluster-" + i, shards, replicasPerShard));
+        }
+        listResponse = DescribeClustersResponse.builder().clusters(clusters).build();
+        tagMap = SyntheticData.tags(tagCount);
+        modelTags = Translator.mapToTags(tagMap);
+        sdkTags = tagMap.entrySet().stream()
+                .map(entry -> software.amazon.awssdk.services.memorydb.model.Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return Translator.translateFromReadResponse(cluster);
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateFromListResponse() {
+        return Translator.translateFromListResponse(listResponse);
+    }
+
+    @Benchmark
+    public Set<software.amazon.awssdk.services.memorydb.model.Tag> translateTagsToSdk() {
+        return Translator.translateTagsToSdk(modelTags);
+    }
+
+    @Benchmark
+    public Set<software.amazon.awssdk.services.memorydb.model.Tag> translateTagMapToSdk() {
+        return Translator.translateTagsToSdk(tagMap);
+    }
+
+    @Benchmark
+    public Set<Tag> mapToTags() {
+        return Translator.mapToTags(tagMap);
+    }
+
+    @Benchmark
+    public Set<Tag> translateTagsFromSdk() {
+        return Translator.translateTagsFromSdk(sdkTags);
+    }
+
+    private static Cluster cluster(final String name, final int shardCount, final int replicas) {
+        final List<Shard> shardList = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            final List<Node> nodes = new ArrayList<>();
+            for (int node = 0; node <= replicas; node++) {
+                nodes.add(Node.builder().name(String.format("%s-%04d-%03d", name, shard, node)).status("available")
+                        .availabilityZone("us-east-1" + (char) ('a' + node % 3)).build());
+            }
+            shardList.add(Shard.builder().name(String.format("%04d", shard)).status("available")
+                    .slots(SyntheticData.slots(shard, shardCount)).nodes(nodes).numberOfNodes(nodes.size()).build());
+        }
+        return Cluster.builder()
+                .name(name)
+                .arn(SyntheticData.arn("cluster", name))
+                .description("benchmark cluster")
+                .status("available")
+                .nodeType("db.r6g.large")
+                .numberOfShards(shardCount)
+                .shards(shardList)
+                .subnetGroupName("benchmark-subnet-group")
+                .securityGroups(SecurityGroupMembership.builder().securityGroupId("sg-00000001").status("active").build(),
+                        SecurityGroupMembership.builder().securityGroupId("sg-00000002").status("active").build())
+                .clusterEndpoint(software.amazon.awssdk.services.memorydb.model.Endpoint.builder()
+                        .address("clustercfg." + name + ".memorydb.us-east-1.amazonaws.com").port(6379).build())
+                .tlsEnabled(true)
+                .engineVersion("6.2")
+                .parameterGroupName("default.memorydb-redis6")
+                .parameterGroupStatus("in-sync")
+                .aclName("open-access")
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package software.amazon.memorydb.common;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.cloudformation.LambdaWrapper;
+
+/**
+ * Cost of getting a client on each handler invocation: from the {@link CachedClientBuilder} cache, as warm containers
+ * do, against building a new client every time. Both share the wrapper's HTTP client, as the handlers do, so the
+ * difference is the SDK client setup alone.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClientBuilderBenchmark {
+
+    private static final Region REGION = Region.US_EAST_1;
+
+    @Benchmark
+    public MemoryDbClient cachedClient() {
+        return CachedClientBuilder.getClient(REGION, null);
+    }
+
+    @Benchmark
+    public MemoryDbClient uncachedClient() {
+        final MemoryDbClient client = DescribeRateLimiter.of().build().limit(MemoryDbClient.builder()
+                .httpClient(LambdaWrapper.HTTP_CLIENT)
+                .region(REGION)
+                .build());
+        // the shared HTTP client is left open, only the resources of the SDK client are released
+        client.close();
+        return client;
+    }
+}
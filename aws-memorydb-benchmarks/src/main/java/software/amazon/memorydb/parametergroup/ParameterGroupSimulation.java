@@ -0,0 +1,54 @@
+package software.amazon.memorydb.parametergroup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.memorydb.simulator.HandlerDriver;
+import software.amazon.memorydb.simulator.HandlerRun;
+
+/**
+ * Runs the parameter group handlers through a full lifecycle against the simulator: create, read, a parameter update,
+ * list and delete. Lives in the handler package to reach the handlers' proxy client entry point.
+ */
+public final class ParameterGroupSimulation {
+
+    private ParameterGroupSimulation() {
+    }
+
+    public static List<HandlerRun<ResourceModel>> lifecycle(final HandlerDriver driver, final String parameterGroupName) {
+        final Map<String, String> tags = Collections.singletonMap("stage", "simulation");
+        final ResourceModel created = model(parameterGroupName, null);
+        final ResourceModel updated = model(parameterGroupName, Collections.<String, Object>singletonMap("maxmemory-policy", "allkeys-lru"));
+
+        final List<HandlerRun<ResourceModel>> runs = new ArrayList<>();
+        runs.add(run(driver, "ParameterGroup::Create", new CreateHandler(),
+                driver.<ResourceModel>request().desiredResourceState(created).desiredResourceTags(tags).build()));
+        runs.add(run(driver, "ParameterGroup::Read", new ReadHandler(),
+                driver.<ResourceModel>request().desiredResourceState(created).build()));
+        runs.add(run(driver, "ParameterGroup::Update", new UpdateHandler(),
+                driver.<ResourceModel>request().desiredResourceState(updated).previousResourceState(created)
+                        .desiredResourceTags(tags).previousResourceTags(tags).build()));
+        runs.add(run(driver, "ParameterGroup::List", new ListHandler(),
+                driver.<ResourceModel>request().desiredResourceState(ResourceModel.builder().build()).build()));
+        runs.add(run(driver, "ParameterGroup::Delete", new DeleteHandler(),
+                driver.<ResourceModel>request().desiredResourceState(updated).build()));
+        return runs;
+    }
+
+    private static ResourceModel model(final String parameterGroupName, final Map<String, Object> parameters) {
+        return ResourceModel.builder()
+                .parameterGroupName(parameterGroupName)
+                .family("memorydb_redis6")
+                .description("simulation parameter group")
+                .parameters(parameters)
+                .build();
+    }
+
+    private static HandlerRun<ResourceModel> run(final HandlerDriver driver, final String operation, final BaseHandlerStd handler,
+                                                 final ResourceHandlerRequest<ResourceModel> request) {
+        return driver.<ResourceModel, CallbackContext>run(operation, handler::handleRequest, request, CallbackContext::new);
+    }
+}
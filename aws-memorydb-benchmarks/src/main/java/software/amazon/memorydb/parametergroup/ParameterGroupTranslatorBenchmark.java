@@ -0,0 +1,88 @@
+package software.amazon.memorydb.parametergroup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsResponse;
+import software.amazon.awssdk.services.memorydb.model.ParameterGroup;
+import software.amazon.memorydb.benchmark.SyntheticData;
+
+/**
+ * Translation of DescribeParameterGroups pages and of parameter group tags.
+ * Lives in the handler package to reach the package-private {@link Translator}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParameterGroupTranslatorBenchmark {
+
+    @Param({"1", "100"})
+    private int parameterGroups;
+
+    @Param({"50"})
+    private int tagCount;
+
+    private DescribeParameterGroupsResponse listResponse;
+    private Map<String, String> tagMap;
+    private Set<Tag> modelTags;
+    private List<software.amazon.awssdk.services.memorydb.model.Tag> sdkTags;
+
+    @Setup
+    public void setup() {
+        final List<ParameterGroup> groups = new ArrayList<>();
+        for (int i = 0; i < parameterGroups; i++) {
+            final String name = "benchmark-parameter-group-" + i;
+            groups.add(ParameterGroup.builder().name(name).arn(SyntheticData.arn("parametergroup", name))
+                    .family("memorydb_redis6").description("benchmark parameter group").build());
+        }
+        listResponse = DescribeParameterGroupsResponse.builder().parameterGroups(groups).build();
+        tagMap = SyntheticData.tags(tagCount);
+        modelTags = Translator.mapToTags(tagMap);
+        sdkTags = tagMap.entrySet().stream()
+                .map(entry -> software.amazon.awssdk.services.memorydb.model.Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateFromListResponse() {
+        return Translator.translateFromListResponse(listResponse);
+    }
+
+    @Benchmark
+    public Set<software.amazon.awssdk.services.memorydb.model.Tag> translateTagsToSdk() {
+        return Translator.translateTagsToSdk(modelTags);
+    }
+
+    @Benchmark
+    public Set<software.amazon.awssdk.services.memorydb.model.Tag> translateTagMapToSdk() {
+        return Translator.translateTagsToSdk(tagMap);
+    }
+
+    @Benchmark
+    public Set<Tag> mapToTags() {
+        return Translator.mapToTags(tagMap);
+    }
+
+    @Benchmark
+    public Set<Tag> translateTagsFromSdk() {
+        return Translator.translateTagsFromSdk(sdkTags);
+    }
+}
@@ -0,0 +1,52 @@
+package software.amazon.memorydb.simulator;
+
+import java.util.Arrays;
+import java.util.List;
+
+import software.amazon.awssdk.services.memorydb.model.Parameter;
+
+/**
+ * A representative subset of the engine parameters of the default parameter groups.
+ */
+final class DefaultParameters {
+
+    private static final List<Parameter> REDIS6 = Arrays.asList(
+            parameter("activedefrag", "no", "boolean", "yes,no"),
+            parameter("active-defrag-cycle-max", "75", "integer", "1-75"),
+            parameter("active-defrag-cycle-min", "5", "integer", "1-75"),
+            parameter("active-defrag-ignore-bytes", "104857600", "integer", "1048576-"),
+            parameter("active-defrag-threshold-lower", "10", "integer", "1-100"),
+            parameter("active-defrag-threshold-upper", "100", "integer", "1-100"),
+            parameter("hash-max-ziplist-entries", "512", "integer", "0-"),
+            parameter("hash-max-ziplist-value", "64", "integer", "0-"),
+            parameter("lazyfree-lazy-eviction", "no", "boolean", "yes,no"),
+            parameter("lazyfree-lazy-expire", "no", "boolean", "yes,no"),
+            parameter("lazyfree-lazy-server-del", "no", "boolean", "yes,no"),
+            parameter("lfu-decay-time", "1", "integer", "0-"),
+            parameter("lfu-log-factor", "10", "integer", "1-"),
+            parameter("maxmemory-policy", "noeviction", "string",
+                    "volatile-lru,allkeys-lru,volatile-lfu,allkeys-lfu,volatile-random,allkeys-random,volatile-ttl,noeviction"),
+            parameter("maxmemory-samples", "3", "integer", "1-"),
+            parameter("notify-keyspace-events", "", "string", null),
+            parameter("set-max-intset-entries", "512", "integer", "0-"),
+            parameter("slowlog-log-slower-than", "10000", "integer", "0-"),
+            parameter("slowlog-max-len", "128", "integer", "0-"),
+            parameter("stream-node-max-bytes", "4096", "integer", "0-"),
+            parameter("stream-node-max-entries", "100", "integer", "0-"),
+            parameter("tcp-keepalive", "300", "integer", "0-"),
+            parameter("timeout", "0", "integer", "0,20-"),
+            parameter("zset-max-ziplist-entries", "128", "integer", "0-"),
+            parameter("zset-max-ziplist-value", "64", "integer", "0-"));
+
+    private DefaultParameters() {
+    }
+
+    static List<Parameter> of(final String family) {
+        return REDIS6;
+    }
+
+    private static Parameter parameter(final String name, final String value, final String dataType, final String allowedValues) {
+        return Parameter.builder().name(name).value(value).dataType(dataType).allowedValues(allowedValues)
+                .description(name).minimumEngineVersion("6.2.4").build();
+    }
+}
@@ -0,0 +1,128 @@
+package software.amazon.memorydb.simulator;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * Drives a handler against the {@link MemoryDbSimulator} the way CloudFormation does: the handler is invoked again
+ * with the returned callback context until it stops returning IN_PROGRESS, and callback delays are spent on the
+ * simulated clock.
+ *
+ * The proxy reports no remaining invocation time, so stabilization waits are returned to the driver as callbacks
+ * rather than slept through inside an invocation.
+ */
+public class HandlerDriver {
+
+    /**
+     * Handler entry point taking the proxy client, i.e. {@code BaseHandlerStd.handleRequest} of any of the modules.
+     */
+    @FunctionalInterface
+    public interface Invocation<M, C> {
+        ProgressEvent<M, C> handleRequest(AmazonWebServicesClientProxy proxy,
+                                          ResourceHandlerRequest<M> request,
+                                          C callbackContext,
+                                          ProxyClient<MemoryDbClient> proxyClient,
+                                          Logger logger);
+    }
+
+    private static final Credentials CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+    private static final int MAX_INVOCATIONS = 10_000;
+
+    private final MemoryDbSimulator simulator;
+    private final Logger logger;
+
+    public HandlerDriver(final MemoryDbSimulator simulator) {
+        this(simulator, message -> { });
+    }
+
+    public HandlerDriver(final MemoryDbSimulator simulator, final Logger logger) {
+        this.simulator = simulator;
+        this.logger = logger;
+    }
+
+    public MemoryDbSimulator getSimulator() {
+        return simulator;
+    }
+
+    /**
+     * Fills in the account and region the simulator runs in.
+     */
+    public <M> ResourceHandlerRequest.ResourceHandlerRequestBuilder<M> request() {
+        return ResourceHandlerRequest.<M>builder()
+                .awsAccountId(MemoryDbSimulator.ACCOUNT_ID)
+                .region(MemoryDbSimulator.REGION)
+                .clientRequestToken(UUID.randomUUID().toString());
+    }
+
+    public <M, C> HandlerRun<M> run(final String operation,
+                                    final Invocation<M, C> handler,
+                                    final ResourceHandlerRequest<M> request,
+                                    final Supplier<C> newCallbackContext) {
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(logger, CREDENTIALS, () -> 0L);
+        final ProxyClient<MemoryDbClient> proxyClient = proxy.newProxy(() -> simulator);
+        final Map<String, Integer> callsBefore = simulator.getCallCounts();
+        final int throttledBefore = simulator.getThrottledCalls();
+        final long simulatedStart = simulator.getClock().millis();
+        final long wallStart = System.nanoTime();
+
+        C callbackContext = newCallbackContext.get();
+        ProgressEvent<M, C> event;
+        int invocations = 0;
+        do {
+            invocations++;
+            event = invoke(handler, proxy, request, callbackContext, proxyClient);
+            if (event.getCallbackContext() != null) {
+                callbackContext = event.getCallbackContext();
+            }
+            simulator.getClock().advance(Duration.ofSeconds(event.getCallbackDelaySeconds()));
+        } while (event.getStatus() == OperationStatus.IN_PROGRESS && invocations < MAX_INVOCATIONS);
+
+        final Map<String, Integer> calls = new TreeMap<>();
+        simulator.getCallCounts().forEach((name, count) -> {
+            final int delta = count - callsBefore.getOrDefault(name, 0);
+            if (delta > 0) {
+                calls.put(name, delta);
+            }
+        });
+        return HandlerRun.<M>builder()
+                .operation(operation)
+                .event(event)
+                .invocations(invocations)
+                .apiCalls(calls.values().stream().mapToInt(Integer::intValue).sum())
+                .apiCallsByOperation(calls)
+                .throttledCalls(simulator.getThrottledCalls() - throttledBefore)
+                .simulatedTime(Duration.ofMillis(simulator.getClock().millis() - simulatedStart))
+                .wallTime(Duration.ofNanos(System.nanoTime() - wallStart))
+                .build();
+    }
+
+    /**
+     * Handlers that throw are reported the way the wrapper reports them: as a failed event.
+     */
+    private <M, C> ProgressEvent<M, C> invoke(final Invocation<M, C> handler,
+                                              final AmazonWebServicesClientProxy proxy,
+                                              final ResourceHandlerRequest<M> request,
+                                              final C callbackContext,
+                                              final ProxyClient<MemoryDbClient> proxyClient) {
+        try {
+            return handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        } catch (final BaseHandlerException e) {
+            return ProgressEvent.failed(null, null, e.getErrorCode(), e.getMessage());
+        } catch (final RuntimeException e) {
+            return ProgressEvent.<M, C>builder().status(OperationStatus.FAILED).message(e.getMessage()).build();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package software.amazon.memorydb.simulator;
+
+import java.time.Duration;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Getter;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+/**
+ * Outcome of driving one handler operation to completion against the {@link MemoryDbSimulator}.
+ *
+ * @param <M> resource model type
+ */
+@Getter
+@Builder
+public class HandlerRun<M> {
+    private final String operation;
+    private final ProgressEvent<M, ?> event;
+    /**
+     * Number of handler invocations, the first one included.
+     */
+    private final int invocations;
+    private final int apiCalls;
+    private final Map<String, Integer> apiCallsByOperation;
+    private final int throttledCalls;
+    /**
+     * Service time the operation took: latencies and callback delays on the simulated clock.
+     */
+    private final Duration simulatedTime;
+    /**
+     * Time spent running the handler code.
+     */
+    private final Duration wallTime;
+
+    public OperationStatus getStatus() {
+        return event.getStatus();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-28s %-11s invocations=%-4d apiCalls=%-4d throttled=%-3d simulated=%-10s wall=%-8s %s",
+                operation, getStatus(), invocations, apiCalls, throttledCalls, simulatedTime, wallTime.toMillis() + "ms",
+                apiCallsByOperation);
+    }
+}
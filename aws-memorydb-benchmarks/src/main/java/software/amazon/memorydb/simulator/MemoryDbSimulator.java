@@ -0,0 +1,934 @@
+package software.amazon.memorydb.simulator;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.ACL;
+import software.amazon.awssdk.services.memorydb.model.AclAlreadyExistsException;
+import software.amazon.awssdk.services.memorydb.model.AclNotFoundException;
+import software.amazon.awssdk.services.memorydb.model.Authentication;
+import software.amazon.awssdk.services.memorydb.model.AuthenticationMode;
+import software.amazon.awssdk.services.memorydb.model.AuthenticationType;
+import software.amazon.awssdk.services.memorydb.model.AvailabilityZone;
+import software.amazon.awssdk.services.memorydb.model.Cluster;
+import software.amazon.awssdk.services.memorydb.model.ClusterAlreadyExistsException;
+import software.amazon.awssdk.services.memorydb.model.ClusterNotFoundException;
+import software.amazon.awssdk.services.memorydb.model.CreateAclRequest;
+import software.amazon.awssdk.services.memorydb.model.CreateAclResponse;
+import software.amazon.awssdk.services.memorydb.model.CreateClusterRequest;
+import software.amazon.awssdk.services.memorydb.model.CreateClusterResponse;
+import software.amazon.awssdk.services.memorydb.model.CreateParameterGroupRequest;
+import software.amazon.awssdk.services.memorydb.model.CreateParameterGroupResponse;
+import software.amazon.awssdk.services.memorydb.model.CreateSubnetGroupRequest;
+import software.amazon.awssdk.services.memorydb.model.CreateSubnetGroupResponse;
+import software.amazon.awssdk.services.memorydb.model.CreateUserRequest;
+import software.amazon.awssdk.services.memorydb.model.CreateUserResponse;
+import software.amazon.awssdk.services.memorydb.model.DeleteAclRequest;
+import software.amazon.awssdk.services.memorydb.model.DeleteAclResponse;
+import software.amazon.awssdk.services.memorydb.model.DeleteClusterRequest;
+import software.amazon.awssdk.services.memorydb.model.DeleteClusterResponse;
+import software.amazon.awssdk.services.memorydb.model.DeleteParameterGroupRequest;
+import software.amazon.awssdk.services.memorydb.model.DeleteParameterGroupResponse;
+import software.amazon.awssdk.services.memorydb.model.DeleteSubnetGroupRequest;
+import software.amazon.awssdk.services.memorydb.model.DeleteSubnetGroupResponse;
+import software.amazon.awssdk.services.memorydb.model.DeleteUserRequest;
+import software.amazon.awssdk.services.memorydb.model.DeleteUserResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeAcLsRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeAcLsResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeClustersRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeParametersRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeParametersResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeSubnetGroupsRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeSubnetGroupsResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeUsersRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeUsersResponse;
+import software.amazon.awssdk.services.memorydb.model.Endpoint;
+import software.amazon.awssdk.services.memorydb.model.InvalidAclStateException;
+import software.amazon.awssdk.services.memorydb.model.InvalidArnException;
+import software.amazon.awssdk.services.memorydb.model.InvalidClusterStateException;
+import software.amazon.awssdk.services.memorydb.model.InvalidParameterGroupStateException;
+import software.amazon.awssdk.services.memorydb.model.InvalidUserStateException;
+import software.amazon.awssdk.services.memorydb.model.ListTagsRequest;
+import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
+import software.amazon.awssdk.services.memorydb.model.MemoryDbException;
+import software.amazon.awssdk.services.memorydb.model.Node;
+import software.amazon.awssdk.services.memorydb.model.Parameter;
+import software.amazon.awssdk.services.memorydb.model.ParameterGroup;
+import software.amazon.awssdk.services.memorydb.model.ParameterGroupAlreadyExistsException;
+import software.amazon.awssdk.services.memorydb.model.ParameterGroupNotFoundException;
+import software.amazon.awssdk.services.memorydb.model.ParameterNameValue;
+import software.amazon.awssdk.services.memorydb.model.SecurityGroupMembership;
+import software.amazon.awssdk.services.memorydb.model.Shard;
+import software.amazon.awssdk.services.memorydb.model.Subnet;
+import software.amazon.awssdk.services.memorydb.model.SubnetGroup;
+import software.amazon.awssdk.services.memorydb.model.SubnetGroupAlreadyExistsException;
+import software.amazon.awssdk.services.memorydb.model.SubnetGroupInUseException;
+import software.amazon.awssdk.services.memorydb.model.SubnetGroupNotFoundException;
+import software.amazon.awssdk.services.memorydb.model.Tag;
+import software.amazon.awssdk.services.memorydb.model.TagResourceRequest;
+import software.amazon.awssdk.services.memorydb.model.TagResourceResponse;
+import software.amazon.awssdk.services.memorydb.model.UntagResourceRequest;
+import software.amazon.awssdk.services.memorydb.model.UntagResourceResponse;
+import software.amazon.awssdk.services.memorydb.model.UpdateAclRequest;
+import software.amazon.awssdk.services.memorydb.model.UpdateAclResponse;
+import software.amazon.awssdk.services.memorydb.model.UpdateClusterRequest;
+import software.amazon.awssdk.services.memorydb.model.UpdateClusterResponse;
+import software.amazon.awssdk.services.memorydb.model.UpdateParameterGroupRequest;
+import software.amazon.awssdk.services.memorydb.model.UpdateParameterGroupResponse;
+import software.amazon.awssdk.services.memorydb.model.UpdateSubnetGroupRequest;
+import software.amazon.awssdk.services.memorydb.model.UpdateSubnetGroupResponse;
+import software.amazon.awssdk.services.memorydb.model.UpdateUserRequest;
+import software.amazon.awssdk.services.memorydb.model.UpdateUserResponse;
+import software.amazon.awssdk.services.memorydb.model.User;
+import software.amazon.awssdk.services.memorydb.model.UserAlreadyExistsException;
+import software.amazon.awssdk.services.memorydb.model.UserNotFoundException;
+
+/**
+ * In-memory stand-in for the MemoryDB service, covering the operations used by the resource handlers.
+ *
+ * Clusters, ACLs and users go through the service's intermediate statuses ("creating", "updating", "modifying",
+ * "deleting") for a configurable time before settling; parameter groups and subnet groups change synchronously, and
+ * clusters report their parameter group as "applying" for a while after it is updated. Time is simulated by a
+ * {@link SimulatorClock} that each call advances by the configured latency. Calls can be throttled at random and
+ * failures can be queued per operation. Every call is counted by operation name, e.g. "DescribeClusters".
+ *
+ * An "open-access" ACL with the "default" user, a "default" subnet group and the default parameter groups of the
+ * memorydb_redis6 and memorydb_redis7 families exist from the start, as in a new account.
+ */
+public class MemoryDbSimulator implements MemoryDbClient {
+
+    static final String ACCOUNT_ID = "123456789012";
+    static final String REGION = "us-east-1";
+    static final int DEFAULT_MAX_RESULTS = 100;
+    private static final int TOTAL_SLOTS = 16384;
+    private static final String DEFAULT_SUBNET_GROUP = "default";
+    private static final String DEFAULT_ACL = "open-access";
+    private static final String DEFAULT_USER = "default";
+    private static final String DEFAULT_PARAMETER_GROUP_PREFIX = "default.";
+    private static final List<String> FAMILIES = Arrays.asList("memorydb_redis6", "memorydb_redis7");
+
+    private final SimulatorClock clock;
+    private final Duration defaultLatency;
+    private final Map<String, Duration> latencies;
+    private final Map<String, Duration> transitionTimes;
+    private final double throttleRate;
+    private final Random random;
+
+    private final Map<String, Deque<RuntimeException>> queuedFailures = new HashMap<>();
+    private final Map<String, AtomicInteger> calls = new TreeMap<>();
+    private final AtomicInteger throttledCalls = new AtomicInteger();
+
+    private final NavigableMap<String, SimulatedResource<Cluster>> clusters = new TreeMap<>();
+    private final NavigableMap<String, SimulatedResource<ACL>> acls = new TreeMap<>();
+    private final NavigableMap<String, SimulatedResource<User>> users = new TreeMap<>();
+    private final NavigableMap<String, ParameterGroup> parameterGroups = new TreeMap<>();
+    private final NavigableMap<String, SubnetGroup> subnetGroups = new TreeMap<>();
+    private final Map<String, Map<String, String>> parameterValues = new HashMap<>();
+    private final Map<String, Long> parameterGroupAppliedAt = new HashMap<>();
+    private final Map<String, Map<String, String>> tags = new HashMap<>();
+
+    private MemoryDbSimulator(final Builder builder) {
+        this.clock = builder.clock;
+        this.defaultLatency = builder.defaultLatency;
+        this.latencies = new HashMap<>(builder.latencies);
+        this.transitionTimes = new HashMap<>(builder.transitionTimes);
+        this.throttleRate = builder.throttleRate;
+        this.random = new Random(builder.seed);
+
+        users.put(DEFAULT_USER, new SimulatedResource<>(User.builder().name(DEFAULT_USER).status("active")
+                .accessString("on ~* &* +@all").aclNames(DEFAULT_ACL).arn(arn("user", DEFAULT_USER))
+                .authentication(Authentication.builder().type(AuthenticationType.NO_PASSWORD).build()).build()));
+        acls.put(DEFAULT_ACL, new SimulatedResource<>(ACL.builder().name(DEFAULT_ACL).status("active")
+                .userNames(DEFAULT_USER).arn(arn("acl", DEFAULT_ACL)).build()));
+        subnetGroups.put(DEFAULT_SUBNET_GROUP, subnetGroup(DEFAULT_SUBNET_GROUP, "Default subnet group",
+                Arrays.asList("subnet-00000001", "subnet-00000002", "subnet-00000003")));
+        for (final String family : FAMILIES) {
+            final String name = DEFAULT_PARAMETER_GROUP_PREFIX + family;
+            parameterGroups.put(name, ParameterGroup.builder().name(name).family(family)
+                    .description("Default parameter group for " + family).arn(arn("parametergroup", name)).build());
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public SimulatorClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Makes the next call to {@code operation}, e.g. "UpdateCluster", fail with {@code failure}. Failures queued for
+     * the same operation are raised in order.
+     */
+    public synchronized void failNext(final String operation, final RuntimeException failure) {
+        queuedFailures.computeIfAbsent(operation, key -> new ArrayDeque<>()).add(failure);
+    }
+
+    public synchronized Map<String, Integer> getCallCounts() {
+        final Map<String, Integer> counts = new LinkedHashMap<>();
+        calls.forEach((operation, count) -> counts.put(operation, count.get()));
+        return counts;
+    }
+
+    public synchronized int getTotalCalls() {
+        return calls.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    public int getThrottledCalls() {
+        return throttledCalls.get();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    // Clusters
+
+    @Override
+    public CreateClusterResponse createCluster(final CreateClusterRequest request) {
+        return call("CreateCluster", () -> {
+            if (exists(clusters, request.clusterName())) {
+                throw ClusterAlreadyExistsException.builder().message("Cluster " + request.clusterName() + " already exists").build();
+            }
+            final String subnetGroupName = request.subnetGroupName() != null ? request.subnetGroupName() : DEFAULT_SUBNET_GROUP;
+            if (!subnetGroups.containsKey(subnetGroupName)) {
+                throw SubnetGroupNotFoundException.builder().message("Subnet group " + subnetGroupName + " not found").build();
+            }
+            final String parameterGroupName = request.parameterGroupName() != null ? request.parameterGroupName()
+                    : DEFAULT_PARAMETER_GROUP_PREFIX + FAMILIES.get(0);
+            if (!parameterGroups.containsKey(parameterGroupName)) {
+                throw ParameterGroupNotFoundException.builder().message("Parameter group " + parameterGroupName + " not found").build();
+            }
+            if (!exists(acls, request.aclName())) {
+                throw AclNotFoundException.builder().message("ACL " + request.aclName() + " not found").build();
+            }
+
+            final int shardCount = request.numShards() != null ? request.numShards() : 1;
+            final int replicas = request.numReplicasPerShard() != null ? request.numReplicasPerShard() : 1;
+            final Cluster available = Cluster.builder()
+                    .name(request.clusterName())
+                    .description(request.description())
+                    .status("available")
+                    .nodeType(request.nodeType())
+                    .engineVersion(request.engineVersion() != null ? request.engineVersion() : "6.2")
+                    .numberOfShards(shardCount)
+                    .shards(shards(request.clusterName(), shardCount, replicas))
+                    .subnetGroupName(subnetGroupName)
+                    .securityGroups(request.securityGroupIds().stream()
+                            .map(id -> SecurityGroupMembership.builder().securityGroupId(id).status("active").build())
+                            .collect(Collectors.toList()))
+                    .clusterEndpoint(Endpoint.builder()
+                            .address(String.format("clustercfg.%s.memorydb.%s.amazonaws.com", request.clusterName(), REGION))
+                            .port(request.port() != null ? request.port() : 6379).build())
+                    .parameterGroupName(parameterGroupName)
+                    .parameterGroupStatus("in-sync")
+                    .tlsEnabled(request.tlsEnabled() != null ? request.tlsEnabled() : Boolean.TRUE)
+                    .kmsKeyId(request.kmsKeyId())
+                    .snsTopicArn(request.snsTopicArn())
+                    .snsTopicStatus(request.snsTopicArn() != null ? "ACTIVE" : null)
+                    .maintenanceWindow(request.maintenanceWindow() != null ? request.maintenanceWindow() : "sun:23:00-mon:01:30")
+                    .snapshotWindow(request.snapshotWindow() != null ? request.snapshotWindow() : "04:00-05:00")
+                    .snapshotRetentionLimit(request.snapshotRetentionLimit() != null ? request.snapshotRetentionLimit() : 0)
+                    .aclName(request.aclName())
+                    .autoMinorVersionUpgrade(request.autoMinorVersionUpgrade() != null ? request.autoMinorVersionUpgrade() : Boolean.TRUE)
+                    .arn(arn("cluster", request.clusterName()))
+                    .build();
+            final Cluster creating = available.toBuilder().status("creating").shards(Collections.emptyList()).build();
+            final SimulatedResource<Cluster> cluster = new SimulatedResource<>(creating);
+            cluster.transition(creating, available, settlesAt("cluster", "creating"));
+            clusters.put(request.clusterName(), cluster);
+            putTags(available.arn(), request.tags());
+            return CreateClusterResponse.builder().cluster(creating).build();
+        });
+    }
+
+    @Override
+    public DescribeClustersResponse describeClusters(final DescribeClustersRequest request) {
+        return call("DescribeClusters", () -> {
+            final boolean showShardDetails = Boolean.TRUE.equals(request.showShardDetails());
+            if (request.clusterName() != null) {
+                return DescribeClustersResponse.builder()
+                        .clusters(render(getCluster(request.clusterName()), showShardDetails)).build();
+            }
+            final Page<Cluster> page = page(clusters, request.nextToken(), request.maxResults());
+            return DescribeClustersResponse.builder()
+                    .clusters(page.items.stream().map(cluster -> render(cluster, showShardDetails)).collect(Collectors.toList()))
+                    .nextToken(page.nextToken)
+                    .build();
+        });
+    }
+
+    @Override
+    public UpdateClusterResponse updateCluster(final UpdateClusterRequest request) {
+        return call("UpdateCluster", () -> {
+            final Cluster current = getCluster(request.clusterName());
+            if (!"available".equals(current.status())) {
+                throw InvalidClusterStateException.builder()
+                        .message("Cluster " + request.clusterName() + " is " + current.status()).build();
+            }
+            if (request.parameterGroupName() != null && !parameterGroups.containsKey(request.parameterGroupName())) {
+                throw ParameterGroupNotFoundException.builder().message("Parameter group " + request.parameterGroupName() + " not found").build();
+            }
+            if (request.aclName() != null && !exists(acls, request.aclName())) {
+                throw AclNotFoundException.builder().message("ACL " + request.aclName() + " not found").build();
+            }
+
+            final Cluster.Builder updated = current.toBuilder();
+            if (request.description() != null) {
+                updated.description(request.description());
+            }
+            if (!request.securityGroupIds().isEmpty()) {
+                updated.securityGroups(request.securityGroupIds().stream()
+                        .map(id -> SecurityGroupMembership.builder().securityGroupId(id).status("active").build())
+                        .collect(Collectors.toList()));
+            }
+            if (request.maintenanceWindow() != null) {
+                updated.maintenanceWindow(request.maintenanceWindow());
+            }
+            if (request.snsTopicArn() != null) {
+                updated.snsTopicArn(request.snsTopicArn());
+            }
+            if (request.snsTopicStatus() != null) {
+                updated.snsTopicStatus(request.snsTopicStatus());
+            }
+            if (request.parameterGroupName() != null) {
+                updated.parameterGroupName(request.parameterGroupName());
+            }
+            if (request.snapshotWindow() != null) {
+                updated.snapshotWindow(request.snapshotWindow());
+            }
+            if (request.snapshotRetentionLimit() != null) {
+                updated.snapshotRetentionLimit(request.snapshotRetentionLimit());
+            }
+            if (request.nodeType() != null) {
+                updated.nodeType(request.nodeType());
+            }
+            if (request.engineVersion() != null) {
+                updated.engineVersion(request.engineVersion());
+            }
+            if (request.aclName() != null) {
+                updated.aclName(request.aclName());
+            }
+            String transition = "updating";
+            final int replicas = current.shards().stream().mapToInt(Shard::numberOfNodes).min().orElse(1) - 1;
+            if (request.shardConfiguration() != null && request.shardConfiguration().shardCount() != null) {
+                final int shardCount = request.shardConfiguration().shardCount();
+                updated.numberOfShards(shardCount).shards(shards(current.name(), shardCount, replicas));
+                transition = "resharding";
+            }
+            if (request.replicaConfiguration() != null && request.replicaConfiguration().replicaCount() != null) {
+                updated.shards(shards(current.name(), current.numberOfShards(), request.replicaConfiguration().replicaCount()));
+                transition = "scaling";
+            }
+
+            final Cluster updating = current.toBuilder().status("updating").build();
+            clusters.get(request.clusterName()).transition(updating, updated.build(), settlesAt("cluster", transition));
+            return UpdateClusterResponse.builder().cluster(render(updating, false)).build();
+        });
+    }
+
+    @Override
+    public DeleteClusterResponse deleteCluster(final DeleteClusterRequest request) {
+        return call("DeleteCluster", () -> {
+            final Cluster current = getCluster(request.clusterName());
+            if ("deleting".equals(current.status())) {
+                throw InvalidClusterStateException.builder().message("Cluster " + request.clusterName() + " is already being deleted").build();
+            }
+            final Cluster deleting = current.toBuilder().status("deleting").build();
+            clusters.get(request.clusterName()).transition(deleting, null, settlesAt("cluster", "deleting"));
+            tags.remove(current.arn());
+            return DeleteClusterResponse.builder().cluster(render(deleting, false)).build();
+        });
+    }
+
+    // ACLs
+
+    @Override
+    public CreateAclResponse createACL(final CreateAclRequest request) {
+        return call("CreateACL", () -> {
+            if (exists(acls, request.aclName())) {
+                throw AclAlreadyExistsException.builder().message("ACL " + request.aclName() + " already exists").build();
+            }
+            requireUsers(request.userNames());
+            final ACL active = ACL.builder().name(request.aclName()).status("active").userNames(request.userNames())
+                    .minimumEngineVersion("6.2").arn(arn("acl", request.aclName())).build();
+            final ACL creating = active.toBuilder().status("creating").build();
+            final SimulatedResource<ACL> acl = new SimulatedResource<>(creating);
+            acl.transition(creating, active, settlesAt("acl", "creating"));
+            acls.put(request.aclName(), acl);
+            putTags(active.arn(), request.tags());
+            return CreateAclResponse.builder().acl(creating).build();
+        });
+    }
+
+    @Override
+    public DescribeAcLsResponse describeACLs(final DescribeAcLsRequest request) {
+        return call("DescribeACLs", () -> {
+            if (request.aclName() != null) {
+                return DescribeAcLsResponse.builder().acLs(render(getAcl(request.aclName()))).build();
+            }
+            final Page<ACL> page = page(acls, request.nextToken(), request.maxResults());
+            return DescribeAcLsResponse.builder()
+                    .acLs(page.items.stream().map(acl -> render(acl)).collect(Collectors.toList()))
+                    .nextToken(page.nextToken)
+                    .build();
+        });
+    }
+
+    @Override
+    public UpdateAclResponse updateACL(final UpdateAclRequest request) {
+        return call("UpdateACL", () -> {
+            final ACL current = getAcl(request.aclName());
+            if (!"active".equals(current.status())) {
+                throw InvalidAclStateException.builder().message("ACL " + request.aclName() + " is " + current.status()).build();
+            }
+            requireUsers(request.userNamesToAdd());
+            final Set<String> userNames = new LinkedHashSet<>(current.userNames());
+            userNames.addAll(request.userNamesToAdd());
+            userNames.removeAll(request.userNamesToRemove());
+            final ACL active = current.toBuilder().userNames(userNames).build();
+            final ACL modifying = current.toBuilder().status("modifying").build();
+            acls.get(request.aclName()).transition(modifying, active, settlesAt("acl", "modifying"));
+            return UpdateAclResponse.builder().acl(render(modifying)).build();
+        });
+    }
+
+    @Override
+    public DeleteAclResponse deleteACL(final DeleteAclRequest request) {
+        return call("DeleteACL", () -> {
+            final ACL current = getAcl(request.aclName());
+            final List<String> inUseBy = clustersUsing(Cluster::aclName, request.aclName());
+            if (DEFAULT_ACL.equals(request.aclName()) || !inUseBy.isEmpty()) {
+                throw InvalidAclStateException.builder().message("ACL " + request.aclName() + " is in use by " + inUseBy).build();
+            }
+            final ACL deleting = current.toBuilder().status("deleting").build();
+            acls.get(request.aclName()).transition(deleting, null, settlesAt("acl", "deleting"));
+            tags.remove(current.arn());
+            return DeleteAclResponse.builder().acl(render(deleting)).build();
+        });
+    }
+
+    // Users
+
+    @Override
+    public CreateUserResponse createUser(final CreateUserRequest request) {
+        return call("CreateUser", () -> {
+            if (exists(users, request.userName())) {
+                throw UserAlreadyExistsException.builder()
+                        .message("User " + request.userName() + " already exists").build();
+            }
+            final User active = User.builder().name(request.userName()).status("active").accessString(request.accessString())
+                    .authentication(authentication(request.authenticationMode())).minimumEngineVersion("6.2")
+                    .arn(arn("user", request.userName())).build();
+            final User creating = active.toBuilder().status("creating").build();
+            final SimulatedResource<User> user = new SimulatedResource<>(creating);
+            user.transition(creating, active, settlesAt("user", "creating"));
+            users.put(request.userName(), user);
+            putTags(active.arn(), request.tags());
+            return CreateUserResponse.builder().user(creating).build();
+        });
+    }
+
+    @Override
+    public DescribeUsersResponse describeUsers(final DescribeUsersRequest request) {
+        return call("DescribeUsers", () -> {
+            if (request.userName() != null) {
+                return DescribeUsersResponse.builder().users(render(getUser(request.userName()))).build();
+            }
+            final Page<User> page = page(users, request.nextToken(), request.maxResults());
+            return DescribeUsersResponse.builder()
+                    .users(page.items.stream().map(user -> render(user)).collect(Collectors.toList()))
+                    .nextToken(page.nextToken)
+                    .build();
+        });
+    }
+
+    @Override
+    public UpdateUserResponse updateUser(final UpdateUserRequest request) {
+        return call("UpdateUser", () -> {
+            final User current = getUser(request.userName());
+            if (!"active".equals(current.status())) {
+                throw InvalidUserStateException.builder().message("User " + request.userName() + " is " + current.status()).build();
+            }
+            final User.Builder active = current.toBuilder();
+            if (request.accessString() != null) {
+                active.accessString(request.accessString());
+            }
+            if (request.authenticationMode() != null) {
+                active.authentication(authentication(request.authenticationMode()));
+            }
+            final User modifying = current.toBuilder().status("modifying").build();
+            users.get(request.userName()).transition(modifying, active.build(), settlesAt("user", "modifying"));
+            return UpdateUserResponse.builder().user(render(modifying)).build();
+        });
+    }
+
+    @Override
+    public DeleteUserResponse deleteUser(final DeleteUserRequest request) {
+        return call("DeleteUser", () -> {
+            final User current = getUser(request.userName());
+            if (DEFAULT_USER.equals(request.userName()) || !render(current).aclNames().isEmpty()) {
+                throw InvalidUserStateException.builder().message("User " + request.userName() + " is in use").build();
+            }
+            final User deleting = current.toBuilder().status("deleting").build();
+            users.get(request.userName()).transition(deleting, null, settlesAt("user", "deleting"));
+            tags.remove(current.arn());
+            return DeleteUserResponse.builder().user(render(deleting)).build();
+        });
+    }
+
+    // Parameter groups
+
+    @Override
+    public CreateParameterGroupResponse createParameterGroup(final CreateParameterGroupRequest request) {
+        return call("CreateParameterGroup", () -> {
+            if (parameterGroups.containsKey(request.parameterGroupName())) {
+                throw ParameterGroupAlreadyExistsException.builder()
+                        .message("Parameter group " + request.parameterGroupName() + " already exists").build();
+            }
+            final ParameterGroup parameterGroup = ParameterGroup.builder().name(request.parameterGroupName())
+                    .family(request.family()).description(request.description())
+                    .arn(arn("parametergroup", request.parameterGroupName())).build();
+            parameterGroups.put(request.parameterGroupName(), parameterGroup);
+            putTags(parameterGroup.arn(), request.tags());
+            return CreateParameterGroupResponse.builder().parameterGroup(parameterGroup).build();
+        });
+    }
+
+    @Override
+    public DescribeParameterGroupsResponse describeParameterGroups(final DescribeParameterGroupsRequest request) {
+        return call("DescribeParameterGroups", () -> {
+            if (request.parameterGroupName() != null) {
+                return DescribeParameterGroupsResponse.builder().parameterGroups(getParameterGroup(request.parameterGroupName())).build();
+            }
+            final Page<ParameterGroup> page = page(parameterGroups, request.nextToken(), request.maxResults(), parameterGroup -> parameterGroup);
+            return DescribeParameterGroupsResponse.builder().parameterGroups(page.items).nextToken(page.nextToken).build();
+        });
+    }
+
+    @Override
+    public UpdateParameterGroupResponse updateParameterGroup(final UpdateParameterGroupRequest request) {
+        return call("UpdateParameterGroup", () -> {
+            final ParameterGroup parameterGroup = getParameterGroup(request.parameterGroupName());
+            final Map<String, String> values = parameterValues.computeIfAbsent(request.parameterGroupName(), name -> new HashMap<>());
+            for (final ParameterNameValue parameter : request.parameterNameValues()) {
+                values.put(parameter.parameterName(), parameter.parameterValue());
+            }
+            parameterGroupAppliedAt.put(request.parameterGroupName(), settlesAt("parametergroup", "applying"));
+            return UpdateParameterGroupResponse.builder().parameterGroup(parameterGroup).build();
+        });
+    }
+
+    @Override
+    public DeleteParameterGroupResponse deleteParameterGroup(final DeleteParameterGroupRequest request) {
+        return call("DeleteParameterGroup", () -> {
+            final ParameterGroup parameterGroup = getParameterGroup(request.parameterGroupName());
+            final List<String> inUseBy = clustersUsing(Cluster::parameterGroupName, request.parameterGroupName());
+            if (request.parameterGroupName().startsWith(DEFAULT_PARAMETER_GROUP_PREFIX) || !inUseBy.isEmpty()) {
+                throw InvalidParameterGroupStateException.builder()
+                        .message("Parameter group " + request.parameterGroupName() + " is in use by " + inUseBy).build();
+            }
+            parameterGroups.remove(request.parameterGroupName());
+            parameterValues.remove(request.parameterGroupName());
+            parameterGroupAppliedAt.remove(request.parameterGroupName());
+            tags.remove(parameterGroup.arn());
+            return DeleteParameterGroupResponse.builder().parameterGroup(parameterGroup).build();
+        });
+    }
+
+    @Override
+    public DescribeParametersResponse describeParameters(final DescribeParametersRequest request) {
+        return call("DescribeParameters", () -> {
+            final ParameterGroup parameterGroup = getParameterGroup(request.parameterGroupName());
+            final Map<String, String> values = parameterValues.getOrDefault(parameterGroup.name(), Collections.emptyMap());
+            final NavigableMap<String, Parameter> parameters = new TreeMap<>();
+            for (final Parameter parameter : DefaultParameters.of(parameterGroup.family())) {
+                parameters.put(parameter.name(), values.containsKey(parameter.name())
+                        ? parameter.toBuilder().value(values.get(parameter.name())).build() : parameter);
+            }
+            final Page<Parameter> page = page(parameters, request.nextToken(), request.maxResults(), parameter -> parameter);
+            return DescribeParametersResponse.builder().parameters(page.items).nextToken(page.nextToken).build();
+        });
+    }
+
+    // Subnet groups
+
+    @Override
+    public CreateSubnetGroupResponse createSubnetGroup(final CreateSubnetGroupRequest request) {
+        return call("CreateSubnetGroup", () -> {
+            if (subnetGroups.containsKey(request.subnetGroupName())) {
+                throw SubnetGroupAlreadyExistsException.builder()
+                        .message("Subnet group " + request.subnetGroupName() + " already exists").build();
+            }
+            final SubnetGroup subnetGroup = subnetGroup(request.subnetGroupName(), request.description(), request.subnetIds());
+            subnetGroups.put(request.subnetGroupName(), subnetGroup);
+            putTags(subnetGroup.arn(), request.tags());
+            return CreateSubnetGroupResponse.builder().subnetGroup(subnetGroup).build();
+        });
+    }
+
+    @Override
+    public DescribeSubnetGroupsResponse describeSubnetGroups(final DescribeSubnetGroupsRequest request) {
+        return call("DescribeSubnetGroups", () -> {
+            if (request.subnetGroupName() != null) {
+                return DescribeSubnetGroupsResponse.builder().subnetGroups(getSubnetGroup(request.subnetGroupName())).build();
+            }
+            final Page<SubnetGroup> page = page(subnetGroups, request.nextToken(), request.maxResults(), subnetGroup -> subnetGroup);
+            return DescribeSubnetGroupsResponse.builder().subnetGroups(page.items).nextToken(page.nextToken).build();
+        });
+    }
+
+    @Override
+    public UpdateSubnetGroupResponse updateSubnetGroup(final UpdateSubnetGroupRequest request) {
+        return call("UpdateSubnetGroup", () -> {
+            final SubnetGroup current = getSubnetGroup(request.subnetGroupName());
+            final SubnetGroup updated = subnetGroup(current.name(),
+                    request.description() != null ? request.description() : current.description(),
+                    !request.subnetIds().isEmpty() ? request.subnetIds()
+                            : current.subnets().stream().map(Subnet::identifier).collect(Collectors.toList()));
+            subnetGroups.put(current.name(), updated);
+            return UpdateSubnetGroupResponse.builder().subnetGroup(updated).build();
+        });
+    }
+
+    @Override
+    public DeleteSubnetGroupResponse deleteSubnetGroup(final DeleteSubnetGroupRequest request) {
+        return call("DeleteSubnetGroup", () -> {
+            final SubnetGroup subnetGroup = getSubnetGroup(request.subnetGroupName());
+            final List<String> inUseBy = clustersUsing(Cluster::subnetGroupName, request.subnetGroupName());
+            if (DEFAULT_SUBNET_GROUP.equals(request.subnetGroupName()) || !inUseBy.isEmpty()) {
+                throw SubnetGroupInUseException.builder()
+                        .message("Subnet group " + request.subnetGroupName() + " is in use by " + inUseBy).build();
+            }
+            subnetGroups.remove(request.subnetGroupName());
+            tags.remove(subnetGroup.arn());
+            return DeleteSubnetGroupResponse.builder().subnetGroup(subnetGroup).build();
+        });
+    }
+
+    // Tags
+
+    @Override
+    public ListTagsResponse listTags(final ListTagsRequest request) {
+        return call("ListTags", () -> ListTagsResponse.builder().tagList(toSdkTags(getTags(request.resourceArn()))).build());
+    }
+
+    @Override
+    public TagResourceResponse tagResource(final TagResourceRequest request) {
+        return call("TagResource", () -> {
+            final Map<String, String> resourceTags = getTags(request.resourceArn());
+            request.tags().forEach(tag -> resourceTags.put(tag.key(), tag.value()));
+            return TagResourceResponse.builder().tagList(toSdkTags(resourceTags)).build();
+        });
+    }
+
+    @Override
+    public UntagResourceResponse untagResource(final UntagResourceRequest request) {
+        return call("UntagResource", () -> {
+            final Map<String, String> resourceTags = getTags(request.resourceArn());
+            request.tagKeys().forEach(resourceTags::remove);
+            return UntagResourceResponse.builder().tagList(toSdkTags(resourceTags)).build();
+        });
+    }
+
+    /**
+     * Every operation goes through here: it is counted, takes its latency off the simulated clock, then may be
+     * throttled or fail with a queued failure before reaching the simulated service.
+     */
+    private synchronized <T> T call(final String operation, final Supplier<T> handler) {
+        calls.computeIfAbsent(operation, key -> new AtomicInteger()).incrementAndGet();
+        clock.advance(latencies.getOrDefault(operation, defaultLatency));
+        if (throttleRate > 0 && random.nextDouble() < throttleRate) {
+            throttledCalls.incrementAndGet();
+            throw MemoryDbException.builder()
+                    .statusCode(400)
+                    .message("Rate exceeded")
+                    .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").errorMessage("Rate exceeded")
+                            .serviceName(SERVICE_NAME).build())
+                    .build();
+        }
+        final Deque<RuntimeException> failures = queuedFailures.get(operation);
+        if (failures != null && !failures.isEmpty()) {
+            throw failures.poll();
+        }
+        return handler.get();
+    }
+
+    private long settlesAt(final String resourceType, final String transition) {
+        return clock.millis() + transitionTimes.getOrDefault(resourceType + ":" + transition, Duration.ZERO).toMillis();
+    }
+
+    private <T> boolean exists(final Map<String, SimulatedResource<T>> resources, final String name) {
+        final SimulatedResource<T> resource = name != null ? resources.get(name) : null;
+        return resource != null && !resource.isRemoved(clock.millis());
+    }
+
+    private Cluster getCluster(final String name) {
+        if (!exists(clusters, name)) {
+            throw ClusterNotFoundException.builder().message("Cluster " + name + " not found").build();
+        }
+        return clusters.get(name).get(clock.millis());
+    }
+
+    private ACL getAcl(final String name) {
+        if (!exists(acls, name)) {
+            throw AclNotFoundException.builder().message("ACL " + name + " not found").build();
+        }
+        return acls.get(name).get(clock.millis());
+    }
+
+    private User getUser(final String name) {
+        if (!exists(users, name)) {
+            throw UserNotFoundException.builder()
+                    .message("User " + name + " not found").build();
+        }
+        return users.get(name).get(clock.millis());
+    }
+
+    private ParameterGroup getParameterGroup(final String name) {
+        final ParameterGroup parameterGroup = parameterGroups.get(name);
+        if (parameterGroup == null) {
+            throw ParameterGroupNotFoundException.builder().message("Parameter group " + name + " not found").build();
+        }
+        return parameterGroup;
+    }
+
+    private SubnetGroup getSubnetGroup(final String name) {
+        final SubnetGroup subnetGroup = subnetGroups.get(name);
+        if (subnetGroup == null) {
+            throw SubnetGroupNotFoundException.builder().message("Subnet group " + name + " not found").build();
+        }
+        return subnetGroup;
+    }
+
+    private Map<String, String> getTags(final String arn) {
+        final Map<String, String> resourceTags = arn != null ? tags.get(arn) : null;
+        if (resourceTags == null) {
+            throw InvalidArnException.builder().message("Resource " + arn + " not found").build();
+        }
+        return resourceTags;
+    }
+
+    private void putTags(final String arn, final Collection<Tag> resourceTags) {
+        final Map<String, String> values = new TreeMap<>();
+        resourceTags.forEach(tag -> values.put(tag.key(), tag.value()));
+        tags.put(arn, values);
+    }
+
+    private void requireUsers(final Collection<String> userNames) {
+        for (final String userName : userNames) {
+            getUser(userName);
+        }
+    }
+
+    private List<String> clustersUsing(final Function<Cluster, String> reference, final String name) {
+        return clusters.values().stream()
+                .map(cluster -> cluster.get(clock.millis()))
+                .filter(cluster -> cluster != null && name.equals(reference.apply(cluster)))
+                .map(Cluster::name)
+                .collect(Collectors.toList());
+    }
+
+    private Cluster render(final Cluster cluster, final boolean showShardDetails) {
+        final Long appliedAt = parameterGroupAppliedAt.get(cluster.parameterGroupName());
+        final boolean applying = appliedAt != null && clock.millis() < appliedAt;
+        return cluster.toBuilder()
+                .parameterGroupStatus(applying ? "applying" : "in-sync")
+                .shards(showShardDetails ? cluster.shards() : Collections.emptyList())
+                .build();
+    }
+
+    private ACL render(final ACL acl) {
+        return acl.toBuilder().clusters(clustersUsing(Cluster::aclName, acl.name())).build();
+    }
+
+    private User render(final User user) {
+        final List<String> aclNames = acls.values().stream()
+                .map(acl -> acl.get(clock.millis()))
+                .filter(acl -> acl != null && acl.userNames().contains(user.name()))
+                .map(ACL::name)
+                .collect(Collectors.toList());
+        return user.toBuilder().aclNames(aclNames).build();
+    }
+
+    private static Authentication authentication(final AuthenticationMode mode) {
+        return mode == null || mode.passwords().isEmpty()
+                ? Authentication.builder().type(AuthenticationType.NO_PASSWORD).passwordCount(0).build()
+                : Authentication.builder().type(AuthenticationType.PASSWORD).passwordCount(mode.passwords().size()).build();
+    }
+
+    private static List<Tag> toSdkTags(final Map<String, String> resourceTags) {
+        return resourceTags.entrySet().stream()
+                .map(entry -> Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+                .collect(Collectors.toList());
+    }
+
+    private static List<Shard> shards(final String clusterName, final int shardCount, final int replicas) {
+        final List<Shard> shards = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            final List<Node> nodes = new ArrayList<>();
+            for (int node = 0; node <= replicas; node++) {
+                nodes.add(Node.builder().name(String.format("%s-%04d-%03d", clusterName, shard + 1, node + 1)).status("available")
+                        .availabilityZone(REGION + (char) ('a' + node % 3)).build());
+            }
+            final int firstSlot = shard * TOTAL_SLOTS / shardCount;
+            final int lastSlot = (shard + 1) * TOTAL_SLOTS / shardCount - 1;
+            shards.add(Shard.builder().name(String.format("%04d", shard + 1)).status("available")
+                    .slots(firstSlot + "-" + lastSlot).nodes(nodes).numberOfNodes(nodes.size()).build());
+        }
+        return shards;
+    }
+
+    private static SubnetGroup subnetGroup(final String name, final String description, final Collection<String> subnetIds) {
+        final List<Subnet> subnets = new ArrayList<>();
+        int index = 0;
+        for (final String subnetId : subnetIds) {
+            subnets.add(Subnet.builder().identifier(subnetId)
+                    .availabilityZone(AvailabilityZone.builder().name(REGION + (char) ('a' + index++ % 3)).build()).build());
+        }
+        return SubnetGroup.builder().name(name).description(description).vpcId("vpc-00000001").subnets(subnets)
+                .arn(arn("subnetgroup", name)).build();
+    }
+
+    private static String arn(final String resourceType, final String name) {
+        return String.format("arn:aws:memorydb:%s:%s:%s/%s", REGION, ACCOUNT_ID, resourceType, name);
+    }
+
+    private <T> Page<T> page(final NavigableMap<String, SimulatedResource<T>> resources, final String nextToken,
+                             final Integer maxResults) {
+        return page(resources, nextToken, maxResults, resource -> resource.get(clock.millis()));
+    }
+
+    /**
+     * Pages through resources in name order, using the name of the first resource of the next page as token.
+     */
+    private static <V, T> Page<T> page(final NavigableMap<String, V> resources, final String nextToken, final Integer maxResults,
+                                       final Function<V, T> current) {
+        final int limit = maxResults != null ? maxResults : DEFAULT_MAX_RESULTS;
+        final List<T> items = new ArrayList<>();
+        String next = null;
+        for (final Map.Entry<String, V> entry : (nextToken != null ? resources.tailMap(nextToken, true) : resources).entrySet()) {
+            final T item = current.apply(entry.getValue());
+            if (item == null) {
+                continue;
+            }
+            if (items.size() == limit) {
+                next = entry.getKey();
+                break;
+            }
+            items.add(item);
+        }
+        return new Page<>(items, next);
+    }
+
+    private static final class Page<T> {
+        private final List<T> items;
+        private final String nextToken;
+
+        private Page(final List<T> items, final String nextToken) {
+            this.items = items;
+            this.nextToken = nextToken;
+        }
+    }
+
+    public static class Builder {
+        private SimulatorClock clock = new SimulatorClock();
+        private Duration defaultLatency = Duration.ofMillis(50);
+        private final Map<String, Duration> latencies = new HashMap<>();
+        private final Map<String, Duration> transitionTimes = new HashMap<>();
+        private double throttleRate;
+        private long seed = 42L;
+
+        Builder() {
+            transitionTime("cluster", "creating", Duration.ofMinutes(10));
+            transitionTime("cluster", "updating", Duration.ofMinutes(2));
+            transitionTime("cluster", "resharding", Duration.ofMinutes(15));
+            transitionTime("cluster", "scaling", Duration.ofMinutes(8));
+            transitionTime("cluster", "deleting", Duration.ofMinutes(5));
+            transitionTime("acl", "creating", Duration.ofSeconds(30));
+            transitionTime("acl", "modifying", Duration.ofSeconds(30));
+            transitionTime("acl", "deleting", Duration.ofSeconds(20));
+            transitionTime("user", "creating", Duration.ofSeconds(10));
+            transitionTime("user", "modifying", Duration.ofSeconds(10));
+            transitionTime("user", "deleting", Duration.ofSeconds(10));
+            transitionTime("parametergroup", "applying", Duration.ofMinutes(1));
+            latency("CreateCluster", Duration.ofMillis(400));
+            latency("UpdateCluster", Duration.ofMillis(300));
+            latency("DeleteCluster", Duration.ofMillis(300));
+        }
+
+        public Builder clock(final SimulatorClock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Latency of operations without a specific one.
+         */
+        public Builder defaultLatency(final Duration latency) {
+            this.defaultLatency = latency;
+            return this;
+        }
+
+        public Builder latency(final String operation, final Duration latency) {
+            this.latencies.put(operation, latency);
+            return this;
+        }
+
+        /**
+         * Time a resource spends in a transition before settling. Transitions are "creating", "updating", "resharding",
+         * "scaling" and "deleting" for clusters, "creating", "modifying" and "deleting" for ACLs and users, and
+         * "applying" for parameter groups.
+         */
+        public Builder transitionTime(final String resourceType, final String transition, final Duration time) {
+            this.transitionTimes.put(resourceType + ":" + transition, time);
+            return this;
+        }
+
+        /**
+         * Share of calls, from 0 to 1, failing with a ThrottlingException.
+         */
+        public Builder throttleRate(final double throttleRate) {
+            this.throttleRate = throttleRate;
+            return this;
+        }
+
+        public Builder seed(final long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public MemoryDbSimulator build() {
+            return new MemoryDbSimulator(this);
+        }
+    }
+}
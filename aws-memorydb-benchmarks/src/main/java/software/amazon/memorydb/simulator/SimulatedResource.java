@@ -0,0 +1,58 @@
+package software.amazon.memorydb.simulator;
+
+/**
+ * State machine of a single simulated resource. A transition exposes an intermediate state (e.g. "creating") until
+ * its settle time, then the state it leads to, or removes the resource when it leads nowhere (deletion).
+ *
+ * @param <T> SDK representation of the resource
+ */
+final class SimulatedResource<T> {
+
+    private T current;
+    private T next;
+    private long settlesAtMillis;
+    private boolean transitioning;
+
+    SimulatedResource(final T current) {
+        this.current = current;
+    }
+
+    T get(final long nowMillis) {
+        settle(nowMillis);
+        return current;
+    }
+
+    boolean isRemoved(final long nowMillis) {
+        return get(nowMillis) == null;
+    }
+
+    boolean isTransitioning(final long nowMillis) {
+        settle(nowMillis);
+        return transitioning;
+    }
+
+    /**
+     * @param during state exposed until {@code settlesAtMillis}
+     * @param after state exposed afterwards, {@code null} to remove the resource
+     */
+    void transition(final T during, final T after, final long settlesAtMillis) {
+        this.current = during;
+        this.next = after;
+        this.settlesAtMillis = settlesAtMillis;
+        this.transitioning = true;
+    }
+
+    void set(final T state) {
+        this.current = state;
+        this.next = null;
+        this.transitioning = false;
+    }
+
+    private void settle(final long nowMillis) {
+        if (transitioning && nowMillis >= settlesAtMillis) {
+            current = next;
+            next = null;
+            transitioning = false;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package software.amazon.memorydb.simulator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import software.amazon.memorydb.acl.AclSimulation;
+import software.amazon.memorydb.cluster.ClusterSimulation;
+import software.amazon.memorydb.parametergroup.ParameterGroupSimulation;
+import software.amazon.memorydb.subnetgroup.SubnetGroupSimulation;
+import software.amazon.memorydb.user.UserSimulation;
+
+/**
+ * Runs the lifecycle of every resource type against a fresh simulator and prints, for each handler operation, the
+ * number of invocations, the API calls it made and the simulated and wall time it took.
+ *
+ * Usage: {@code SimulationRunner [throttleRate]}, e.g. {@code 0.05} to throttle 5% of the calls.
+ */
+public final class SimulationRunner {
+
+    private SimulationRunner() {
+    }
+
+    public static void main(final String[] args) {
+        final double throttleRate = args.length > 0 ? Double.parseDouble(args[0]) : 0;
+        final MemoryDbSimulator simulator = MemoryDbSimulator.builder().throttleRate(throttleRate).build();
+        final HandlerDriver driver = new HandlerDriver(simulator);
+
+        final List<HandlerRun<?>> runs = new ArrayList<>();
+        runs.addAll(SubnetGroupSimulation.lifecycle(driver, "simulation-subnet-group"));
+        runs.addAll(ParameterGroupSimulation.lifecycle(driver, "simulation-parameter-group"));
+        runs.addAll(UserSimulation.lifecycle(driver, "simulation-user"));
+        runs.addAll(AclSimulation.lifecycle(driver, "simulation-acl"));
+        runs.addAll(ClusterSimulation.lifecycle(driver, "simulation-cluster"));
+
+        runs.forEach(System.out::println);
+        System.out.println(String.format("Total: %d API calls, %d throttled, %s simulated",
+                simulator.getTotalCalls(), simulator.getThrottledCalls(), Duration.ofMillis(simulator.getClock().millis())));
+    }
+}
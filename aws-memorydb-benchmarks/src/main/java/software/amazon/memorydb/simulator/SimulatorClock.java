@@ -0,0 +1,49 @@
+package software.amazon.memorydb.simulator;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Simulated time. Service latencies and callback delays advance it instead of being slept through, so that a
+ * provisioning flow taking minutes of service time runs in milliseconds.
+ */
+public final class SimulatorClock extends Clock {
+
+    private final AtomicLong millis;
+
+    public SimulatorClock() {
+        this(0L);
+    }
+
+    public SimulatorClock(final long startMillis) {
+        this.millis = new AtomicLong(startMillis);
+    }
+
+    public void advance(final Duration duration) {
+        millis.addAndGet(duration.toMillis());
+    }
+
+    @Override
+    public long millis() {
+        return millis.get();
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis());
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId zone) {
+        return this;
+    }
+}
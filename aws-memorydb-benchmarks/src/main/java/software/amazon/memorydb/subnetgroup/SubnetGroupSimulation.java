@@ -0,0 +1,56 @@
+package software.amazon.memorydb.subnetgroup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.memorydb.simulator.HandlerDriver;
+import software.amazon.memorydb.simulator.HandlerRun;
+
+/**
+ * Runs the subnet group handlers through a full lifecycle against the simulator: create, read, a description and
+ * subnet update, list and delete. Lives in the handler package to reach the handlers' proxy client entry point.
+ */
+public final class SubnetGroupSimulation {
+
+    private SubnetGroupSimulation() {
+    }
+
+    public static List<HandlerRun<ResourceModel>> lifecycle(final HandlerDriver driver, final String subnetGroupName) {
+        final Map<String, String> tags = Collections.singletonMap("stage", "simulation");
+        final ResourceModel created = model(subnetGroupName, "simulation subnet group", "subnet-00000011", "subnet-00000012");
+        final ResourceModel updated = model(subnetGroupName, "updated simulation subnet group",
+                "subnet-00000011", "subnet-00000012", "subnet-00000013");
+
+        final List<HandlerRun<ResourceModel>> runs = new ArrayList<>();
+        runs.add(run(driver, "SubnetGroup::Create", new CreateHandler(),
+                driver.<ResourceModel>request().desiredResourceState(created).desiredResourceTags(tags).build()));
+        runs.add(run(driver, "SubnetGroup::Read", new ReadHandler(),
+                driver.<ResourceModel>request().desiredResourceState(created).build()));
+        runs.add(run(driver, "SubnetGroup::Update", new UpdateHandler(),
+                driver.<ResourceModel>request().desiredResourceState(updated).previousResourceState(created)
+                        .desiredResourceTags(tags).previousResourceTags(tags).build()));
+        runs.add(run(driver, "SubnetGroup::List", new ListHandler(),
+                driver.<ResourceModel>request().desiredResourceState(ResourceModel.builder().build()).build()));
+        runs.add(run(driver, "SubnetGroup::Delete", new DeleteHandler(),
+                driver.<ResourceModel>request().desiredResourceState(updated).build()));
+        return runs;
+    }
+
+    private static ResourceModel model(final String subnetGroupName, final String description, final String... subnetIds) {
+        return ResourceModel.builder()
+                .subnetGroupName(subnetGroupName)
+                .description(description)
+                .subnetIds(new LinkedHashSet<>(Arrays.asList(subnetIds)))
+                .build();
+    }
+
+    private static HandlerRun<ResourceModel> run(final HandlerDriver driver, final String operation, final BaseHandlerStd handler,
+                                                 final ResourceHandlerRequest<ResourceModel> request) {
+        return driver.<ResourceModel, CallbackContext>run(operation, handler::handleRequest, request, CallbackContext::new);
+    }
+}
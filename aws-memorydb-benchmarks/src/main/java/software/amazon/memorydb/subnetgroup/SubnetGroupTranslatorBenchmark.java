@@ -0,0 +1,105 @@
+package software.amazon.memorydb.subnetgroup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.memorydb.model.AvailabilityZone;
+import software.amazon.awssdk.services.memorydb.model.DescribeSubnetGroupsResponse;
+import software.amazon.awssdk.services.memorydb.model.Subnet;
+import software.amazon.awssdk.services.memorydb.model.SubnetGroup;
+import software.amazon.memorydb.benchmark.SyntheticData;
+
+/**
+ * Translation of DescribeSubnetGroups responses and of subnet group tags.
+ * Lives in the handler package to reach the package-private {@link Translator}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SubnetGroupTranslatorBenchmark {
+
+    @Param({"3", "20"})
+    private int subnets;
+
+    @Param({"50"})
+    private int tagCount;
+
+    private SubnetGroup subnetGroup;
+    private DescribeSubnetGroupsResponse listResponse;
+    private Map<String, String> tagMap;
+    private Set<Tag> modelTags;
+    private List<software.amazon.awssdk.services.memorydb.model.Tag> sdkTags;
+
+    @Setup
+    public void setup() {
+        subnetGroup = subnetGroup("benchmark-subnet-group", subnets);
+        final List<SubnetGroup> groups = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            groups.add(subnetGroup("benchmark-subnet-group-" + i, subnets));
+        }
+        listResponse = DescribeSubnetGroupsResponse.builder().subnetGroups(groups).build();
+        tagMap = SyntheticData.tags(tagCount);
+        modelTags = Translator.mapToTags(tagMap);
+        sdkTags = tagMap.entrySet().stream()
+                .map(entry -> software.amazon.awssdk.services.memorydb.model.Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public ResourceModel translateFromDescribeSubnetGroupResponse() {
+        return Translator.translateFromDescribeSubnetGroupResponse(subnetGroup);
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateFromListResponse() {
+        return Translator.translateFromListResponse(listResponse);
+    }
+
+    @Benchmark
+    public Set<software.amazon.awssdk.services.memorydb.model.Tag> translateTagsToSdk() {
+        return Translator.translateTagsToSdk(modelTags);
+    }
+
+    @Benchmark
+    public Set<Tag> mapToTags() {
+        return Translator.mapToTags(tagMap);
+    }
+
+    @Benchmark
+    public Set<Tag> translateTagsFromSdk() {
+        return Translator.translateTagsFromSdk(sdkTags);
+    }
+
+    private static SubnetGroup subnetGroup(final String name, final int subnetCount) {
+        final List<Subnet> subnetList = new ArrayList<>();
+        for (int i = 0; i < subnetCount; i++) {
+            subnetList.add(Subnet.builder().identifier(String.format("subnet-%08d", i))
+                    .availabilityZone(AvailabilityZone.builder().name("us-east-1" + (char) ('a' + i % 3)).build()).build());
+        }
+        return SubnetGroup.builder()
+                .name(name)
+                .arn(SyntheticData.arn("subnetgroup", name))
+                .description("benchmark subnet group")
+                .vpcId("vpc-00000001")
+                .subnets(subnetList)
+                .build();
+    }
+}
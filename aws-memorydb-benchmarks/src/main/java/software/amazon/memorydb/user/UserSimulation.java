@@ -0,0 +1,54 @@
+package software.amazon.memorydb.user;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.memorydb.simulator.HandlerDriver;
+import software.amazon.memorydb.simulator.HandlerRun;
+
+/**
+ * Runs the user handlers through a full lifecycle against the simulator: create, read, an access string update, list
+ * and delete. Lives in the handler package to reach the handlers' proxy client entry point.
+ */
+public final class UserSimulation {
+
+    private UserSimulation() {
+    }
+
+    public static List<HandlerRun<ResourceModel>> lifecycle(final HandlerDriver driver, final String userName) {
+        final Map<String, String> tags = Collections.singletonMap("stage", "simulation");
+        final ResourceModel created = model(userName, "on ~* &* +@read");
+        final ResourceModel updated = model(userName, "on ~* &* +@read +@write");
+
+        final List<HandlerRun<ResourceModel>> runs = new ArrayList<>();
+        runs.add(run(driver, "User::Create", new CreateHandler(),
+                driver.<ResourceModel>request().desiredResourceState(created).desiredResourceTags(tags).build()));
+        runs.add(run(driver, "User::Read", new ReadHandler(),
+                driver.<ResourceModel>request().desiredResourceState(created).build()));
+        runs.add(run(driver, "User::Update", new UpdateHandler(),
+                driver.<ResourceModel>request().desiredResourceState(updated).previousResourceState(created)
+                        .desiredResourceTags(tags).previousResourceTags(tags).build()));
+        runs.add(run(driver, "User::List", new ListHandler(),
+                driver.<ResourceModel>request().desiredResourceState(ResourceModel.builder().build()).build()));
+        runs.add(run(driver, "User::Delete", new DeleteHandler(),
+                driver.<ResourceModel>request().desiredResourceState(updated).build()));
+        return runs;
+    }
+
+    private static ResourceModel model(final String userName, final String accessString) {
+        return ResourceModel.builder()
+                .userName(userName)
+                .accessString(accessString)
+                .authenticationMode(AuthenticationMode.builder().type("password")
+                        .passwords(Collections.singletonList("simulation-password-0001")).build())
+                .build();
+    }
+
+    private static HandlerRun<ResourceModel> run(final HandlerDriver driver, final String operation, final BaseHandlerStd handler,
+                                                 final ResourceHandlerRequest<ResourceModel> request) {
+        return driver.<ResourceModel, CallbackContext>run(operation, handler::handleRequest, request, CallbackContext::new);
+    }
+}
@@ -0,0 +1,101 @@
+package software.amazon.memorydb.user;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.memorydb.model.Authentication;
+import software.amazon.awssdk.services.memorydb.model.AuthenticationType;
+import software.amazon.awssdk.services.memorydb.model.DescribeUsersResponse;
+import software.amazon.awssdk.services.memorydb.model.User;
+import software.amazon.memorydb.benchmark.SyntheticData;
+
+/**
+ * Translation of DescribeUsers pages and of user tags.
+ * Lives in the handler package to reach the package-private {@link Translator}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserTranslatorBenchmark {
+
+    @Param({"10", "1000", "5000"})
+    private int users;
+
+    @Param({"50"})
+    private int tagCount;
+
+    private DescribeUsersResponse readResponse;
+    private DescribeUsersResponse listResponse;
+    private Map<String, String> tagMap;
+    private Set<Tag> modelTags;
+    private List<software.amazon.awssdk.services.memorydb.model.Tag> sdkTags;
+
+    @Setup
+    public void setup() {
+        final List<User> userList = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            userList.add(user(String.format("benchmark-user-%05d", i)));
+        }
+        readResponse = DescribeUsersResponse.builder().users(userList.get(0)).build();
+        listResponse = DescribeUsersResponse.builder().users(userList).build();
+        tagMap = SyntheticData.tags(tagCount);
+        modelTags = Translator.translateTags(tagMap);
+        sdkTags = tagMap.entrySet().stream()
+                .map(entry -> software.amazon.awssdk.services.memorydb.model.Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return Translator.translateFromReadResponse(readResponse);
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateFromListRequest() {
+        return Translator.translateFromListRequest(listResponse);
+    }
+
+    @Benchmark
+    public Set<software.amazon.awssdk.services.memorydb.model.Tag> translateTagsToSdk() {
+        return Translator.translateTagsToSdk(modelTags);
+    }
+
+    @Benchmark
+    public Set<Tag> translateTagsFromSdk() {
+        return Translator.translateTags(sdkTags);
+    }
+
+    @Benchmark
+    public Map<String, String> translateTagsToMap() {
+        return Translator.translateTags(modelTags);
+    }
+
+    private static User user(final String name) {
+        return User.builder()
+                .name(name)
+                .arn(SyntheticData.arn("user", name))
+                .status("active")
+                .accessString("on ~app:* &* +@read +@write -@dangerous")
+                .authentication(Authentication.builder().type(AuthenticationType.PASSWORD).passwordCount(1).build())
+                .aclNames("benchmark-acl")
+                .build();
+    }
+}
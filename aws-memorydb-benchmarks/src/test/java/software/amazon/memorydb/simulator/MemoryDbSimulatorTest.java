@@ -0,0 +1,133 @@
+package software.amazon.memorydb.simulator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.memorydb.model.Cluster;
+import software.amazon.awssdk.services.memorydb.model.ClusterNotFoundException;
+import software.amazon.awssdk.services.memorydb.model.CreateClusterRequest;
+import software.amazon.awssdk.services.memorydb.model.DeleteClusterRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeClustersRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.memorydb.model.InvalidClusterStateException;
+import software.amazon.awssdk.services.memorydb.model.MemoryDbException;
+import software.amazon.awssdk.services.memorydb.model.UpdateClusterRequest;
+
+public class MemoryDbSimulatorTest {
+
+    private static CreateClusterRequest createCluster(final String name) {
+        return CreateClusterRequest.builder().clusterName(name).nodeType("db.r6g.large").aclName("open-access").build();
+    }
+
+    private static Cluster describeCluster(final MemoryDbSimulator simulator, final String name) {
+        return simulator.describeClusters(DescribeClustersRequest.builder().clusterName(name).build()).clusters().get(0);
+    }
+
+    @Test
+    public void cluster_GoesThroughItsTransitions() {
+        final MemoryDbSimulator simulator = MemoryDbSimulator.builder()
+                .transitionTime("cluster", "creating", Duration.ofMinutes(10))
+                .transitionTime("cluster", "updating", Duration.ofMinutes(2))
+                .transitionTime("cluster", "deleting", Duration.ofMinutes(5))
+                .build();
+
+        assertThat(simulator.createCluster(createCluster("cluster")).cluster().status()).isEqualTo("creating");
+        assertThat(describeCluster(simulator, "cluster").status()).isEqualTo("creating");
+        assertThatThrownBy(() -> simulator.updateCluster(UpdateClusterRequest.builder().clusterName("cluster").description("updated").build()))
+                .isInstanceOf(InvalidClusterStateException.class);
+
+        simulator.getClock().advance(Duration.ofMinutes(10));
+        final Cluster available = describeCluster(simulator, "cluster");
+        assertThat(available.status()).isEqualTo("available");
+        assertThat(available.arn()).isEqualTo("arn:aws:memorydb:us-east-1:123456789012:cluster/cluster");
+
+        simulator.updateCluster(UpdateClusterRequest.builder().clusterName("cluster").description("updated").build());
+        assertThat(describeCluster(simulator, "cluster").status()).isEqualTo("updating");
+        simulator.getClock().advance(Duration.ofMinutes(2));
+        assertThat(describeCluster(simulator, "cluster").description()).isEqualTo("updated");
+
+        assertThat(simulator.deleteCluster(DeleteClusterRequest.builder().clusterName("cluster").build()).cluster().status())
+                .isEqualTo("deleting");
+        assertThat(describeCluster(simulator, "cluster").status()).isEqualTo("deleting");
+        simulator.getClock().advance(Duration.ofMinutes(5));
+        assertThatThrownBy(() -> describeCluster(simulator, "cluster")).isInstanceOf(ClusterNotFoundException.class);
+
+        assertThat(simulator.getCallCounts()).containsEntry("CreateCluster", 1).containsEntry("UpdateCluster", 2)
+                .containsEntry("DeleteCluster", 1).containsEntry("DescribeClusters", 6);
+    }
+
+    @Test
+    public void describeClusters_PagesInNameOrder() {
+        final MemoryDbSimulator simulator = MemoryDbSimulator.builder().build();
+        simulator.createCluster(createCluster("cluster-c"));
+        simulator.createCluster(createCluster("cluster-a"));
+        simulator.createCluster(createCluster("cluster-b"));
+
+        final DescribeClustersResponse firstPage = simulator.describeClusters(DescribeClustersRequest.builder().maxResults(2).build());
+        assertThat(firstPage.clusters()).extracting(Cluster::name).containsExactly("cluster-a", "cluster-b");
+        assertThat(firstPage.nextToken()).isNotNull();
+
+        final DescribeClustersResponse lastPage = simulator.describeClusters(DescribeClustersRequest.builder().maxResults(2)
+                .nextToken(firstPage.nextToken()).build());
+        assertThat(lastPage.clusters()).extracting(Cluster::name).containsExactly("cluster-c");
+        assertThat(lastPage.nextToken()).isNull();
+    }
+
+    @Test
+    public void describeClusters_SkipsDeletedClusters() {
+        final MemoryDbSimulator simulator = MemoryDbSimulator.builder()
+                .transitionTime("cluster", "creating", Duration.ZERO)
+                .transitionTime("cluster", "deleting", Duration.ZERO)
+                .build();
+        simulator.createCluster(createCluster("cluster-a"));
+        simulator.createCluster(createCluster("cluster-b"));
+        simulator.deleteCluster(DeleteClusterRequest.builder().clusterName("cluster-a").build());
+
+        final DescribeClustersResponse response = simulator.describeClusters(DescribeClustersRequest.builder().maxResults(1).build());
+
+        assertThat(response.clusters()).extracting(Cluster::name).containsExactly("cluster-b");
+        assertThat(response.nextToken()).isNull();
+    }
+
+    @Test
+    public void call_ThrottlesAtTheConfiguredRate() {
+        final MemoryDbSimulator throttled = MemoryDbSimulator.builder().throttleRate(1).build();
+
+        assertThatThrownBy(() -> throttled.describeClusters(DescribeClustersRequest.builder().build()))
+                .isInstanceOfSatisfying(MemoryDbException.class, e -> assertThat(e.isThrottlingException()).isTrue());
+        assertThat(throttled.getThrottledCalls()).isEqualTo(1);
+        assertThat(throttled.getCallCounts()).containsEntry("DescribeClusters", 1);
+
+        final MemoryDbSimulator sometimesThrottled = MemoryDbSimulator.builder().throttleRate(0.5).seed(7L).build();
+        for (int i = 0; i < 100; i++) {
+            try {
+                sometimesThrottled.describeClusters(DescribeClustersRequest.builder().build());
+            } catch (final MemoryDbException e) {
+                assertThat(e.isThrottlingException()).isTrue();
+            }
+        }
+        assertThat(sometimesThrottled.getTotalCalls()).isEqualTo(100);
+        assertThat(sometimesThrottled.getThrottledCalls()).isBetween(25, 75);
+    }
+
+    @Test
+    public void call_RaisesQueuedFailuresOnceAndAdvancesTheClock() {
+        final MemoryDbSimulator simulator = MemoryDbSimulator.builder()
+                .defaultLatency(Duration.ofMillis(10))
+                .latency("CreateCluster", Duration.ofMillis(400))
+                .build();
+        final ClusterNotFoundException failure = ClusterNotFoundException.builder().message("injected").build();
+        simulator.failNext("DescribeClusters", failure);
+
+        assertThatThrownBy(() -> simulator.describeClusters(DescribeClustersRequest.builder().build())).isSameAs(failure);
+        assertThat(simulator.describeClusters(DescribeClustersRequest.builder().build()).clusters()).isEmpty();
+        simulator.createCluster(createCluster("cluster"));
+
+        assertThat(simulator.getClock().millis()).isEqualTo(420L);
+        assertThat(simulator.getTotalCalls()).isEqualTo(3);
+    }
+}
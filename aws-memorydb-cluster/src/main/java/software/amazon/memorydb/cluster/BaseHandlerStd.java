@@ -3,7 +3,10 @@ package software.amazon.memorydb.cluster;
 import java.security.InvalidParameterException;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -15,11 +18,13 @@ import software.amazon.awssdk.services.memorydb.model.AclNotFoundException;
 import software.amazon.awssdk.services.memorydb.model.Cluster;
 import software.amazon.awssdk.services.memorydb.model.ClusterAlreadyExistsException;
 import software.amazon.awssdk.services.memorydb.model.ClusterNotFoundException;
+import software.amazon.awssdk.services.memorydb.model.DescribeClustersRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
 import software.amazon.awssdk.services.memorydb.model.InvalidClusterStateException;
 import software.amazon.awssdk.services.memorydb.model.InvalidNodeStateException;
 import software.amazon.awssdk.services.memorydb.model.InvalidParameterCombinationException;
 import software.amazon.awssdk.services.memorydb.model.InvalidParameterValueException;
+import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
 import software.amazon.awssdk.services.memorydb.model.ParameterGroupNotFoundException;
 import software.amazon.awssdk.services.memorydb.model.SnapshotAlreadyExistsException;
 import software.amazon.awssdk.services.memorydb.model.SubnetGroupNotFoundException;
@@ -35,38 +40,100 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.memorydb.common.ConcurrentListTags;
+import software.amazon.memorydb.common.DescribeRateLimiter;
+import software.amazon.memorydb.common.HandlerMetrics;
+import software.amazon.memorydb.common.StabilizationDelay;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+    private static final String ARN_RESOURCE_TYPE = "cluster";
     protected static final String UPDATE_FAILED_WITH_STABILIZATION_SUCCESS =
             "Update operation failed due to internal error. Please retry the operation";
-    protected static final Constant STABILIZATION_DELAY = Constant.of()
-        // Set the timeout to something silly/way too high, because
-        // we already set the timeout in the schema https://github.com/aws-cloudformation/aws-cloudformation-resource-schema
+    // The timeouts are set to something silly/way too high, because
+    // we already set the timeout in the schema https://github.com/aws-cloudformation/aws-cloudformation-resource-schema
+    protected static final StabilizationDelay STABILIZATION_DELAY = StabilizationDelay.of()
         .timeout(Duration.ofDays(365L))
-        // Set the delay to 1 minutes so the stabilization code only calls
-        // DescribeClusters every 1 minute - create takes
-        // 15+ minutes so there's no need to check if the cluster is available more than every couple minutes.
-        .delay(Duration.ofSeconds(60))
+        // Most updates (description, windows, ACL...) are applied within seconds, node type and shard changes
+        // report "updating" for much longer.
+        .initialDelay(Duration.ofSeconds(5))
+        .maxDelay(Duration.ofSeconds(60))
+        .minimumDelay("updating", Duration.ofSeconds(30))
+        .build();
+    protected static final StabilizationDelay CREATE_STABILIZATION_DELAY = StabilizationDelay.of()
+        .timeout(Duration.ofDays(365L))
+        // Create takes 15+ minutes so there's no need to check if the cluster is available more than every minute.
+        .initialDelay(Duration.ofSeconds(30))
+        .maxDelay(Duration.ofSeconds(60))
+        .minimumDelay("creating", Duration.ofSeconds(60))
+        .build();
+    protected static final StabilizationDelay DELETE_STABILIZATION_DELAY = StabilizationDelay.of()
+        .timeout(Duration.ofDays(365L))
+        .initialDelay(Duration.ofSeconds(15))
+        .maxDelay(Duration.ofSeconds(60))
+        .minimumDelay("deleting", Duration.ofSeconds(30))
         .build();
     protected static final BiFunction<ResourceModel, ProxyClient<MemoryDbClient>, ResourceModel> EMPTY_CALL = (model, proxyClient) -> model;
     protected static String STABILIZED_STATUS = "available";
 
+    /**
+     * Clusters described with their shard details during the current invocation, by cluster name. Polls always go to
+     * the service and refresh it, reads that follow them are served from it. Mutating calls must invalidate it with
+     * {@link #invalidateDescribedCluster(ResourceModel)}.
+     *
+     * Status only polls (create, delete, and updates that change neither shards nor replicas) do not fill it: the
+     * model is read back with its replica count, which only the shard details give, and every reader of the memo
+     * needs it. The read that follows such polls still describes the cluster once.
+     */
+    private final Map<String, Cluster> describedClusters;
+    private HandlerMetrics metrics;
+
+    protected BaseHandlerStd() {
+        this.describedClusters = new HashMap<>();
+        this.metrics = new HandlerMetrics(ResourceModel.TYPE_NAME, getAction());
+    }
+
+    /**
+     * Used by handlers that delegate to another handler within the same invocation, to share the described clusters.
+     */
+    protected BaseHandlerStd(final BaseHandlerStd invokingHandler) {
+        this.describedClusters = invokingHandler.describedClusters;
+        this.metrics = invokingHandler.metrics;
+    }
+
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                              final ResourceHandlerRequest<ResourceModel> request,
                                                                              final CallbackContext callbackContext,
                                                                              final Logger logger) {
+        // handler instances are reused by warm containers
+        describedClusters.clear();
+        metrics = new HandlerMetrics(ResourceModel.TYPE_NAME, getAction());
+        ProgressEvent<ResourceModel, CallbackContext> event = null;
         try {
-            return handleRequest(proxy, request, callbackContext != null ? callbackContext : new CallbackContext(), proxy.newProxy(ClientBuilder::getClient), logger);
+            event = handleRequest(proxy, request, callbackContext != null ? callbackContext : new CallbackContext(),
+                    metrics.instrument(proxy.newProxy(ClientBuilder::getClient)), logger);
+            return event;
         } catch (Exception e) {
             logger.log("Request Failed : " + e.getMessage() + Arrays.stream(e.getStackTrace())
                     .map(Objects::toString)
                     .collect(Collectors.joining("\n")));
             throw e;
+        } finally {
+            metrics.emit(logger, event);
         }
     }
 
+    /**
+     * Records a stabilization poll in the metrics of the current invocation and returns its outcome.
+     */
+    protected boolean recordStabilizationPoll(final boolean stabilized) {
+        return metrics.recordStabilizationPoll(stabilized);
+    }
+
+    private String getAction() {
+        return getClass().getSimpleName().replace("Handler", "");
+    }
+
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                                    final ResourceHandlerRequest<ResourceModel> request,
                                                                                    final CallbackContext callbackContext,
@@ -78,16 +145,28 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                                                                           final ProgressEvent<ResourceModel, CallbackContext> progress) {
 
         return proxy.initiate("AWS-MemoryDB-Cluster::stabilizeCluster", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                    .translateToServiceRequest(Function.identity()).backoffDelay(STABILIZATION_DELAY).makeServiceCall(EMPTY_CALL)
-                    .stabilize((resourceModel, response, client, model, callbackContext) -> isStabilized(proxy, client, model)).progress();
+                    .translateToServiceRequest(Function.identity())
+                    .backoffDelay(CREATE_STABILIZATION_DELAY.observing(progress.getCallbackContext()::getObservedStatus)).makeServiceCall(EMPTY_CALL)
+                    .stabilize((resourceModel, response, client, model, callbackContext) -> isStabilized(proxy, client, model, callbackContext))
+                    .retryErrorFilter((awsRequest, exception, client, model, context) -> isThrottled(exception)).progress();
+    }
+
+    /**
+     * Retry filter of the call chains: a call or poll throttled by the service or by the {@link DescribeRateLimiter}
+     * is tried again after the backoff delay of the chain instead of failing the handler.
+     */
+    protected static boolean isThrottled(final Exception exception) {
+        return DescribeRateLimiter.isThrottled(exception);
     }
 
     protected Boolean isStabilized(final AmazonWebServicesClientProxy proxy,
                                    final ProxyClient<MemoryDbClient> client,
-                                   final ResourceModel model) {
+                                   final ResourceModel model,
+                                   final CallbackContext callbackContext) {
         try {
-            final Cluster cluster = getCluster(proxy, client, model);
-            return STABILIZED_STATUS.equalsIgnoreCase(cluster.status());
+            final Cluster cluster = getCluster(proxy, client, model, false);
+            callbackContext.setObservedStatus(cluster.status());
+            return recordStabilizationPoll(STABILIZED_STATUS.equalsIgnoreCase(cluster.status()));
         } catch (ClusterNotFoundException e) {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, e.getMessage());
         } catch (Exception e) {
@@ -105,10 +184,28 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     public Cluster getCluster(final AmazonWebServicesClientProxy proxy,
                               final ProxyClient<MemoryDbClient> client,
                               final ResourceModel model) {
+        return getCluster(proxy, client, model, true);
+    }
+
+    /**
+     * @param showShardDetails whether the shards and their nodes are needed, e.g. to compute the replica count.
+     *                         Status polling should leave it off. Only clusters described with their shard details
+     *                         are kept for the reads that follow.
+     */
+    public Cluster getCluster(final AmazonWebServicesClientProxy proxy,
+                              final ProxyClient<MemoryDbClient> client,
+                              final ResourceModel model,
+                              final boolean showShardDetails) {
         try {
+            final DescribeClustersRequest request = showShardDetails
+                    ? Translator.translateToReadRequest(model) : Translator.translateToStatusRequest(model);
             final DescribeClustersResponse response =
-                    proxy.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model), client.client()::describeClusters);
-            return response.clusters().stream().findFirst().get();
+                    proxy.injectCredentialsAndInvokeV2(request, client.client()::describeClusters);
+            final Cluster cluster = response.clusters().stream().findFirst().get();
+            if (showShardDetails) {
+                describedClusters.put(model.getClusterName(), cluster);
+            }
+            return cluster;
         } catch (ClusterNotFoundException e) {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, e.getMessage());
         } catch (Exception e) {
@@ -125,8 +222,15 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 .initiate("AWS-MemoryDB-Cluster::Describe", proxyClient, progress.getResourceModel(),
                         progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToReadRequest)
-                .makeServiceCall((awsRequest, client) -> handleExceptions(() ->
-                        client.injectCredentialsAndInvokeV2(awsRequest, client.client()::describeClusters)))
+                .makeServiceCall((awsRequest, client) -> handleExceptions(() -> {
+                    final Cluster describedCluster = describedClusters.get(awsRequest.clusterName());
+                    if (describedCluster != null) {
+                        return DescribeClustersResponse.builder().clusters(describedCluster).build();
+                    }
+                    final DescribeClustersResponse response = client.injectCredentialsAndInvokeV2(awsRequest, client.client()::describeClusters);
+                    response.clusters().stream().findFirst().ifPresent(cluster -> describedClusters.put(awsRequest.clusterName(), cluster));
+                    return response;
+                }))
                 .done((describeClustersRequest, describeClustersResponse, proxyInvocation, resourceModel, context) ->
                         ProgressEvent.progress(Translator.translateFromReadResponse(describeClustersResponse), context));
     }
@@ -172,7 +276,23 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         }
     }
 
+    protected void invalidateDescribedCluster(final ResourceModel model) {
+        describedClusters.remove(model.getClusterName());
+    }
+
     protected boolean isArnPresent(ResourceModel model) {
         return model.getARN() != null && !model.getARN().isEmpty();
     }
+
+    /**
+     * Builds the ARN of the resource from the account and region of the request, so that ListTags can be issued
+     * without waiting for the describe call. Returns null when the request does not carry them.
+     */
+    protected static String buildArn(final ResourceHandlerRequest<ResourceModel> request, final String name) {
+        return ConcurrentListTags.buildArn(request, ARN_RESOURCE_TYPE, name);
+    }
+
+    protected ListTagsResponse joinListTags(final CompletableFuture<ListTagsResponse> listTags) {
+        return handleExceptions(() -> ConcurrentListTags.join(listTags));
+    }
 }
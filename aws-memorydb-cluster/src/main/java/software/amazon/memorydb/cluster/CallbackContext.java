@@ -1,5 +1,7 @@
 package software.amazon.memorydb.cluster;
 
+import java.util.List;
+
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 @lombok.Getter
@@ -7,4 +9,38 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    /**
+     * Status of the cluster seen by the last stabilization poll, which sets the minimum delay before the next one.
+     */
+    private String observedStatus;
+    /**
+     * Whether the references of the cluster were checked by {@link ClusterPreflight} before creating it.
+     */
+    private boolean preflightCompleted;
+    /**
+     * Ordered UpdateCluster requests planned on the first invocation of the update handler, each one encoded with
+     * {@link ClusterUpdateFieldType#toMask(java.util.Set)}.
+     */
+    private List<Integer> updatePlan;
+    /**
+     * Number of requests of {@link #updatePlan} that have been issued and stabilized.
+     */
+    private int completedUpdateSteps;
+    /**
+     * Progress of the resharding or replica scaling step in flight, see {@link ShardProgress}.
+     */
+    private Integer shardProgressPercent;
+    private String shardProgressMessage;
+    /**
+     * Time of the poll that measured {@link #shardProgressPercent}, in epoch milliseconds.
+     */
+    private Long shardProgressMillis;
+    /**
+     * Delay before the next poll estimated from the progress rate, null while progress is not moving.
+     */
+    private Long shardProgressDelayMillis;
+    /**
+     * Number of shards of the cluster before resharding, which the resharding progress is measured against.
+     */
+    private Integer reshardingStartShards;
 }
@@ -0,0 +1,134 @@
+package software.amazon.memorydb.cluster;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.AclNotFoundException;
+import software.amazon.awssdk.services.memorydb.model.EngineVersionInfo;
+import software.amazon.awssdk.services.memorydb.model.ParameterGroup;
+import software.amazon.awssdk.services.memorydb.model.ParameterGroupNotFoundException;
+import software.amazon.awssdk.services.memorydb.model.SubnetGroupNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Checks the subnet group, parameter group and ACL referenced by a cluster before it is created, so that a wrong name
+ * or a parameter group of another engine version fails the request right away instead of after a create and
+ * stabilization cycle. The lookups are issued concurrently. A lookup that fails for any other reason than a missing
+ * resource, or does not answer in time, is skipped and left to CreateCluster to report.
+ */
+final class ClusterPreflight {
+    static final String SUBNET_GROUP_NOT_FOUND = "Subnet group %s does not exist.";
+    static final String PARAMETER_GROUP_NOT_FOUND = "Parameter group %s does not exist.";
+    static final String ACL_NOT_FOUND = "ACL %s does not exist.";
+    static final String PARAMETER_GROUP_FAMILY_MISMATCH =
+            "Parameter group %s of family %s is not compatible with engine version %s, which requires family %s.";
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final ExecutorService PREFLIGHT_EXECUTOR = Executors.newFixedThreadPool(4, runnable -> {
+        final Thread thread = new Thread(runnable, "memorydb-preflight");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ClusterPreflight() {
+    }
+
+    /**
+     * @throws CfnInvalidRequestException listing every reference of the model that cannot be used
+     */
+    static void check(final ProxyClient<MemoryDbClient> proxyClient, final ResourceModel model, final Logger logger) {
+        final CompletableFuture<Boolean> subnetGroupExists = model.getSubnetGroupName() == null ? null
+                : lookup(() -> exists(() -> proxyClient.injectCredentialsAndInvokeV2(
+                        Translator.translateToDescribeSubnetGroupRequest(model), proxyClient.client()::describeSubnetGroups)));
+        final CompletableFuture<Optional<ParameterGroup>> parameterGroup = model.getParameterGroupName() == null ? null
+                : lookup(() -> {
+                    try {
+                        return proxyClient.injectCredentialsAndInvokeV2(Translator.translateToDescribeParameterGroupRequest(model),
+                                proxyClient.client()::describeParameterGroups).parameterGroups().stream().findFirst();
+                    } catch (final ParameterGroupNotFoundException e) {
+                        return Optional.<ParameterGroup>empty();
+                    }
+                });
+        final CompletableFuture<Boolean> aclExists = model.getACLName() == null ? null
+                : lookup(() -> exists(() -> proxyClient.injectCredentialsAndInvokeV2(
+                        Translator.translateToDescribeAclRequest(model), proxyClient.client()::describeACLs)));
+        // the family only needs to be checked when the template pins both the engine version and the parameter group
+        final CompletableFuture<List<EngineVersionInfo>> engineVersions = model.getEngineVersion() == null || parameterGroup == null ? null
+                : lookup(() -> proxyClient.injectCredentialsAndInvokeV2(Translator.translateToDescribeEngineVersionsRequest(model),
+                        proxyClient.client()::describeEngineVersions).engineVersions());
+
+        final long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        final List<String> problems = new ArrayList<>();
+        if (Boolean.FALSE.equals(await(subnetGroupExists, deadline, logger))) {
+            problems.add(String.format(SUBNET_GROUP_NOT_FOUND, model.getSubnetGroupName()));
+        }
+        final Optional<ParameterGroup> describedParameterGroup = await(parameterGroup, deadline, logger);
+        if (describedParameterGroup != null && !describedParameterGroup.isPresent()) {
+            problems.add(String.format(PARAMETER_GROUP_NOT_FOUND, model.getParameterGroupName()));
+        }
+        if (Boolean.FALSE.equals(await(aclExists, deadline, logger))) {
+            problems.add(String.format(ACL_NOT_FOUND, model.getACLName()));
+        }
+        final List<EngineVersionInfo> describedEngineVersions = await(engineVersions, deadline, logger);
+        if (describedParameterGroup != null && describedParameterGroup.isPresent()
+                && describedEngineVersions != null && !describedEngineVersions.isEmpty()) {
+            final String family = describedParameterGroup.get().family();
+            final Set<String> compatibleFamilies = describedEngineVersions.stream()
+                    .map(EngineVersionInfo::parameterGroupFamily)
+                    .collect(Collectors.toSet());
+            if (!compatibleFamilies.contains(family)) {
+                problems.add(String.format(PARAMETER_GROUP_FAMILY_MISMATCH, model.getParameterGroupName(), family,
+                        model.getEngineVersion(), String.join(" or ", compatibleFamilies)));
+            }
+        }
+
+        if (!problems.isEmpty()) {
+            throw new CfnInvalidRequestException(String.join(" ", problems));
+        }
+    }
+
+    private static <T> CompletableFuture<T> lookup(final Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, PREFLIGHT_EXECUTOR);
+    }
+
+    private static Boolean exists(final Supplier<?> describe) {
+        try {
+            describe.get();
+            return true;
+        } catch (final SubnetGroupNotFoundException | AclNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return the result of the lookup, or null when it was not issued, failed or did not answer before the deadline
+     */
+    private static <T> T await(final CompletableFuture<T> lookup, final long deadline, final Logger logger) {
+        if (lookup == null) {
+            return null;
+        }
+        try {
+            return lookup.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (final ExecutionException | TimeoutException e) {
+            logger.log(String.format("Skipping preflight lookup: %s", e.getCause() != null ? e.getCause() : e));
+            return null;
+        }
+    }
+}
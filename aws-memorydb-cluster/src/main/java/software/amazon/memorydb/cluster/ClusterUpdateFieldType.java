@@ -1,17 +1,56 @@
 package software.amazon.memorydb.cluster;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum ClusterUpdateFieldType {
-    DESCRIPTION,
-    SECURITY_GROUP_IDS,
-    MAINTENANCE_WINDOW,
-    SNS_TOPIC_ARN,
-    SNS_TOPIC_STATUS,
-    PARAMETER_GROUP_NAME,
-    SNAPSHOT_WINDOW,
-    SNAPSHOT_RETENTION_LIMIT,
-    NODE_TYPE,
-    ENGINE_VERSION,
-    REPLICA_CONFIGURATION,
-    SHARD_CONFIGURATION,
-    ACL_NAME
+    DESCRIPTION(false),
+    SECURITY_GROUP_IDS(false),
+    MAINTENANCE_WINDOW(false),
+    SNS_TOPIC_ARN(false),
+    SNS_TOPIC_STATUS(false),
+    PARAMETER_GROUP_NAME(false),
+    SNAPSHOT_WINDOW(false),
+    SNAPSHOT_RETENTION_LIMIT(false),
+    NODE_TYPE(true),
+    ENGINE_VERSION(true),
+    REPLICA_CONFIGURATION(true),
+    SHARD_CONFIGURATION(true),
+    ACL_NAME(false);
+
+    /**
+     * Standalone fields trigger a data plane change (scaling, resharding or an engine upgrade) and are always sent in
+     * their own UpdateCluster request. All other fields can be coalesced into a single request.
+     */
+    private final boolean standalone;
+
+    ClusterUpdateFieldType(final boolean standalone) {
+        this.standalone = standalone;
+    }
+
+    public boolean isStandalone() {
+        return standalone;
+    }
+
+    /**
+     * Encodes a group of field types as a bit mask of their ordinals, used to persist the update plan in the callback
+     * context.
+     */
+    public static int toMask(final Set<ClusterUpdateFieldType> fieldTypes) {
+        int mask = 0;
+        for (final ClusterUpdateFieldType fieldType : fieldTypes) {
+            mask |= 1 << fieldType.ordinal();
+        }
+        return mask;
+    }
+
+    public static Set<ClusterUpdateFieldType> fromMask(final int mask) {
+        final Set<ClusterUpdateFieldType> fieldTypes = EnumSet.noneOf(ClusterUpdateFieldType.class);
+        for (final ClusterUpdateFieldType fieldType : values()) {
+            if ((mask & (1 << fieldType.ordinal())) != 0) {
+                fieldTypes.add(fieldType);
+            }
+        }
+        return fieldTypes;
+    }
 }
@@ -44,10 +44,15 @@ public class CreateHandler extends BaseHandlerStd {
             throw new CfnInvalidRequestException(e.getMessage());
         }
 
+        // later invocations only poll the cluster that passed it
+        if (!callbackContext.isPreflightCompleted()) {
+            ClusterPreflight.check(proxyClient, desiredResourceState, logger);
+            callbackContext.setPreflightCompleted(true);
+        }
 
         return ProgressEvent.progress(desiredResourceState, callbackContext).then(progress -> createCluster(proxy, proxyClient, progress, request.getDesiredResourceTags()))
                 .then(progress -> waitForClusterAvailableStatus(proxy, proxyClient, progress))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(progress -> new ReadHandler(this).handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> createCluster(final AmazonWebServicesClientProxy proxy,
@@ -56,9 +61,10 @@ public class CreateHandler extends BaseHandlerStd {
 
         return proxy.initiate("AWS-memorydb-Cluster::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest((resourceModel) -> Translator.translateToCreateRequest(resourceModel, tags))
-                .backoffDelay(STABILIZATION_DELAY)
+                .backoffDelay(CREATE_STABILIZATION_DELAY)
                 .makeServiceCall((awsRequest, memorydbClientProxyClient) -> handleExceptions(() ->
                         memorydbClientProxyClient.injectCredentialsAndInvokeV2(awsRequest, memorydbClientProxyClient.client()::createCluster)))
+                .retryErrorFilter((awsRequest, exception, client, model, context) -> isThrottled(exception))
                 .progress();
     }
 
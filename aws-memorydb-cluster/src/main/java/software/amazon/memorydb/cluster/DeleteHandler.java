@@ -2,6 +2,7 @@ package software.amazon.memorydb.cluster;
 
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.ClusterNotFoundException;
+import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -27,21 +28,26 @@ public class DeleteHandler extends BaseHandlerStd {
                                                                         final Logger logger) {
 
         return proxy.initiate("AWS-memorydb-Cluster::Delete", proxyClient, request.getDesiredResourceState(), progress.getCallbackContext())
-                    .translateToServiceRequest(Translator::translateToDeleteRequest).backoffDelay(STABILIZATION_DELAY)
+                    .translateToServiceRequest(Translator::translateToDeleteRequest)
+                    .backoffDelay(DELETE_STABILIZATION_DELAY.observing(progress.getCallbackContext()::getObservedStatus))
                 .makeServiceCall((awsRequest, client) -> handleExceptions(() ->
                         client.injectCredentialsAndInvokeV2(awsRequest, client.client()::deleteCluster)))
-                .stabilize((awsRequest, awsResponse, client, model, context) -> isDeleted(proxyClient, model))
+                .stabilize((awsRequest, awsResponse, client, model, context) -> isDeleted(proxyClient, model, context))
+                .retryErrorFilter((awsRequest, exception, client, model, context) -> isThrottled(exception))
                 .done((deleteClusterRequest, deleteClusterResponse, proxyInvocation, model, context) -> ProgressEvent
                         .defaultSuccessHandler(null));
     }
 
     private Boolean isDeleted(final ProxyClient<MemoryDbClient> proxyClient,
-                              final ResourceModel model) {
+                              final ResourceModel model,
+                              final CallbackContext callbackContext) {
         try {
-            proxyClient.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model), proxyClient.client()::describeClusters);
-            return false;
+            final DescribeClustersResponse response =
+                    proxyClient.injectCredentialsAndInvokeV2(Translator.translateToStatusRequest(model), proxyClient.client()::describeClusters);
+            response.clusters().stream().findFirst().ifPresent(cluster -> callbackContext.setObservedStatus(cluster.status()));
+            return recordStabilizationPoll(false);
         } catch (ClusterNotFoundException e) {
-            return true;
+            return recordStabilizationPoll(true);
         } catch (Exception e) {
             throw new CfnGeneralServiceException(e);
         }
@@ -1,25 +1,74 @@
 package software.amazon.memorydb.cluster;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.apache.commons.collections.CollectionUtils;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.memorydb.common.ConcurrentListTags;
 
 public class ListHandler extends BaseHandlerStd {
+    // Pages are fetched ahead of the caller until one of these budgets is exhausted
+    static final Duration LIST_TIME_BUDGET = Duration.ofSeconds(20);
+    static final int LIST_MAX_RESOURCE_MODELS = 100;
 
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                        final ResourceHandlerRequest<ResourceModel> request,
                                                                        final CallbackContext callbackContext,
                                                                        final ProxyClient<MemoryDbClient> proxyClient,
                                                                        final Logger logger) {
-        final DescribeClustersResponse response =
-                proxy.injectCredentialsAndInvokeV2(Translator.translateToListRequest(request.getNextToken()), proxyClient.client()::describeClusters);
+        final long deadline = System.nanoTime() + LIST_TIME_BUDGET.toNanos();
+        final List<ResourceModel> resourceModels = new ArrayList<>();
+        String nextToken = request.getNextToken();
+        do {
+            final DescribeClustersResponse response =
+                    proxy.injectCredentialsAndInvokeV2(Translator.translateToListRequest(nextToken), proxyClient.client()::describeClusters);
+            // only the translated models of each page are kept
+            resourceModels.addAll(withTags(Translator.translateFromListResponse(response), proxyClient, logger));
+            nextToken = response.nextToken();
+        } while (nextToken != null && resourceModels.size() < LIST_MAX_RESOURCE_MODELS && System.nanoTime() < deadline);
+
+        logger.log(String.format("Listed %d clusters, next token present: %s", resourceModels.size(), nextToken != null));
+        return ProgressEvent.<ResourceModel, CallbackContext>builder().resourceModels(resourceModels)
+                                                                      .nextToken(nextToken).status(OperationStatus.SUCCESS).build();
+    }
 
-        return ProgressEvent.<ResourceModel, CallbackContext>builder().resourceModels(Translator.translateFromListResponse(response))
-                                                                      .nextToken(response.nextToken()).status(OperationStatus.SUCCESS).build();
+    /**
+     * Fills in the tags of a page of clusters, with at most as many concurrent ListTags calls as the executor of
+     * {@link ConcurrentListTags} allows. A cluster whose tags cannot be listed, e.g. because it was
+     * deleted in the meantime or the call was throttled, is returned without tags rather than failing the page.
+     */
+    private List<ResourceModel> withTags(final List<ResourceModel> resourceModels,
+                                         final ProxyClient<MemoryDbClient> proxyClient,
+                                         final Logger logger) {
+        final List<CompletableFuture<ListTagsResponse>> listTags = resourceModels.stream()
+                .map(model -> isArnPresent(model) ? ConcurrentListTags.listTagsAsync(proxyClient, model.getARN()) : null)
+                .collect(Collectors.toList());
+        for (int i = 0; i < resourceModels.size(); i++) {
+            if (listTags.get(i) == null) {
+                continue;
+            }
+            try {
+                final ListTagsResponse listTagsResponse = joinListTags(listTags.get(i));
+                if (CollectionUtils.isNotEmpty(listTagsResponse.tagList())) {
+                    resourceModels.get(i).setTags(Translator.translateTags(listTagsResponse.tagList()));
+                }
+            } catch (final BaseHandlerException e) {
+                logger.log(String.format("Listing cluster %s without tags: %s", resourceModels.get(i).getClusterName(), e.getMessage()));
+            }
+        }
+        return resourceModels;
     }
 }
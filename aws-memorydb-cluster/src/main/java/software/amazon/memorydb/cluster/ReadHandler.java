@@ -1,23 +1,52 @@
 package software.amazon.memorydb.cluster;
 
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.commons.collections.CollectionUtils;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.memorydb.common.ConcurrentListTags;
 
 
 public class ReadHandler extends BaseHandlerStd {
 
+    public ReadHandler() {
+        super();
+    }
+
+    ReadHandler(final BaseHandlerStd invokingHandler) {
+        super(invokingHandler);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                           final ResourceHandlerRequest<ResourceModel> request,
                                                                           final CallbackContext callbackContext,
                                                                           final ProxyClient<MemoryDbClient> proxyClient,
                                                                           final Logger logger) {
+        final String arn = buildArn(request, request.getDesiredResourceState().getClusterName());
+        if (arn == null) {
+            // the ARN is only known once the cluster has been described
+            return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+                    .then(progress -> describeClusters(proxy, progress, proxyClient))
+                    .then(progress -> listTags(proxy, progress, proxyClient))
+                    .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
+        }
+
+        final CompletableFuture<ListTagsResponse> listTags = ConcurrentListTags.listTagsAsync(proxyClient, arn);
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(progress -> describeClusters(proxy, progress, proxyClient))
-                .then(progress -> listTags(proxy, progress, proxyClient))
+                .then(progress -> {
+                    final ListTagsResponse listTagsResponse = joinListTags(listTags);
+                    if (CollectionUtils.isNotEmpty(listTagsResponse.tagList())) {
+                        progress.getResourceModel().setTags(Translator.translateTags(listTagsResponse.tagList()));
+                    }
+                    return progress;
+                })
                 .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
     }
 }
@@ -0,0 +1,123 @@
+package software.amazon.memorydb.cluster;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import software.amazon.awssdk.services.memorydb.model.Cluster;
+import software.amazon.awssdk.services.memorydb.model.Node;
+import software.amazon.awssdk.services.memorydb.model.Shard;
+
+/**
+ * Progress of a resharding or replica scaling update, computed from the shard and node details returned by
+ * DescribeClusters.
+ */
+@lombok.Getter
+final class ShardProgress {
+    static final int TOTAL_SLOTS = 16384;
+    private static final String AVAILABLE_STATUS = "available";
+    private static final Pattern SLOT_RANGE = Pattern.compile("(\\d+)(?:-(\\d+))?");
+
+    private final String operation;
+    private final int percentDone;
+    private final int completedShards;
+    private final int totalShards;
+
+    private ShardProgress(final String operation, final int percentDone, final int completedShards, final int totalShards) {
+        this.operation = operation;
+        // never report completion before every shard is done
+        this.percentDone = completedShards < totalShards ? Math.min(percentDone, 99) : percentDone;
+        this.completedShards = completedShards;
+        this.totalShards = totalShards;
+    }
+
+    /**
+     * Resharding is measured by the share of the slots to migrate that already moved, against the layout of
+     * {@code startShards} shards evenly holding the key space. Scaling out moves {@code 1 - start/target} of the slots
+     * to the new shards, which are the ones holding the fewest slots; scaling in moves {@code 1 - target/start} of them
+     * off the shards being removed, which are emptied first.
+     *
+     * @param startShards number of shards before resharding, 0 when unknown
+     */
+    static ShardProgress ofResharding(final Cluster cluster, final int startShards, final int targetShards) {
+        if (targetShards <= 0) {
+            return new ShardProgress("Resharding", 0, 0, 0);
+        }
+        final List<Shard> shards = cluster.shards();
+        final boolean isShardCountReached = shards.size() == targetShards;
+        // slots of the shards that are being added or removed, least loaded first
+        final long[] movingShardSlots = shards.stream()
+                .mapToLong(shard -> countSlots(shard.slots()))
+                .sorted()
+                .limit(Math.max(0, shards.size() - Math.min(startShards, targetShards)))
+                .toArray();
+        final long slotsToMove;
+        final long movedSlots;
+        if (startShards <= 0 || startShards == targetShards) {
+            slotsToMove = 0;
+            movedSlots = 0;
+        } else if (startShards < targetShards) {
+            slotsToMove = (long) TOTAL_SLOTS * (targetShards - startShards) / targetShards;
+            movedSlots = Arrays.stream(movingShardSlots).sum();
+        } else {
+            slotsToMove = (long) TOTAL_SLOTS * (startShards - targetShards) / startShards;
+            movedSlots = slotsToMove - Arrays.stream(movingShardSlots).sum();
+        }
+        final int percentDone = slotsToMove == 0
+                ? (isShardCountReached ? 100 : 0)
+                : (int) Math.max(0L, Math.min(100L, movedSlots * 100 / slotsToMove));
+        final long completedShards = shards.stream()
+                .filter(shard -> isAvailable(shard.status()) && Math.abs(countSlots(shard.slots()) * targetShards - TOTAL_SLOTS) < targetShards)
+                .count();
+        return new ShardProgress("Resharding", isShardCountReached ? percentDone : Math.min(percentDone, 99),
+                (int) Math.min(completedShards, targetShards), targetShards);
+    }
+
+    /**
+     * Replica scaling is measured per shard, by the share of the target node count that is available when adding
+     * replicas, or by how close the node count is to the target when removing them.
+     */
+    static ShardProgress ofReplicaScaling(final Cluster cluster, final int targetReplicas) {
+        final List<Shard> shards = cluster.shards();
+        final int targetNodes = targetReplicas + 1;
+        double progress = 0;
+        int completedShards = 0;
+        for (final Shard shard : shards) {
+            final int nodes = shard.nodes().size();
+            final long availableNodes = shard.nodes().stream().map(Node::status).filter(ShardProgress::isAvailable).count();
+            progress += nodes > targetNodes ? (double) targetNodes / nodes : Math.min(1.0, (double) availableNodes / targetNodes);
+            if (isAvailable(shard.status()) && nodes == targetNodes && availableNodes == targetNodes) {
+                completedShards++;
+            }
+        }
+        final int percentDone = shards.isEmpty() ? 0 : (int) (progress * 100 / shards.size());
+        return new ShardProgress("Replica scaling", percentDone, completedShards, shards.size());
+    }
+
+    String getMessage() {
+        return String.format("%s: %d%% done, %d of %d shards complete", operation, percentDone, completedShards, totalShards);
+    }
+
+    /**
+     * Counts the slots of a shard, described as comma separated slots or slot ranges, e.g. "0-5460,5462". Anything
+     * else is ignored.
+     */
+    static int countSlots(final String slots) {
+        if (slots == null || slots.trim().isEmpty()) {
+            return 0;
+        }
+        int count = 0;
+        for (final String range : slots.split(",")) {
+            final Matcher matcher = SLOT_RANGE.matcher(range.trim());
+            if (matcher.matches()) {
+                count += matcher.group(2) == null ? 1 : Integer.parseInt(matcher.group(2)) - Integer.parseInt(matcher.group(1)) + 1;
+            }
+        }
+        return count;
+    }
+
+    private static boolean isAvailable(final String status) {
+        return AVAILABLE_STATUS.equalsIgnoreCase(status);
+    }
+}
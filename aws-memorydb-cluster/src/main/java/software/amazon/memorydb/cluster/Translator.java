@@ -2,6 +2,7 @@ package software.amazon.memorydb.cluster;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -13,8 +14,12 @@ import org.apache.commons.collections.CollectionUtils;
 import software.amazon.awssdk.services.memorydb.model.Cluster;
 import software.amazon.awssdk.services.memorydb.model.CreateClusterRequest;
 import software.amazon.awssdk.services.memorydb.model.DeleteClusterRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeAcLsRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeEngineVersionsRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeSubnetGroupsRequest;
 import software.amazon.awssdk.services.memorydb.model.ListTagsRequest;
 import software.amazon.awssdk.services.memorydb.model.ReplicaConfigurationRequest;
 import software.amazon.awssdk.services.memorydb.model.SecurityGroupMembership;
@@ -124,6 +129,14 @@ public class Translator {
         return DescribeClustersRequest.builder().clusterName(model.getClusterName()).showShardDetails(true).build();
     }
 
+    /**
+     * Describe request used by the stabilization and delete polling loops, which only need the cluster status and
+     * configuration, not the node topology of every shard.
+     */
+    static DescribeClustersRequest translateToStatusRequest(final ResourceModel model) {
+        return DescribeClustersRequest.builder().clusterName(model.getClusterName()).showShardDetails(false).build();
+    }
+
     static ListTagsRequest translateToListTagsRequest(final ResourceModel model) {
         return translateToListTagsRequest(model.getARN());
     }
@@ -132,8 +145,42 @@ public class Translator {
         return ListTagsRequest.builder().resourceArn(arn).build();
     }
 
+    static DescribeSubnetGroupsRequest translateToDescribeSubnetGroupRequest(final ResourceModel model) {
+        return DescribeSubnetGroupsRequest.builder().subnetGroupName(model.getSubnetGroupName()).build();
+    }
+
+    static DescribeParameterGroupsRequest translateToDescribeParameterGroupRequest(final ResourceModel model) {
+        return DescribeParameterGroupsRequest.builder().parameterGroupName(model.getParameterGroupName()).build();
+    }
+
+    static DescribeAcLsRequest translateToDescribeAclRequest(final ResourceModel model) {
+        return DescribeAcLsRequest.builder().aclName(model.getACLName()).build();
+    }
+
+    static DescribeEngineVersionsRequest translateToDescribeEngineVersionsRequest(final ResourceModel model) {
+        return DescribeEngineVersionsRequest.builder().engineVersion(model.getEngineVersion()).build();
+    }
+
     static UpdateClusterRequest translateToUpdateRequest(final ResourceModel model, ClusterUpdateFieldType fieldType) {
-        UpdateClusterRequest.Builder builder = UpdateClusterRequest.builder().clusterName(model.getClusterName());
+        return translateToUpdateRequest(model, EnumSet.of(fieldType));
+    }
+
+    /**
+     * Request to update a group of cluster properties in a single UpdateCluster call
+     *
+     * @param model resource model
+     * @param fieldTypes properties to include in the request
+     * @return awsRequest the aws service request to modify the cluster
+     */
+    static UpdateClusterRequest translateToUpdateRequest(final ResourceModel model, final Set<ClusterUpdateFieldType> fieldTypes) {
+        final UpdateClusterRequest.Builder builder = UpdateClusterRequest.builder().clusterName(model.getClusterName());
+        fieldTypes.forEach(fieldType -> translateToUpdateRequest(builder, model, fieldType));
+        return builder.build();
+    }
+
+    private static void translateToUpdateRequest(final UpdateClusterRequest.Builder builder,
+                                                 final ResourceModel model,
+                                                 final ClusterUpdateFieldType fieldType) {
         switch (fieldType) {
             case DESCRIPTION:
                 builder.description(model.getDescription());
@@ -174,13 +221,12 @@ public class Translator {
                 builder.shardConfiguration(ShardConfigurationRequest.builder().shardCount(model.getNumShards()).build());
                 break;
             case ACL_NAME:
-                builder.aclName(model.getACLName()).build();
+                builder.aclName(model.getACLName());
                 break;
             default:
                 throw new RuntimeException("Unknown ClusterUpdateFieldType " + fieldType);
 
         }
-        return builder.build();
     }
 
     static ResourceModel translateFromReadResponse(final DescribeClustersResponse response) {
@@ -223,12 +269,23 @@ public class Translator {
         return DeleteClusterRequest.builder().clusterName(model.getClusterName()).finalSnapshotName(model.getFinalSnapshotName()).build();
     }
 
+    /**
+     * List output skips shard details, so the replica count is only reported when the service returned shards anyway.
+     * The shards and their nodes make up most of a page of large clusters, and the replica count can only be derived
+     * from them. List callers need the primary identifier; Read returns the complete model, replica count included.
+     */
     static DescribeClustersRequest translateToListRequest(final String nextToken) {
-        return DescribeClustersRequest.builder().nextToken(nextToken).showShardDetails(true).build();
+        return DescribeClustersRequest.builder().nextToken(nextToken).showShardDetails(false).build();
     }
 
     static List<ResourceModel> translateFromListResponse(final DescribeClustersResponse describeClustersResponse) {
-        return streamOfOrEmpty(describeClustersResponse.clusters()).map(cluster -> translateFromReadResponse(cluster)).collect(Collectors.toList());
+        return streamOfOrEmpty(describeClustersResponse.clusters()).map(cluster -> {
+            final ResourceModel model = translateFromReadResponse(cluster);
+            if (cluster.shards().isEmpty()) {
+                model.setNumReplicasPerShard(null);
+            }
+            return model;
+        }).collect(Collectors.toList());
     }
 
     public static UntagResourceRequest translateToUntagResourceRequest(String arn, Set<software.amazon.memorydb.cluster.Tag> tagsToRemove) {
@@ -22,10 +22,15 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public class UpdateHandler extends BaseHandlerStd {
 
@@ -36,19 +41,7 @@ public class UpdateHandler extends BaseHandlerStd {
                                                                           final Logger logger) {
         logger.log(String.format("Resource model: %s", request.getDesiredResourceState()));
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.DESCRIPTION, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.SECURITY_GROUP_IDS, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.MAINTENANCE_WINDOW, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.SNS_TOPIC_ARN, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.SNS_TOPIC_STATUS, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.SNAPSHOT_WINDOW, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.SNAPSHOT_RETENTION_LIMIT, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.NODE_TYPE, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.ENGINE_VERSION, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.PARAMETER_GROUP_NAME, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.REPLICA_CONFIGURATION, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.SHARD_CONFIGURATION, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.ACL_NAME, logger))
+                .then(progress -> updateCluster(proxy, proxyClient, progress, request, logger))
                 .then(progress -> describeClusters(proxy, progress, proxyClient))
                 .then(progress -> tagResource(proxy, proxyClient, progress, request, logger))
                 .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
@@ -58,19 +51,83 @@ public class UpdateHandler extends BaseHandlerStd {
                                                                 final ProxyClient<MemoryDbClient> proxyClient,
                                                                 final ProgressEvent<ResourceModel, CallbackContext> progress,
                                                                 final ResourceHandlerRequest<ResourceModel> request,
-                                                                final ClusterUpdateFieldType fieldType,
                                                                 final Logger logger) {
 
         final ResourceModel desiredResourceState = request.getDesiredResourceState();
-        final ResourceModel currentResourceState = request.getPreviousResourceState();
+        final CallbackContext callbackContext = progress.getCallbackContext();
 
-        if (!isUpdateNeeded(desiredResourceState, currentResourceState, fieldType, logger)) {
-            return progress;
+        // The plan is computed once, callbacks resume from the first step that has not completed yet
+        if (callbackContext.getUpdatePlan() == null) {
+            callbackContext.setUpdatePlan(planUpdate(desiredResourceState, request.getPreviousResourceState(), logger).stream()
+                    .map(ClusterUpdateFieldType::toMask)
+                    .collect(Collectors.toList()));
+            if (request.getPreviousResourceState() != null) {
+                callbackContext.setReshardingStartShards(request.getPreviousResourceState().getNumShards());
+            }
         }
 
-        return updateCluster(proxy, proxyClient, progress, desiredResourceState, fieldType, logger);
+        final List<Integer> plan = callbackContext.getUpdatePlan();
+        ProgressEvent<ResourceModel, CallbackContext> result = progress;
+        for (int step = callbackContext.getCompletedUpdateSteps(); step < plan.size(); step++) {
+            final Set<ClusterUpdateFieldType> fieldTypes = ClusterUpdateFieldType.fromMask(plan.get(step));
+            final int completedSteps = step + 1;
+            result = result.then(p -> updateCluster(proxy, proxyClient, p, desiredResourceState, fieldTypes, logger))
+                    .then(p -> {
+                        p.getCallbackContext().setCompletedUpdateSteps(completedSteps);
+                        p.getCallbackContext().setShardProgressPercent(null);
+                        p.getCallbackContext().setShardProgressMessage(null);
+                        p.getCallbackContext().setShardProgressMillis(null);
+                        p.getCallbackContext().setShardProgressDelayMillis(null);
+                        return p;
+                    });
+        }
+        if (result.isInProgressCallbackDelay() && callbackContext.getShardProgressMessage() != null) {
+            result.setMessage(callbackContext.getShardProgressMessage());
+        }
+        return result;
     }
 
+    /**
+     * Groups the modified fields into the ordered list of UpdateCluster calls to issue.
+     *
+     * All fields that the service accepts together are coalesced into the first request, so they go through a single
+     * stabilization. Standalone fields (node type, engine version, replica and shard configuration) follow, one request
+     * each. A parameter group change is sent along with the engine version when both are modified, because the new
+     * parameter group may only be valid for the new engine version.
+     */
+    List<Set<ClusterUpdateFieldType>> planUpdate(final ResourceModel desiredResourceState,
+                                                 final ResourceModel currentResourceState,
+                                                 final Logger logger) {
+        final Set<ClusterUpdateFieldType> modified = EnumSet.noneOf(ClusterUpdateFieldType.class);
+        for (final ClusterUpdateFieldType fieldType : ClusterUpdateFieldType.values()) {
+            if (isUpdateNeeded(desiredResourceState, currentResourceState, fieldType, logger)) {
+                modified.add(fieldType);
+            }
+        }
+
+        final boolean isEngineVersionModified = modified.contains(ClusterUpdateFieldType.ENGINE_VERSION);
+        final Set<ClusterUpdateFieldType> coalesced = EnumSet.noneOf(ClusterUpdateFieldType.class);
+        final List<Set<ClusterUpdateFieldType>> plan = new ArrayList<>();
+
+        for (final ClusterUpdateFieldType fieldType : modified) {
+            if (fieldType == ClusterUpdateFieldType.PARAMETER_GROUP_NAME && isEngineVersionModified) {
+                continue;
+            }
+            if (fieldType == ClusterUpdateFieldType.ENGINE_VERSION && modified.contains(ClusterUpdateFieldType.PARAMETER_GROUP_NAME)) {
+                plan.add(EnumSet.of(fieldType, ClusterUpdateFieldType.PARAMETER_GROUP_NAME));
+            } else if (fieldType.isStandalone()) {
+                plan.add(EnumSet.of(fieldType));
+            } else {
+                coalesced.add(fieldType);
+            }
+        }
+
+        if (!coalesced.isEmpty()) {
+            plan.add(0, coalesced);
+        }
+        logger.log(String.format("Cluster update plan: %s", plan));
+        return plan;
+    }
 
     private boolean isUpdateNeeded(final Map<String, String> desiredResourceTags,
                                    final Map<String, String> currentResourceTags) {
@@ -136,20 +193,39 @@ public class UpdateHandler extends BaseHandlerStd {
                                                                 final ResourceModel desiredResourceState,
                                                                 final ClusterUpdateFieldType fieldType,
                                                                 final Logger logger) {
-        logger.log(String.format("Updating fieldType : %s" , fieldType.name()));
-        return proxy.initiate("AWS-memorydb-Cluster::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(model -> Translator.translateToUpdateRequest(model, fieldType))
-                .backoffDelay(STABILIZATION_DELAY)
-                .makeServiceCall((awsRequest, memoryDbClientProxyClient) -> handleExceptions(() ->  memoryDbClientProxyClient.injectCredentialsAndInvokeV2(awsRequest, memoryDbClientProxyClient.client()::updateCluster)))
+        return updateCluster(proxy, proxyClient, progress, desiredResourceState, EnumSet.of(fieldType), logger);
+    }
+
+    ProgressEvent<ResourceModel, CallbackContext> updateCluster(final AmazonWebServicesClientProxy proxy,
+                                                                final ProxyClient<MemoryDbClient> proxyClient,
+                                                                final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                final ResourceModel desiredResourceState,
+                                                                final Set<ClusterUpdateFieldType> fieldTypes,
+                                                                final Logger logger) {
+        logger.log(String.format("Updating fieldTypes : %s" , fieldTypes));
+        return proxy.initiate(updateCallGraph(fieldTypes), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                .translateToServiceRequest(model -> Translator.translateToUpdateRequest(model, fieldTypes))
+                .backoffDelay(STABILIZATION_DELAY.observing(progress.getCallbackContext()::getObservedStatus,
+                        () -> progressDelay(progress.getCallbackContext())))
+                .makeServiceCall((awsRequest, memoryDbClientProxyClient) -> handleExceptions(() -> {
+                    invalidateDescribedCluster(desiredResourceState);
+                    return memoryDbClientProxyClient.injectCredentialsAndInvokeV2(awsRequest, memoryDbClientProxyClient.client()::updateCluster);
+                }))
                 .stabilize((awsRequest, awsResponse, client, model, context) -> {
                     try {
-                        final Cluster cluster = getCluster(proxy, client, model);
-                        boolean isStabilized = STABILIZED_STATUS.contains(cluster.status());
+                        // the replica count and the shard progress are derived from the shards, which only the full describe returns
+                        final boolean requiresShardDetails = requiresShardDetails(fieldTypes);
+                        final Cluster cluster = getCluster(proxy, client, model, requiresShardDetails);
+                        if (requiresShardDetails) {
+                            trackShardProgress(cluster, desiredResourceState, fieldTypes, context, logger);
+                        }
+                        context.setObservedStatus(cluster.status());
+                        boolean isStabilized = recordStabilizationPoll(STABILIZED_STATUS.contains(cluster.status()));
                         if (isStabilized == false) {
                             return false;
                         }
                         final ResourceModel postUpdateResourceState = Translator.translateFromReadResponse(cluster);
-                        if (isUpdateNeeded(desiredResourceState, postUpdateResourceState, fieldType, logger)) {
+                        if (fieldTypes.stream().anyMatch(fieldType -> isUpdateNeeded(desiredResourceState, postUpdateResourceState, fieldType, logger))) {
                             /* Resource has been stabilized, however update operation has not been completed.
                              * This is possible, since an update operation can fail to service failures (Example: requested
                              * node type is not currently available).
@@ -165,9 +241,59 @@ public class UpdateHandler extends BaseHandlerStd {
                         throw e;
                     }
                 })
+                .retryErrorFilter((awsRequest, exception, client, model, context) -> isThrottled(exception))
                 .progress();
     }
 
+    private void trackShardProgress(final Cluster cluster,
+                                    final ResourceModel desiredResourceState,
+                                    final Set<ClusterUpdateFieldType> fieldTypes,
+                                    final CallbackContext callbackContext,
+                                    final Logger logger) {
+        final boolean isResharding = fieldTypes.contains(ClusterUpdateFieldType.SHARD_CONFIGURATION);
+        final Integer target = isResharding ? desiredResourceState.getNumShards() : desiredResourceState.getNumReplicasPerShard();
+        if (target == null) {
+            return;
+        }
+        if (isResharding && callbackContext.getReshardingStartShards() == null) {
+            // the shards holding slots on the first poll, when the previous template did not declare a shard count
+            callbackContext.setReshardingStartShards((int) cluster.shards().stream()
+                    .filter(shard -> ShardProgress.countSlots(shard.slots()) > 0)
+                    .count());
+        }
+        final ShardProgress shardProgress = isResharding
+                ? ShardProgress.ofResharding(cluster, callbackContext.getReshardingStartShards(), target)
+                : ShardProgress.ofReplicaScaling(cluster, target);
+        final long now = System.currentTimeMillis();
+        final Integer previousPercent = callbackContext.getShardProgressPercent();
+        final Duration progressDelay = previousPercent == null || callbackContext.getShardProgressMillis() == null ? null
+                : STABILIZATION_DELAY.progressDelay(previousPercent, callbackContext.getShardProgressMillis(),
+                        shardProgress.getPercentDone(), now);
+        callbackContext.setShardProgressDelayMillis(progressDelay == null ? null : progressDelay.toMillis());
+        callbackContext.setShardProgressPercent(shardProgress.getPercentDone());
+        callbackContext.setShardProgressMillis(now);
+        callbackContext.setShardProgressMessage(shardProgress.getMessage());
+        logger.log(shardProgress.getMessage());
+    }
+
+    private static Duration progressDelay(final CallbackContext callbackContext) {
+        final Long progressDelayMillis = callbackContext.getShardProgressDelayMillis();
+        return progressDelayMillis == null ? null : Duration.ofMillis(progressDelayMillis);
+    }
+
+    private static boolean requiresShardDetails(final Set<ClusterUpdateFieldType> fieldTypes) {
+        return fieldTypes.contains(ClusterUpdateFieldType.REPLICA_CONFIGURATION)
+                || fieldTypes.contains(ClusterUpdateFieldType.SHARD_CONFIGURATION);
+    }
+
+    /**
+     * Every UpdateCluster request in the plan needs its own call graph, otherwise the request and response memoized in
+     * the callback context for the first request would be replayed for all the following ones.
+     */
+    private static String updateCallGraph(final Set<ClusterUpdateFieldType> fieldTypes) {
+        return "AWS-memorydb-Cluster::Update::" + fieldTypes.stream().map(Enum::name).collect(Collectors.joining("-"));
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> tagResource(final AmazonWebServicesClientProxy proxy,
                                                                         final ProxyClient<MemoryDbClient> proxyClient,
                                                                         final ProgressEvent<ResourceModel, CallbackContext> progress,
@@ -195,6 +321,10 @@ public class UpdateHandler extends BaseHandlerStd {
         final Set<Tag> tagsToRemove = Sets.difference(existingTags, currentTags);
         final Set<Tag> tagsToAdd = Sets.difference(currentTags, existingTags);
 
+        if (CollectionUtils.isNotEmpty(tagsToRemove) || CollectionUtils.isNotEmpty(tagsToAdd)) {
+            invalidateDescribedCluster(model);
+        }
+
         if (CollectionUtils.isNotEmpty(tagsToRemove)) {
             UntagResourceResponse untagResourceResponse = proxy.injectCredentialsAndInvokeV2(Translator.translateToUntagResourceRequest(arn, tagsToRemove), proxyClient.client()::untagResource);
             model.setTags(translateTagsFromSdk(untagResourceResponse.tagList()));
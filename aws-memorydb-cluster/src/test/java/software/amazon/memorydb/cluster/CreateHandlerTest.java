@@ -12,6 +12,8 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static software.amazon.memorydb.cluster.CreateHandler.NODE_TYPE_REQUIRED_FOR_CLUSTER;
 import static software.amazon.memorydb.cluster.CreateHandler.ACL_NAME_REQUIRED_FOR_CLUSTER;
+import static software.amazon.memorydb.cluster.ClusterPreflight.ACL_NOT_FOUND;
+import static software.amazon.memorydb.cluster.ClusterPreflight.SUBNET_GROUP_NOT_FOUND;
 
 import java.time.Duration;
 
@@ -23,14 +25,28 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.ACL;
+import software.amazon.awssdk.services.memorydb.model.AclNotFoundException;
 import software.amazon.awssdk.services.memorydb.model.Cluster;
 import software.amazon.awssdk.services.memorydb.model.ClusterAlreadyExistsException;
 import software.amazon.awssdk.services.memorydb.model.CreateClusterRequest;
 import software.amazon.awssdk.services.memorydb.model.CreateClusterResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeAcLsRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeAcLsResponse;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeEngineVersionsRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeEngineVersionsResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeSubnetGroupsRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeSubnetGroupsResponse;
+import software.amazon.awssdk.services.memorydb.model.EngineVersionInfo;
 import software.amazon.awssdk.services.memorydb.model.ListTagsRequest;
 import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
+import software.amazon.awssdk.services.memorydb.model.ParameterGroup;
+import software.amazon.awssdk.services.memorydb.model.SubnetGroup;
+import software.amazon.awssdk.services.memorydb.model.SubnetGroupNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -76,6 +92,7 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         final DescribeClustersResponse describeClustersResponse = DescribeClustersResponse.builder().clusters(cluster).nextToken(null).build();
         final ListTagsResponse listTagsResponse = ListTagsResponse.builder().build();
+        stubExistingReferences();
         when(proxyClient.client().listTags(any(ListTagsRequest.class))).thenReturn(listTagsResponse);
         when(proxyClient.client().createCluster(any(CreateClusterRequest.class))).thenReturn(createClusterResponse);
         when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class))).thenReturn(describeClustersResponse);
@@ -101,6 +118,7 @@ public class CreateHandlerTest extends AbstractTestBase {
     public void handleRequest_Failure_ClusterAlreadyExists() {
         final ResourceModel desiredTestResourceModel = getDesiredTestResourceModel();
 
+        stubExistingReferences();
         doThrow(ClusterAlreadyExistsException.class).when(proxyClient.client()).createCluster(any(CreateClusterRequest.class));
 
         final ResourceHandlerRequest<ResourceModel> request =
@@ -152,6 +170,63 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(sdkClient, never()).serviceName();
     }
 
+    @Test
+    public void handleRequest_Failure_ReferencesNotFound() {
+        final ResourceModel desiredTestResourceModel = getDesiredTestResourceModel();
+
+        doThrow(SubnetGroupNotFoundException.class).when(proxyClient.client()).describeSubnetGroups(any(DescribeSubnetGroupsRequest.class));
+        doThrow(AclNotFoundException.class).when(proxyClient.client()).describeACLs(any(DescribeAcLsRequest.class));
+
+        final ResourceHandlerRequest<ResourceModel> request =
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(desiredTestResourceModel).build();
+
+        try {
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            fail("Expected CfnInvalidRequestException");
+        } catch (CfnInvalidRequestException e) {
+            assertThat(e.getMessage()).contains(String.format(SUBNET_GROUP_NOT_FOUND, SUBNET_GROUP_NAME));
+            assertThat(e.getMessage()).contains(String.format(ACL_NOT_FOUND, ACL_NAME));
+        }
+
+        verify(sdkClient, never()).createCluster(any(CreateClusterRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_Failure_ParameterGroupFamilyMismatch() {
+        final ResourceModel desiredTestResourceModel = getDesiredTestResourceModel();
+        desiredTestResourceModel.setParameterGroupName("default.memorydb-redis7");
+        desiredTestResourceModel.setEngineVersion("6.2");
+
+        stubExistingReferences();
+        when(proxyClient.client().describeParameterGroups(any(DescribeParameterGroupsRequest.class))).thenReturn(
+                DescribeParameterGroupsResponse.builder().parameterGroups(
+                        ParameterGroup.builder().name("default.memorydb-redis7").family("memorydb_redis7").build()).build());
+        when(proxyClient.client().describeEngineVersions(any(DescribeEngineVersionsRequest.class))).thenReturn(
+                DescribeEngineVersionsResponse.builder().engineVersions(
+                        EngineVersionInfo.builder().engineVersion("6.2").parameterGroupFamily("memorydb_redis6").build()).build());
+
+        final ResourceHandlerRequest<ResourceModel> request =
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(desiredTestResourceModel).build();
+
+        try {
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            fail("Expected CfnInvalidRequestException");
+        } catch (CfnInvalidRequestException e) {
+            assertThat(e.getMessage()).contains("memorydb_redis7", "6.2", "memorydb_redis6");
+        }
+
+        verify(sdkClient, never()).createCluster(any(CreateClusterRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+    }
+
+    private void stubExistingReferences() {
+        when(proxyClient.client().describeSubnetGroups(any(DescribeSubnetGroupsRequest.class))).thenReturn(
+                DescribeSubnetGroupsResponse.builder().subnetGroups(SubnetGroup.builder().name(SUBNET_GROUP_NAME).build()).build());
+        when(proxyClient.client().describeACLs(any(DescribeAcLsRequest.class))).thenReturn(
+                DescribeAcLsResponse.builder().acLs(ACL.builder().name(ACL_NAME).build()).build());
+    }
+
     private CreateClusterResponse getCreateClusterReponse() {
         return CreateClusterResponse.builder().cluster(Cluster.builder().name(CLUSTER_NAME).description(CLUSTER_DESCRIPTION).status(CREATING_STATUS).nodeType(NODE_TYPE)
                                     .numberOfShards(NUM_SHARDS).subnetGroupName(SUBNET_GROUP_NAME).securityGroups(getSecurityGroupMemberships(SECURITY_GROUP_IDS))
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.Cluster;
 import software.amazon.awssdk.services.memorydb.model.ClusterNotFoundException;
@@ -26,6 +27,7 @@ import software.amazon.awssdk.services.memorydb.model.DeleteClusterRequest;
 import software.amazon.awssdk.services.memorydb.model.DeleteClusterResponse;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.memorydb.model.MemoryDbException;
 import software.amazon.awssdk.services.memorydb.model.SnapshotAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
@@ -87,6 +89,27 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_RetriesThrottledPoll() {
+        final DeleteHandler handler = new DeleteHandler();
+
+        final Cluster cluster = getTestCluster();
+        final ResourceHandlerRequest<ResourceModel> request =
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(getDesiredTestResourceModel()).build();
+
+        final MemoryDbException throttled = MemoryDbException.builder().statusCode(400)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build()).build();
+        doThrow(throttled).doThrow(ClusterNotFoundException.class).when(proxyClient.client())
+                          .describeClusters(any(DescribeClustersRequest.class));
+        doReturn(DeleteClusterResponse.builder().cluster(cluster.toBuilder().status("deleting").build()).build()).when(proxyClient.client()).deleteCluster(
+                any(DeleteClusterRequest.class));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getErrorCode()).isNull();
+    }
+
     @Test
     public void handleRequest_FailedWithResourceNotFound() {
         final DeleteHandler handler = new DeleteHandler();
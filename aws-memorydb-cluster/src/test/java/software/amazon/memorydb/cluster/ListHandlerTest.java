@@ -3,13 +3,17 @@ package software.amazon.memorydb.cluster;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.util.Collections;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -17,6 +21,10 @@ import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.Cluster;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.memorydb.model.ListTagsRequest;
+import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
+import software.amazon.awssdk.services.memorydb.model.MemoryDbException;
+import software.amazon.awssdk.services.memorydb.model.Tag;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -49,8 +57,12 @@ public class ListHandlerTest extends AbstractTestBase {
         final ResourceModel desiredTestResourceModel = getDesiredTestResourceModel();
         final Cluster cluster = getTestCluster();
         final ResourceModel expectedResourceModel = getResourceModel(cluster);
-        final DescribeClustersResponse describeClustersResponse = DescribeClustersResponse.builder().clusters(cluster).nextToken("TEST_MARKER").build();
-        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class))).thenReturn(describeClustersResponse);
+        expectedResourceModel.setTags(Translator.translateTags(Collections.singletonList(Tag.builder().key("key").value("value").build())));
+        final DescribeClustersResponse firstPage = DescribeClustersResponse.builder().clusters(cluster).nextToken("TEST_MARKER").build();
+        final DescribeClustersResponse lastPage = DescribeClustersResponse.builder().clusters(cluster).build();
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class))).thenReturn(firstPage, lastPage);
+        when(proxyClient.client().listTags(any(ListTagsRequest.class)))
+                .thenReturn(ListTagsResponse.builder().tagList(Tag.builder().key("key").value("value").build()).build());
 
         final ResourceHandlerRequest<ResourceModel> request =
                 ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(desiredTestResourceModel).build();
@@ -63,12 +75,69 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModel()).isNull();
         assertThat(response.getResourceModels()).isNotNull();
-        assertThat(response.getResourceModels().size() == 1).isTrue();
+        assertThat(response.getResourceModels().size() == 2).isTrue();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
-        assertThat(response.getNextToken()).isEqualTo("TEST_MARKER");
+        assertThat(response.getNextToken()).isNull();
 
         assertThat(response.getResourceModels().get(0).getClusterName()).isEqualTo(request.getDesiredResourceState().getClusterName());
         assertThat(response.getResourceModels().get(0)).isEqualTo(expectedResourceModel);
+        assertThat(response.getResourceModels().get(1)).isEqualTo(expectedResourceModel);
+
+        final ArgumentCaptor<DescribeClustersRequest> captor = ArgumentCaptor.forClass(DescribeClustersRequest.class);
+        verify(proxyClient.client(), times(2)).describeClusters(captor.capture());
+        assertThat(captor.getAllValues().get(0).showShardDetails()).isFalse();
+        assertThat(captor.getAllValues().get(1).nextToken()).isEqualTo("TEST_MARKER");
+        verify(proxyClient.client(), times(2)).listTags(any(ListTagsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ListsClusterWithoutTagsWhenListTagsFails() {
+        final ListHandler handler = new ListHandler();
+
+        final Cluster cluster = getTestCluster();
+        final Cluster otherCluster = cluster.toBuilder().name("other-cluster").arn("other-arn").build();
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(DescribeClustersResponse.builder().clusters(cluster, otherCluster).build());
+        when(proxyClient.client().listTags(any(ListTagsRequest.class))).thenAnswer(invocation -> {
+            if ("other-arn".equals(invocation.<ListTagsRequest>getArgument(0).resourceArn())) {
+                throw MemoryDbException.builder().message("Rate exceeded").build();
+            }
+            return ListTagsResponse.builder().tagList(Tag.builder().key("key").value("value").build()).build();
+        });
+
+        final ResourceHandlerRequest<ResourceModel> request =
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(getDesiredTestResourceModel()).build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(2);
+        assertThat(response.getResourceModels().get(0).getTags()).isNotEmpty();
+        assertThat(response.getResourceModels().get(1).getClusterName()).isEqualTo("other-cluster");
+        assertThat(response.getResourceModels().get(1).getTags()).isNull();
+        verify(proxyClient.client(), times(2)).listTags(any(ListTagsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_StopsAtSizeBudget() {
+        final ListHandler handler = new ListHandler();
+
+        final Cluster cluster = getTestCluster().toBuilder().shards(Collections.emptyList()).build();
+        final DescribeClustersResponse describeClustersResponse = DescribeClustersResponse.builder().clusters(cluster).nextToken("TEST_MARKER").build();
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class))).thenReturn(describeClustersResponse);
+        when(proxyClient.client().listTags(any(ListTagsRequest.class))).thenReturn(ListTagsResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request =
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(getDesiredTestResourceModel()).build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(ListHandler.LIST_MAX_RESOURCE_MODELS);
+        assertThat(response.getResourceModels().get(0).getNumReplicasPerShard()).isNull();
+        assertThat(response.getResourceModels().get(0).getTags()).isNull();
+        assertThat(response.getNextToken()).isEqualTo("TEST_MARKER");
+        verify(proxyClient.client(), times(ListHandler.LIST_MAX_RESOURCE_MODELS)).listTags(any(ListTagsRequest.class));
     }
 }
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -135,4 +136,32 @@ public class ReadHandlerTest extends AbstractTestBase {
             assertThat(e.getCause() instanceof ClusterNotFoundException).isTrue();
         }
     }
+
+    @Test
+    public void handleRequest_ListTagsWithDerivedArn() {
+        final ReadHandler handler = new ReadHandler();
+
+        final ResourceModel model = getDesiredTestResourceModel();
+        final ArgumentCaptor<ListTagsRequest> captor = ArgumentCaptor.forClass(ListTagsRequest.class);
+        when(proxyClient.client().listTags(captor.capture())).thenReturn(ListTagsResponse.builder()
+                .tagList(software.amazon.awssdk.services.memorydb.model.Tag.builder().key("service").value("memorydb").build())
+                .build());
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(DescribeClustersResponse.builder().clusters(getTestCluster()).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .awsAccountId("123456789012")
+                .region("us-east-1")
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getTags()).hasSize(1);
+        assertThat(captor.getValue().resourceArn())
+                .isEqualTo("arn:aws:memorydb:us-east-1:123456789012:cluster/" + model.getClusterName());
+        verify(proxyClient.client()).describeClusters(any(DescribeClustersRequest.class));
+        verify(proxyClient.client()).listTags(any(ListTagsRequest.class));
+    }
 }
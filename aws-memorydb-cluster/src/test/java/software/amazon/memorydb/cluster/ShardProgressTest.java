@@ -0,0 +1,103 @@
+package software.amazon.memorydb.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.memorydb.model.Cluster;
+import software.amazon.awssdk.services.memorydb.model.Node;
+import software.amazon.awssdk.services.memorydb.model.Shard;
+
+public class ShardProgressTest {
+
+    private static Shard shard(final String status, final String slots, final String... nodeStatuses) {
+        return Shard.builder()
+                .status(status)
+                .slots(slots)
+                .nodes(Arrays.stream(nodeStatuses).map(nodeStatus -> Node.builder().status(nodeStatus).build()).toArray(Node[]::new))
+                .build();
+    }
+
+    @Test
+    public void countSlots() {
+        assertThat(ShardProgress.countSlots("0-8191")).isEqualTo(8192);
+        assertThat(ShardProgress.countSlots("0-5460, 5462")).isEqualTo(5462);
+        assertThat(ShardProgress.countSlots("slot1")).isEqualTo(0);
+        assertThat(ShardProgress.countSlots(null)).isEqualTo(0);
+    }
+
+    @Test
+    public void ofResharding_ScaleOut() {
+        final Cluster started = Cluster.builder().shards(
+                shard("available", "0-8191", "available"),
+                shard("available", "8192-16383", "available"),
+                shard("creating", "", "creating"),
+                shard("creating", "", "creating")).build();
+        final ShardProgress startedProgress = ShardProgress.ofResharding(started, 2, 4);
+        assertThat(startedProgress.getPercentDone()).isEqualTo(0);
+        assertThat(startedProgress.getCompletedShards()).isEqualTo(0);
+        assertThat(startedProgress.getMessage()).isEqualTo("Resharding: 0% done, 0 of 4 shards complete");
+
+        final Cluster halfway = Cluster.builder().shards(
+                shard("available", "0-6143", "available"),
+                shard("available", "8192-14335", "available"),
+                shard("available", "6144-8191", "available"),
+                shard("available", "14336-16383", "available")).build();
+        assertThat(ShardProgress.ofResharding(halfway, 2, 4).getPercentDone()).isEqualTo(50);
+
+        final Cluster done = Cluster.builder().shards(
+                shard("available", "0-4095", "available"),
+                shard("available", "4096-8191", "available"),
+                shard("available", "8192-12287", "available"),
+                shard("available", "12288-16383", "available")).build();
+        final ShardProgress doneProgress = ShardProgress.ofResharding(done, 2, 4);
+        assertThat(doneProgress.getPercentDone()).isEqualTo(100);
+        assertThat(doneProgress.getCompletedShards()).isEqualTo(4);
+    }
+
+    @Test
+    public void ofResharding_ScaleIn() {
+        final Cluster started = Cluster.builder().shards(
+                shard("available", "0-4095", "available"),
+                shard("available", "4096-8191", "available"),
+                shard("available", "8192-12287", "available"),
+                shard("available", "12288-16383", "available")).build();
+        assertThat(ShardProgress.ofResharding(started, 4, 2).getPercentDone()).isEqualTo(0);
+
+        final Cluster migrated = Cluster.builder().shards(
+                shard("available", "0-8191", "available"),
+                shard("available", "8192-16383", "available"),
+                shard("deleting", "", "deleting")).build();
+        final ShardProgress migratedProgress = ShardProgress.ofResharding(migrated, 4, 2);
+        assertThat(migratedProgress.getPercentDone()).isEqualTo(99);
+        assertThat(migratedProgress.getCompletedShards()).isEqualTo(2);
+    }
+
+    @Test
+    public void ofResharding_WithoutTargetShards() {
+        final Cluster cluster = Cluster.builder().shards(shard("available", "0-16383", "available")).build();
+
+        final ShardProgress progress = ShardProgress.ofResharding(cluster, 1, 0);
+        assertThat(progress.getPercentDone()).isEqualTo(0);
+        assertThat(progress.getTotalShards()).isEqualTo(0);
+    }
+
+    @Test
+    public void ofReplicaScaling() {
+        final Cluster scalingUp = Cluster.builder().shards(
+                shard("available", "0-8191", "available", "available", "available"),
+                shard("modifying", "8192-16383", "available", "available", "creating")).build();
+        final ShardProgress scalingUpProgress = ShardProgress.ofReplicaScaling(scalingUp, 2);
+        assertThat(scalingUpProgress.getPercentDone()).isEqualTo(83);
+        assertThat(scalingUpProgress.getCompletedShards()).isEqualTo(1);
+        assertThat(scalingUpProgress.getTotalShards()).isEqualTo(2);
+
+        final Cluster scalingDown = Cluster.builder().shards(
+                shard("modifying", "0-16383", "available", "available", "deleting", "deleting")).build();
+        assertThat(ShardProgress.ofReplicaScaling(scalingDown, 1).getPercentDone()).isEqualTo(50);
+
+        assertThat(ShardProgress.ofReplicaScaling(Cluster.builder().build(), 1).getPercentDone()).isEqualTo(0);
+    }
+}
@@ -12,6 +12,8 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 
@@ -202,6 +204,159 @@ public class UpdateHandlerTest extends AbstractTestBase {
     }
 
 
+    @Test
+    public void handleRequest_CoalescedUpdate() {
+        final ResourceModel previousTestResourceModel = getDesiredTestResourceModel();
+        final ResourceModel desiredTestResourceModel = getDesiredTestResourceModel();
+        desiredTestResourceModel.setStatus("available");
+        desiredTestResourceModel.setDescription("New description");
+        desiredTestResourceModel.setMaintenanceWindow("05:00–13:00 UTC");
+        desiredTestResourceModel.setSnapshotWindow("05:00-06:00");
+        desiredTestResourceModel.setACLName("test-acl");
+
+        final ArgumentCaptor<UpdateClusterRequest> captor = ArgumentCaptor.forClass(UpdateClusterRequest.class);
+        when(proxyClient.client().updateCluster(captor.capture())).thenReturn(UpdateClusterResponse.builder().build());
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(DescribeClustersResponse.builder().clusters(getTestCluster(desiredTestResourceModel)).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = buildRequest(desiredTestResourceModel, previousTestResourceModel);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final UpdateClusterRequest expectedRequest = UpdateClusterRequest.builder()
+                .clusterName(CLUSTER_NAME)
+                .description("New description")
+                .maintenanceWindow("05:00–13:00 UTC")
+                .snapshotWindow("05:00-06:00")
+                .aclName("test-acl")
+                .build();
+        verify(proxyClient.client(), times(1)).updateCluster(any(UpdateClusterRequest.class));
+        verifyRequest(expectedRequest, captor);
+        verify(proxyClient.client(), atLeastOnce()).describeClusters(any(DescribeClustersRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_StandaloneFieldsUpdatedSeparately() {
+        final ResourceModel previousTestResourceModel = getDesiredTestResourceModel();
+        final ResourceModel desiredTestResourceModel = getDesiredTestResourceModel();
+        desiredTestResourceModel.setStatus("available");
+        desiredTestResourceModel.setDescription("New description");
+        desiredTestResourceModel.setNodeType("db.r6g.xlarge");
+        desiredTestResourceModel.setNumShards(5);
+
+        final ArgumentCaptor<UpdateClusterRequest> captor = ArgumentCaptor.forClass(UpdateClusterRequest.class);
+        when(proxyClient.client().updateCluster(captor.capture())).thenReturn(UpdateClusterResponse.builder().build());
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(DescribeClustersResponse.builder().clusters(getTestCluster(desiredTestResourceModel)).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = buildRequest(desiredTestResourceModel, previousTestResourceModel);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), times(3)).updateCluster(any(UpdateClusterRequest.class));
+        assertThat(captor.getAllValues().get(0).description()).isEqualTo("New description");
+        assertThat(captor.getAllValues().get(1).nodeType()).isEqualTo("db.r6g.xlarge");
+        assertThat(captor.getAllValues().get(1).description()).isNull();
+        assertThat(captor.getAllValues().get(2).shardConfiguration().shardCount()).isEqualTo(5);
+        verify(proxyClient.client(), atLeastOnce()).describeClusters(any(DescribeClustersRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_StabilizationSkipsShardDetails() {
+        final ResourceModel previousTestResourceModel = getDesiredTestResourceModel();
+        final ResourceModel desiredTestResourceModel = getDesiredTestResourceModel();
+        desiredTestResourceModel.setStatus("available");
+        desiredTestResourceModel.setDescription("New description");
+
+        final ArgumentCaptor<DescribeClustersRequest> captor = ArgumentCaptor.forClass(DescribeClustersRequest.class);
+        when(proxyClient.client().updateCluster(any(UpdateClusterRequest.class))).thenReturn(UpdateClusterResponse.builder().build());
+        when(proxyClient.client().describeClusters(captor.capture()))
+                .thenReturn(DescribeClustersResponse.builder().clusters(getTestCluster(desiredTestResourceModel)).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = buildRequest(desiredTestResourceModel, previousTestResourceModel);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final List<DescribeClustersRequest> describeRequests = captor.getAllValues();
+        assertThat(describeRequests.get(0).showShardDetails()).isFalse();
+        assertThat(describeRequests.get(describeRequests.size() - 1).showShardDetails()).isTrue();
+        verify(proxyClient.client(), times(1)).updateCluster(any(UpdateClusterRequest.class));
+        verify(proxyClient.client(), atLeastOnce()).describeClusters(any(DescribeClustersRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_ReadServedFromStabilizationDescribe() {
+        final ResourceModel previousTestResourceModel = getDesiredTestResourceModel();
+        final ResourceModel desiredTestResourceModel = getDesiredTestResourceModel();
+        desiredTestResourceModel.setStatus("available");
+        desiredTestResourceModel.setNumReplicasPerShard(2);
+
+        when(proxyClient.client().updateCluster(any(UpdateClusterRequest.class))).thenReturn(UpdateClusterResponse.builder().build());
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(DescribeClustersResponse.builder().clusters(getTestCluster(desiredTestResourceModel)).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = buildRequest(desiredTestResourceModel, previousTestResourceModel);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getNumReplicasPerShard()).isEqualTo(2);
+        verify(proxyClient.client(), times(1)).updateCluster(any(UpdateClusterRequest.class));
+        verify(proxyClient.client(), times(1)).describeClusters(any(DescribeClustersRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_ResumesFromPersistedUpdatePlan() {
+        final ResourceModel previousTestResourceModel = getDesiredTestResourceModel();
+        final ResourceModel desiredTestResourceModel = getDesiredTestResourceModel();
+        desiredTestResourceModel.setStatus("available");
+        desiredTestResourceModel.setDescription("New description");
+        desiredTestResourceModel.setNodeType("db.r6g.xlarge");
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setUpdatePlan(Arrays.asList(
+                ClusterUpdateFieldType.toMask(EnumSet.of(ClusterUpdateFieldType.DESCRIPTION)),
+                ClusterUpdateFieldType.toMask(EnumSet.of(ClusterUpdateFieldType.NODE_TYPE))));
+        callbackContext.setCompletedUpdateSteps(1);
+
+        final ArgumentCaptor<UpdateClusterRequest> captor = ArgumentCaptor.forClass(UpdateClusterRequest.class);
+        when(proxyClient.client().updateCluster(captor.capture())).thenReturn(UpdateClusterResponse.builder().build());
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(DescribeClustersResponse.builder().clusters(getTestCluster(desiredTestResourceModel)).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = buildRequest(desiredTestResourceModel, previousTestResourceModel);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), times(1)).updateCluster(any(UpdateClusterRequest.class));
+        assertThat(captor.getValue().nodeType()).isEqualTo("db.r6g.xlarge");
+        assertThat(captor.getValue().description()).isNull();
+        assertThat(callbackContext.getCompletedUpdateSteps()).isEqualTo(2);
+        verify(proxyClient.client(), atLeastOnce()).describeClusters(any(DescribeClustersRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void planUpdate_ParameterGroupFollowsEngineVersion() {
+        final ResourceModel previousTestResourceModel = getDesiredTestResourceModel();
+        final ResourceModel desiredTestResourceModel = getDesiredTestResourceModel();
+        desiredTestResourceModel.setDescription("New description");
+        desiredTestResourceModel.setEngineVersion("7.0");
+        desiredTestResourceModel.setParameterGroupName("default.memorydb-redis7");
+        desiredTestResourceModel.setNumReplicasPerShard(2);
+
+        final List<Set<ClusterUpdateFieldType>> plan = handler.planUpdate(desiredTestResourceModel, previousTestResourceModel, logger);
+
+        assertThat(plan).isEqualTo(Arrays.asList(
+                EnumSet.of(ClusterUpdateFieldType.DESCRIPTION),
+                EnumSet.of(ClusterUpdateFieldType.ENGINE_VERSION, ClusterUpdateFieldType.PARAMETER_GROUP_NAME),
+                EnumSet.of(ClusterUpdateFieldType.REPLICA_CONFIGURATION)));
+        assertThat(handler.planUpdate(previousTestResourceModel, previousTestResourceModel, logger)).isEmpty();
+    }
+
     private void handleRequestTest(ClusterUpdateFieldType fieldType) {
         final ResourceModel desiredModel =  getDesiredTestResourceModel();
         final UpdateClusterRequest.Builder expectedRequestBuilder =
@@ -0,0 +1,42 @@
+package software.amazon.memorydb.common;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.MemoryDbClientBuilder;
+import software.amazon.cloudformation.LambdaWrapper;
+
+/**
+ * Builds the clients of the resource providers once per region and endpoint. Clients are thread safe and do not hold
+ * the caller credentials, which are injected on every call by the proxy, so warm containers reuse them instead of
+ * setting up a new client on each invocation. The Describe calls of all the invocations sharing a client are paced by
+ * a single {@link DescribeRateLimiter}.
+ */
+public final class CachedClientBuilder {
+
+    private static final Map<String, MemoryDbClient> CLIENTS = new ConcurrentHashMap<>();
+
+    private CachedClientBuilder() {
+    }
+
+    /**
+     * @return the client of the region the handler runs in
+     */
+    public static MemoryDbClient getClient() {
+        return getClient(SdkSystemSetting.AWS_REGION.getStringValue().map(Region::of).orElse(null), null);
+    }
+
+    public static MemoryDbClient getClient(final Region region, final URI endpointOverride) {
+        return CLIENTS.computeIfAbsent(region + "|" + endpointOverride, key -> {
+            final MemoryDbClientBuilder builder = MemoryDbClient.builder().httpClient(LambdaWrapper.HTTP_CLIENT);
+            Optional.ofNullable(region).ifPresent(builder::region);
+            Optional.ofNullable(endpointOverride).ifPresent(builder::endpointOverride);
+            return DescribeRateLimiter.of().build().limit(builder.build());
+        });
+    }
+}
@@ -0,0 +1,63 @@
+package software.amazon.memorydb.common;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.ListTagsRequest;
+import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * Issues ListTags concurrently with the describe call of a Read, on one bounded executor shared by the handlers of a
+ * container, so that tags do not add a round trip to the critical path.
+ */
+public final class ConcurrentListTags {
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(4, runnable -> {
+        final Thread thread = new Thread(runnable, "memorydb-list-tags");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ConcurrentListTags() {
+    }
+
+    /**
+     * Builds the ARN of a resource from the account and region of the request, so that ListTags can be issued without
+     * waiting for the describe call.
+     *
+     * @param resourceType resource type of the ARN, e.g. {@code cluster}
+     * @return the ARN, or null when the request does not carry the account, region or name
+     */
+    public static String buildArn(final ResourceHandlerRequest<?> request, final String resourceType, final String name) {
+        if (isNullOrEmpty(request.getAwsAccountId()) || isNullOrEmpty(request.getRegion()) || isNullOrEmpty(name)) {
+            return null;
+        }
+        final String partition = isNullOrEmpty(request.getAwsPartition()) ? "aws" : request.getAwsPartition();
+        return String.format("arn:%s:memorydb:%s:%s:%s/%s", partition, request.getRegion(), request.getAwsAccountId(), resourceType, name);
+    }
+
+    public static CompletableFuture<ListTagsResponse> listTagsAsync(final ProxyClient<MemoryDbClient> proxyClient, final String arn) {
+        return CompletableFuture.supplyAsync(() -> proxyClient.injectCredentialsAndInvokeV2(
+                ListTagsRequest.builder().resourceArn(arn).build(), proxyClient.client()::listTags), EXECUTOR);
+    }
+
+    /**
+     * Waits for a ListTags call and rethrows its failure as is, so that the handlers map it like any other call.
+     */
+    public static ListTagsResponse join(final CompletableFuture<ListTagsResponse> listTags) {
+        try {
+            return listTags.join();
+        } catch (final CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    private static boolean isNullOrEmpty(final String value) {
+        return value == null || value.isEmpty();
+    }
+}
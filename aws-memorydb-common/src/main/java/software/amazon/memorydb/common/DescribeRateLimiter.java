@@ -0,0 +1,222 @@
+package software.amazon.memorydb.common;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.MemoryDbException;
+import software.amazon.awssdk.services.memorydb.model.MemoryDbResponse;
+
+/**
+ * Client side token bucket pacing the Describe calls of every invocation that shares a client in a warm container.
+ *
+ * Each call reserves the next free slot of the bucket, so concurrent polls are spread at the current rate instead of
+ * bursting. The rate follows AIMD: a throttled call divides it by {@code decreaseFactor}, every successful call adds
+ * {@code increase} back, within the minimum and maximum rates.
+ *
+ * Throttled calls are not retried here: the SDK already retries them with its own backoff, and what still fails is
+ * rethrown. The limiter only slows down the calls that follow. A call whose slot is further away than
+ * {@code maxWait} is not made at all and fails right away with a throttling error, so that a low rate never holds the
+ * handler thread past its own time budget. {@link #isThrottled(Throwable)} recognizes both, so that the retry filters
+ * of the handler call chains can try them again after their backoff delay.
+ */
+public class DescribeRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1L);
+
+    private final double minRate;
+    private final double maxRate;
+    private final double increase;
+    private final double decreaseFactor;
+    private final double burst;
+    private final long maxWait;
+    private final LongSupplier nanoTime;
+    private final LongConsumer sleeper;
+    private double rate;
+    private double tokens;
+    private long lastRefill;
+
+    private DescribeRateLimiter(final Builder builder) {
+        this.minRate = builder.minRate;
+        this.maxRate = builder.maxRate;
+        this.increase = builder.increase;
+        this.decreaseFactor = builder.decreaseFactor;
+        this.burst = builder.burst;
+        this.maxWait = builder.maxWait.toNanos();
+        this.nanoTime = builder.nanoTime;
+        this.sleeper = builder.sleeper;
+        this.rate = builder.maxRate;
+        this.tokens = builder.burst;
+        this.lastRefill = nanoTime.getAsLong();
+    }
+
+    public static Builder of() {
+        return new Builder();
+    }
+
+    /**
+     * Wraps a client so that its Describe operations go through this limiter, other operations are passed through.
+     */
+    public MemoryDbClient limit(final MemoryDbClient client) {
+        return (MemoryDbClient) Proxy.newProxyInstance(MemoryDbClient.class.getClassLoader(), new Class<?>[] {MemoryDbClient.class},
+                (instance, method, args) -> method.getName().startsWith("describe") && MemoryDbResponse.class.isAssignableFrom(method.getReturnType())
+                        ? invokeLimited(client, method, args) : invoke(client, method, args));
+    }
+
+    /**
+     * Whether {@code exception}, or one of its causes, is a throttling error of the service or of the limiter.
+     */
+    public static boolean isThrottled(final Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof AwsServiceException && ((AwsServiceException) cause).isThrottlingException()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Takes the next slot of the bucket.
+     *
+     * @return how long the caller has to wait for its slot, in nanoseconds
+     * @throws MemoryDbException a throttling error, without taking the slot, when the wait would exceed {@code maxWait}
+     */
+    synchronized long reserve() {
+        final long now = nanoTime.getAsLong();
+        tokens = Math.min(burst, tokens + (now - lastRefill) * rate / NANOS_PER_SECOND);
+        lastRefill = now;
+        tokens -= 1;
+        final long wait = tokens >= 0 ? 0 : (long) (-tokens * NANOS_PER_SECOND / rate);
+        if (wait > maxWait) {
+            tokens += 1;
+            final String message = String.format("Rate exceeded: no Describe slot within %d ms at %.1f calls per second",
+                    TimeUnit.NANOSECONDS.toMillis(maxWait), rate);
+            throw MemoryDbException.builder().statusCode(429).message(message)
+                    .awsErrorDetails(AwsErrorDetails.builder().errorCode("Throttling").errorMessage(message)
+                            .serviceName(MemoryDbClient.SERVICE_NAME).build())
+                    .build();
+        }
+        return wait;
+    }
+
+    synchronized void onSuccess() {
+        rate = Math.min(maxRate, rate + increase);
+    }
+
+    synchronized void onThrottle() {
+        rate = Math.max(minRate, rate / decreaseFactor);
+    }
+
+    synchronized double getRate() {
+        return rate;
+    }
+
+    private Object invokeLimited(final MemoryDbClient client, final Method method, final Object[] args) throws Throwable {
+        final long wait = reserve();
+        if (wait > 0) {
+            sleeper.accept(wait);
+        }
+        try {
+            final Object response = invoke(client, method, args);
+            onSuccess();
+            return response;
+        } catch (AwsServiceException e) {
+            if (e.isThrottlingException()) {
+                onThrottle();
+            }
+            throw e;
+        }
+    }
+
+    private static Object invoke(final MemoryDbClient client, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(client, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void sleep(final long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw AbortedException.builder().message("Interrupted while waiting for the Describe rate limiter").cause(e).build();
+        }
+    }
+
+    public static class Builder {
+        private double minRate = 0.2;
+        private double maxRate = 10;
+        private double increase = 0.5;
+        private double decreaseFactor = 2;
+        private double burst = 2;
+        private Duration maxWait = Duration.ofSeconds(2);
+        private LongSupplier nanoTime = System::nanoTime;
+        private LongConsumer sleeper = DescribeRateLimiter::sleep;
+
+        /**
+         * Calls per second the rate never goes below, however often calls are throttled.
+         */
+        public Builder minRate(final double minRate) {
+            this.minRate = minRate;
+            return this;
+        }
+
+        /**
+         * Calls per second the rate starts at and never goes above.
+         */
+        public Builder maxRate(final double maxRate) {
+            this.maxRate = maxRate;
+            return this;
+        }
+
+        public Builder increase(final double increase) {
+            this.increase = increase;
+            return this;
+        }
+
+        public Builder decreaseFactor(final double decreaseFactor) {
+            this.decreaseFactor = decreaseFactor;
+            return this;
+        }
+
+        /**
+         * Calls allowed back to back after the limiter has been idle.
+         */
+        public Builder burst(final double burst) {
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * Longest a call waits for its slot. Calls that would wait longer fail with a throttling error instead.
+         */
+        public Builder maxWait(final Duration maxWait) {
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        public Builder nanoTime(final LongSupplier nanoTime) {
+            this.nanoTime = nanoTime;
+            return this;
+        }
+
+        public Builder sleeper(final LongConsumer sleeper) {
+            this.sleeper = sleeper;
+            return this;
+        }
+
+        public DescribeRateLimiter build() {
+            return new DescribeRateLimiter(this);
+        }
+    }
+}
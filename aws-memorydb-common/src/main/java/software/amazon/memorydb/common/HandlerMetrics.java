@@ -0,0 +1,281 @@
+package software.amazon.memorydb.common;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.MemoryDbResponse;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Metrics of a single handler invocation, logged in CloudWatch embedded metric format so that they are extracted from
+ * the handler logs without any call to CloudWatch. Every MemoryDB API call made through the instrumented client is
+ * timed and counted by operation, along with its throttles, errors and retries (calls repeating a failed call of the
+ * same operation). Stabilization polls are recorded by the handlers; the time to stabilize is measured from the start
+ * of the invocation that saw the resource stabilize.
+ */
+public final class HandlerMetrics {
+    public static final String NAMESPACE = "MemoryDB/ResourceHandlers";
+    // CloudWatch accepts at most 100 values per metric in a single document
+    private static final int MAX_VALUES = 100;
+
+    private final String resourceType;
+    private final String action;
+    private final Clock clock;
+    private final long startedAt;
+    private final Map<String, OperationMetrics> operations = new ConcurrentSkipListMap<>();
+    private final AtomicInteger stabilizationPolls = new AtomicInteger();
+    private final AtomicLong timeToStabilize = new AtomicLong(-1);
+
+    /**
+     * @param resourceType CloudFormation type of the resource, e.g. {@code AWS::MemoryDB::Cluster}
+     * @param action       handler action, e.g. {@code Create}
+     */
+    public HandlerMetrics(final String resourceType, final String action) {
+        this(resourceType, action, Clock.systemUTC());
+    }
+
+    public HandlerMetrics(final String resourceType, final String action, final Clock clock) {
+        this.resourceType = resourceType;
+        this.action = action;
+        this.clock = clock;
+        this.startedAt = clock.millis();
+    }
+
+    /**
+     * Wraps a proxy client so that every call made on its {@link ProxyClient#client()}, whether it goes through the
+     * proxy client, the handler proxy or the ListTags executor, is recorded.
+     */
+    public ProxyClient<MemoryDbClient> instrument(final ProxyClient<MemoryDbClient> proxyClient) {
+        final MemoryDbClient delegate = proxyClient.client();
+        final MemoryDbClient client = (MemoryDbClient) Proxy.newProxyInstance(MemoryDbClient.class.getClassLoader(),
+                new Class<?>[] {MemoryDbClient.class}, (instance, method, args) -> invoke(delegate, method, args));
+        return new ProxyClient<MemoryDbClient>() {
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+            injectCredentialsAndInvokeV2(final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+                return proxyClient.injectCredentialsAndInvokeV2(request, requestFunction);
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+            injectCredentialsAndInvokeV2Async(final RequestT request,
+                                              final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+                return proxyClient.injectCredentialsAndInvokeV2Async(request, requestFunction);
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT
+            injectCredentialsAndInvokeIterableV2(final RequestT request, final Function<RequestT, IterableT> requestFunction) {
+                return proxyClient.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+            injectCredentialsAndInvokeV2InputStream(final RequestT request,
+                                                    final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+                return proxyClient.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+            injectCredentialsAndInvokeV2Bytes(final RequestT request,
+                                              final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+                return proxyClient.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+            }
+
+            @Override
+            public MemoryDbClient client() {
+                return client;
+            }
+        };
+    }
+
+    /**
+     * Records a stabilization poll and, the first time the resource is seen stabilized, the time it took.
+     */
+    public boolean recordStabilizationPoll(final boolean stabilized) {
+        stabilizationPolls.incrementAndGet();
+        if (stabilized) {
+            timeToStabilize.compareAndSet(-1, clock.millis() - startedAt);
+        }
+        return stabilized;
+    }
+
+    /**
+     * Logs one document per called operation and one for the invocation itself. The event is null when the
+     * invocation failed with an exception.
+     */
+    public void emit(final Logger logger, final ProgressEvent<?, ?> event) {
+        final long timestamp = clock.millis();
+        for (final Map.Entry<String, OperationMetrics> entry : operations.entrySet()) {
+            final Map<String, Object> values = new LinkedHashMap<>();
+            values.put("ResourceType", resourceType);
+            values.put("Action", action);
+            values.put("Operation", entry.getKey());
+            entry.getValue().addTo(values);
+            logger.log(toEmf(timestamp, Arrays.asList(Arrays.asList("ResourceType", "Operation"),
+                    Arrays.asList("ResourceType", "Action", "Operation")), OperationMetrics.UNITS, values));
+        }
+
+        final Map<String, String> units = new LinkedHashMap<>();
+        units.put("Duration", "Milliseconds");
+        units.put("StabilizationPolls", "Count");
+        units.put("CallbackDelay", "Seconds");
+        final Map<String, Object> values = new LinkedHashMap<>();
+        values.put("ResourceType", resourceType);
+        values.put("Action", action);
+        values.put("Status", event == null ? "FAILED" : String.valueOf(event.getStatus()));
+        values.put("Duration", timestamp - startedAt);
+        values.put("StabilizationPolls", stabilizationPolls.get());
+        values.put("CallbackDelay", event == null ? 0 : event.getCallbackDelaySeconds());
+        if (timeToStabilize.get() >= 0) {
+            units.put("TimeToStabilize", "Milliseconds");
+            values.put("TimeToStabilize", timeToStabilize.get());
+        }
+        logger.log(toEmf(timestamp, Arrays.asList(Arrays.asList("ResourceType", "Action")), units, values));
+    }
+
+    private Object invoke(final MemoryDbClient delegate, final Method method, final Object[] args) throws Throwable {
+        // only the operations are timed, not paginators, waiters or Object methods
+        if (!MemoryDbResponse.class.isAssignableFrom(method.getReturnType())) {
+            return invokeDelegate(delegate, method, args);
+        }
+        final String operation = Character.toUpperCase(method.getName().charAt(0)) + method.getName().substring(1);
+        final long start = System.nanoTime();
+        Throwable error = null;
+        try {
+            return invokeDelegate(delegate, method, args);
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            operations.computeIfAbsent(operation, key -> new OperationMetrics())
+                    .record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), error);
+        }
+    }
+
+    private static Object invokeDelegate(final MemoryDbClient delegate, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static String toEmf(final long timestamp, final List<List<String>> dimensions,
+                                final Map<String, String> units, final Map<String, Object> values) {
+        final StringBuilder metrics = new StringBuilder();
+        for (final Map.Entry<String, String> unit : units.entrySet()) {
+            metrics.append(metrics.length() == 0 ? "" : ",")
+                    .append("{\"Name\":").append(quote(unit.getKey())).append(",\"Unit\":").append(quote(unit.getValue())).append('}');
+        }
+        final StringBuilder json = new StringBuilder("{\"_aws\":{\"Timestamp\":").append(timestamp)
+                .append(",\"CloudWatchMetrics\":[{\"Namespace\":").append(quote(NAMESPACE))
+                .append(",\"Dimensions\":");
+        appendValue(json, dimensions);
+        json.append(",\"Metrics\":[").append(metrics).append("]}]}");
+        for (final Map.Entry<String, Object> value : values.entrySet()) {
+            json.append(',').append(quote(value.getKey())).append(':');
+            appendValue(json, value.getValue());
+        }
+        return json.append('}').toString();
+    }
+
+    private static void appendValue(final StringBuilder json, final Object value) {
+        if (value instanceof Collection) {
+            json.append('[');
+            final Iterator<?> iterator = ((Collection<?>) value).iterator();
+            while (iterator.hasNext()) {
+                appendValue(json, iterator.next());
+                json.append(iterator.hasNext() ? "," : "");
+            }
+            json.append(']');
+        } else if (value instanceof Number) {
+            json.append(value);
+        } else {
+            json.append(quote(String.valueOf(value)));
+        }
+    }
+
+    private static String quote(final String value) {
+        final StringBuilder quoted = new StringBuilder("\"");
+        for (final char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    private static final class OperationMetrics {
+        private static final Map<String, String> UNITS = new LinkedHashMap<>();
+
+        static {
+            UNITS.put("Latency", "Milliseconds");
+            UNITS.put("Calls", "Count");
+            UNITS.put("Throttles", "Count");
+            UNITS.put("Retries", "Count");
+            UNITS.put("Errors", "Count");
+        }
+
+        private final List<Long> latencies = new ArrayList<>();
+        private int calls;
+        private int throttles;
+        private int retries;
+        private int errors;
+        private boolean lastCallFailed;
+
+        synchronized void record(final long latencyMillis, final Throwable error) {
+            calls++;
+            if (lastCallFailed) {
+                retries++;
+            }
+            if (latencies.size() < MAX_VALUES) {
+                latencies.add(latencyMillis);
+            }
+            lastCallFailed = error != null;
+            if (error != null) {
+                errors++;
+                if (error instanceof AwsServiceException && ((AwsServiceException) error).isThrottlingException()) {
+                    throttles++;
+                }
+            }
+        }
+
+        synchronized void addTo(final Map<String, Object> values) {
+            values.put("Latency", new ArrayList<>(latencies));
+            values.put("Calls", calls);
+            values.put("Throttles", throttles);
+            values.put("Retries", retries);
+            values.put("Errors", errors);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package software.amazon.memorydb.common;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.cloudformation.proxy.Delay;
+
+/**
+ * Decides whether a failed call is worth retrying and how long to wait before the retry.
+ *
+ * Failures are classified as throttling, transient, conflict (the resource is busy with another change) or terminal.
+ * The class of an exception is looked up once per exception type and cached, walking the cause chain so that service
+ * exceptions wrapped by the handlers are recognised. Exceptions that are neither known nor throttled are transient.
+ * Each class backs off exponentially on its own curve, with equal jitter so that concurrent stacks do not retry in
+ * lockstep. The retry budgets are not kept here but in the callback context of the handlers.
+ */
+public class RetryPolicy {
+
+    public enum Category {
+        THROTTLING,
+        TRANSIENT,
+        CONFLICT,
+        TERMINAL
+    }
+
+    private static final int MAX_BACKOFF_EXPONENT = 30;
+
+    private final Map<Class<?>, Category> categories;
+    private final Map<Category, Duration> initialDelays;
+    private final Map<Category, Duration> maxDelays;
+    private final DoubleSupplier random;
+    private final ClassValue<Category> lookup = new ClassValue<Category>() {
+        @Override
+        protected Category computeValue(final Class<?> type) {
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                final Category category = categories.get(current);
+                if (category != null) {
+                    return category;
+                }
+            }
+            return null;
+        }
+    };
+
+    private RetryPolicy(final Builder builder) {
+        this.categories = new HashMap<>(builder.categories);
+        this.initialDelays = new EnumMap<>(builder.initialDelays);
+        this.maxDelays = new EnumMap<>(builder.maxDelays);
+        this.random = builder.random;
+    }
+
+    public static Builder of() {
+        return new Builder();
+    }
+
+    /**
+     * Classifies a failure from the first exception of its cause chain that is throttled or of a known type.
+     */
+    public Category classify(final Throwable exception) {
+        for (Throwable current = exception; current != null; current = current.getCause()) {
+            if (current instanceof AwsServiceException && ((AwsServiceException) current).isThrottlingException()) {
+                return Category.THROTTLING;
+            }
+            final Category category = lookup.get(current.getClass());
+            if (category != null) {
+                return category;
+            }
+        }
+        return Category.TRANSIENT;
+    }
+
+    /**
+     * Delay before the given retry of a failure of the given class.
+     *
+     * @param category class of the failure, must not be terminal
+     * @param attempt  1 for the first retry
+     */
+    public Duration backoff(final Category category, final int attempt) {
+        final int exponent = Math.min(Math.max(attempt - 1, 0), MAX_BACKOFF_EXPONENT);
+        final long backoff = Math.min(initialDelays.get(category).toMillis() << exponent, maxDelays.get(category).toMillis());
+        final long delay = backoff / 2 + (long) (backoff / 2 * random.getAsDouble());
+        // callbacks are scheduled in whole seconds
+        return Duration.ofSeconds(Math.max(1L, Math.round(delay / 1000.0)));
+    }
+
+    /**
+     * Wraps the delay of a call chain so that a retry waits for the backoff of its failure class, while stabilization
+     * polls keep following the wrapped delay.
+     *
+     * @param pendingRetryDelay returns, and clears, the backoff of the retry about to happen, null when no call was
+     *                          retried since the last delay
+     */
+    public Delay withRetryBackoff(final Delay delay, final Supplier<Duration> pendingRetryDelay) {
+        return attempt -> {
+            final Duration retryDelay = pendingRetryDelay.get();
+            return retryDelay != null ? retryDelay : delay.nextDelay(attempt);
+        };
+    }
+
+    public static class Builder {
+        private final Map<Class<?>, Category> categories = new HashMap<>();
+        private final Map<Category, Duration> initialDelays = new EnumMap<>(Category.class);
+        private final Map<Category, Duration> maxDelays = new EnumMap<>(Category.class);
+        private DoubleSupplier random = () -> ThreadLocalRandom.current().nextDouble();
+
+        Builder() {
+            backoff(Category.THROTTLING, Duration.ofSeconds(2), Duration.ofSeconds(60));
+            backoff(Category.TRANSIENT, Duration.ofSeconds(1), Duration.ofSeconds(20));
+            backoff(Category.CONFLICT, Duration.ofSeconds(5), Duration.ofSeconds(60));
+        }
+
+        @SafeVarargs
+        public final Builder terminal(final Class<? extends Throwable>... types) {
+            return classify(Category.TERMINAL, types);
+        }
+
+        @SafeVarargs
+        public final Builder conflict(final Class<? extends Throwable>... types) {
+            return classify(Category.CONFLICT, types);
+        }
+
+        private Builder classify(final Category category, final Class<? extends Throwable>[] types) {
+            Arrays.stream(types).forEach(type -> categories.put(type, category));
+            return this;
+        }
+
+        public Builder backoff(final Category category, final Duration initialDelay, final Duration maxDelay) {
+            this.initialDelays.put(category, initialDelay);
+            this.maxDelays.put(category, maxDelay);
+            return this;
+        }
+
+        public Builder random(final DoubleSupplier random) {
+            this.random = random;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package software.amazon.memorydb.common;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+/**
+ * Status aware delay used while waiting for a resource to stabilize.
+ *
+ * The first poll happens shortly after the mutating call, following polls back off exponentially up to a cap, with
+ * jitter so that concurrent stacks do not poll in lockstep. Statuses known to take long (e.g. "creating") are given a
+ * minimum delay so they are not polled more often than useful: stabilizers keep the status they observed in the
+ * callback context and the call chain reads it back through {@link #observing(Supplier)}. {@link Duration#ZERO} is
+ * returned once the timeout has elapsed, as for {@code Constant}.
+ *
+ * Instances hold no state of the resource being waited on, so a single one is shared by every invocation of a container.
+ *
+ * Long running updates that can measure their progress keep the last measure in the callback context as well, estimate
+ * the next delay with {@link #progressDelay(int, long, int, long)} and read it back through
+ * {@link #observing(Supplier, Supplier)}; the delay then follows the estimated time to completion instead of the status
+ * based backoff.
+ */
+public class StabilizationDelay implements Delay {
+
+    private static final int MAX_BACKOFF_EXPONENT = 30;
+
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+    private final Duration timeout;
+    private final double jitter;
+    private final Map<String, Duration> minimumDelays;
+
+    private StabilizationDelay(final Builder builder) {
+        this.initialDelay = builder.initialDelay;
+        this.maxDelay = builder.maxDelay;
+        this.timeout = builder.timeout;
+        this.jitter = builder.jitter;
+        this.minimumDelays = new HashMap<>(builder.minimumDelays);
+    }
+
+    public static Builder of() {
+        return new Builder();
+    }
+
+    /**
+     * Delay of a call chain waiting on a single resource, which applies the minimum delay of the status last observed
+     * on that resource.
+     *
+     * @param observedStatus returns the status seen by the last stabilization poll, null when none was seen yet
+     */
+    public Delay observing(final Supplier<String> observedStatus) {
+        return attempt -> nextDelay(attempt, observedStatus.get(), null);
+    }
+
+    /**
+     * Same as {@link #observing(Supplier)}, except that a progress delay, when there is one, replaces both the backoff
+     * and the minimum delay of the observed status.
+     *
+     * @param progressDelay returns the delay last estimated by {@link #progressDelay(int, long, int, long)}, null when
+     *                      progress is not being measured or did not move
+     */
+    public Delay observing(final Supplier<String> observedStatus, final Supplier<Duration> progressDelay) {
+        return attempt -> nextDelay(attempt, observedStatus.get(), progressDelay.get());
+    }
+
+    /**
+     * Estimates the delay before the next poll from the progress seen by the last two polls. While progress is moving
+     * the next poll is scheduled around a quarter of the estimated remaining time, within the initial and maximum
+     * delays.
+     *
+     * @param previousPercent completion seen by the previous poll, negative when there was none
+     * @param percentDone     completion seen by the last poll, from 0 to 100
+     * @return the delay, or null when progress did not move and the regular backoff should apply
+     */
+    public Duration progressDelay(final int previousPercent, final long previousMillis, final int percentDone, final long nowMillis) {
+        if (previousPercent < 0 || percentDone <= previousPercent || nowMillis <= previousMillis) {
+            return null;
+        }
+        final long remainingMillis = (nowMillis - previousMillis) * (100 - percentDone) / (percentDone - previousPercent);
+        return Duration.ofMillis(Math.max(initialDelay.toMillis(), Math.min(remainingMillis / 4, maxDelay.toMillis())));
+    }
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        return nextDelay(attempt, null, null);
+    }
+
+    private Duration nextDelay(final int attempt, final String observedStatus, final Duration progressDelay) {
+        if (elapsed(attempt) > timeout.toMillis()) {
+            return Duration.ZERO;
+        }
+
+        final long backoff = progressDelay != null ? progressDelay.toMillis() : backoff(attempt);
+        long delay = backoff - (long) (backoff * jitter * ThreadLocalRandom.current().nextDouble());
+        final Duration minimumDelay = observedStatus == null || progressDelay != null
+                ? null : minimumDelays.get(observedStatus.toLowerCase(Locale.ROOT));
+        if (minimumDelay != null) {
+            delay = Math.max(delay, minimumDelay.toMillis());
+        }
+        // callbacks are scheduled in whole seconds
+        return Duration.ofSeconds(Math.max(1L, Math.round(delay / 1000.0)));
+    }
+
+    private long backoff(final int attempt) {
+        final int exponent = Math.min(Math.max(attempt - 1, 0), MAX_BACKOFF_EXPONENT);
+        return Math.min(initialDelay.toMillis() << exponent, maxDelay.toMillis());
+    }
+
+    private long elapsed(final int attempt) {
+        long elapsed = 0;
+        for (int i = 1; i < attempt; i++) {
+            final long backoff = backoff(i);
+            if (backoff == maxDelay.toMillis()) {
+                return elapsed + backoff * (attempt - i);
+            }
+            elapsed += backoff;
+        }
+        return elapsed;
+    }
+
+    public static class Builder {
+        private Duration initialDelay = Duration.ofSeconds(5);
+        private Duration maxDelay = Duration.ofSeconds(60);
+        private Duration timeout = Duration.ofHours(1L);
+        private double jitter = 0.2;
+        private final Map<String, Duration> minimumDelays = new HashMap<>();
+
+        public Builder initialDelay(final Duration initialDelay) {
+            this.initialDelay = initialDelay;
+            return this;
+        }
+
+        public Builder maxDelay(final Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        public Builder timeout(final Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public Builder jitter(final double jitter) {
+            this.jitter = jitter;
+            return this;
+        }
+
+        public Builder minimumDelay(final String status, final Duration delay) {
+            this.minimumDelays.put(status.toLowerCase(Locale.ROOT), delay);
+            return this;
+        }
+
+        public StabilizationDelay build() {
+            return new StabilizationDelay(this);
+        }
+    }
+}
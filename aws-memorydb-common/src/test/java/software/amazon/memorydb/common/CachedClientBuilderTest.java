@@ -0,0 +1,22 @@
+package software.amazon.memorydb.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+
+public class CachedClientBuilderTest {
+
+    @Test
+    public void getClient_ReusedPerRegionAndEndpoint() {
+        final MemoryDbClient client = CachedClientBuilder.getClient(Region.US_EAST_1, null);
+
+        assertThat(CachedClientBuilder.getClient(Region.US_EAST_1, null)).isSameAs(client);
+        assertThat(CachedClientBuilder.getClient(Region.US_WEST_2, null)).isNotSameAs(client);
+        assertThat(CachedClientBuilder.getClient(Region.US_EAST_1, URI.create("https://memory-db.localhost"))).isNotSameAs(client);
+    }
+}
@@ -0,0 +1,42 @@
+package software.amazon.memorydb.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.memorydb.model.ClusterNotFoundException;
+import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+public class ConcurrentListTagsTest {
+
+    @Test
+    public void buildArn_FromTheAccountAndRegionOfTheRequest() {
+        final ResourceHandlerRequest<Object> request = ResourceHandlerRequest.<Object>builder()
+                .awsAccountId("123456789012").region("cn-north-1").awsPartition("aws-cn").build();
+        final ResourceHandlerRequest<Object> requestWithoutPartition = ResourceHandlerRequest.<Object>builder()
+                .awsAccountId("123456789012").region("us-east-1").build();
+        final ResourceHandlerRequest<Object> requestWithoutRegion = ResourceHandlerRequest.<Object>builder()
+                .awsAccountId("123456789012").build();
+
+        assertThat(ConcurrentListTags.buildArn(request, "cluster", "my-cluster"))
+                .isEqualTo("arn:aws-cn:memorydb:cn-north-1:123456789012:cluster/my-cluster");
+        assertThat(ConcurrentListTags.buildArn(requestWithoutPartition, "acl", "my-acl"))
+                .isEqualTo("arn:aws:memorydb:us-east-1:123456789012:acl/my-acl");
+        assertThat(ConcurrentListTags.buildArn(request, "acl", null)).isNull();
+        assertThat(ConcurrentListTags.buildArn(requestWithoutRegion, "acl", "my-acl")).isNull();
+    }
+
+    @Test
+    public void join_RethrowsTheFailureOfTheCall() {
+        final ListTagsResponse response = ListTagsResponse.builder().build();
+        final CompletableFuture<ListTagsResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(ClusterNotFoundException.builder().build());
+
+        assertThat(ConcurrentListTags.join(CompletableFuture.completedFuture(response))).isSameAs(response);
+        assertThatThrownBy(() -> ConcurrentListTags.join(failed)).isInstanceOf(ClusterNotFoundException.class);
+    }
+}
@@ -0,0 +1,156 @@
+package software.amazon.memorydb.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.ClusterNotFoundException;
+import software.amazon.awssdk.services.memorydb.model.DeleteClusterRequest;
+import software.amazon.awssdk.services.memorydb.model.DeleteClusterResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeClustersRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.memorydb.model.MemoryDbException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+
+public class DescribeRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1L);
+
+    private final List<Long> sleeps = new ArrayList<>();
+    private long now;
+
+    @BeforeEach
+    public void setup() {
+        sleeps.clear();
+        now = 0;
+    }
+
+    private DescribeRateLimiter limiter() {
+        return DescribeRateLimiter.of()
+                .minRate(0.5)
+                .maxRate(2)
+                .increase(0.5)
+                .decreaseFactor(2)
+                .burst(2)
+                .maxWait(Duration.ofSeconds(2))
+                .nanoTime(() -> now)
+                .sleeper(sleeps::add)
+                .build();
+    }
+
+    private static MemoryDbException throttled() {
+        return MemoryDbException.builder().statusCode(400)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+                .build();
+    }
+
+    @Test
+    public void reserve_SpreadsCallsOnceBurstIsUsed() {
+        final DescribeRateLimiter limiter = limiter();
+
+        assertThat(limiter.reserve()).isEqualTo(0);
+        assertThat(limiter.reserve()).isEqualTo(0);
+        assertThat(limiter.reserve()).isEqualTo(SECOND / 2);
+        assertThat(limiter.reserve()).isEqualTo(SECOND);
+
+        // the bucket refills at the current rate
+        now = 3 * SECOND;
+        assertThat(limiter.reserve()).isEqualTo(0);
+    }
+
+    @Test
+    public void reserve_FailsFastOnceTheWaitExceedsMaxWait() {
+        final DescribeRateLimiter limiter = limiter();
+        limiter.onThrottle();
+        limiter.onThrottle();
+
+        // at half a call per second, the third call of the burst would wait two seconds and the fourth four
+        assertThat(limiter.reserve()).isEqualTo(0);
+        assertThat(limiter.reserve()).isEqualTo(0);
+        assertThat(limiter.reserve()).isEqualTo(2 * SECOND);
+        assertThatThrownBy(limiter::reserve)
+                .isInstanceOfSatisfying(MemoryDbException.class, e -> assertThat(e.isThrottlingException()).isTrue());
+
+        // the failed call did not take a slot
+        now = 2 * SECOND;
+        assertThat(limiter.reserve()).isEqualTo(2 * SECOND);
+    }
+
+    @Test
+    public void isThrottled_LooksThroughTheCauses() {
+        assertThat(DescribeRateLimiter.isThrottled(throttled())).isTrue();
+        assertThat(DescribeRateLimiter.isThrottled(new CfnGeneralServiceException(throttled()))).isTrue();
+        assertThat(DescribeRateLimiter.isThrottled(new CfnGeneralServiceException(ClusterNotFoundException.builder().build()))).isFalse();
+        assertThat(DescribeRateLimiter.isThrottled(new IllegalStateException())).isFalse();
+    }
+
+    @Test
+    public void rate_IncreasesAdditivelyAndDecreasesMultiplicatively() {
+        final DescribeRateLimiter limiter = limiter();
+
+        limiter.onThrottle();
+        assertThat(limiter.getRate()).isEqualTo(1.0);
+        limiter.onThrottle();
+        limiter.onThrottle();
+        assertThat(limiter.getRate()).isEqualTo(0.5);
+        limiter.onSuccess();
+        assertThat(limiter.getRate()).isEqualTo(1.0);
+        limiter.onSuccess();
+        limiter.onSuccess();
+        assertThat(limiter.getRate()).isEqualTo(2.0);
+    }
+
+    @Test
+    public void limit_ReturnsThrottlesToTheCallerAndSlowsDown() {
+        final MemoryDbClient client = mock(MemoryDbClient.class);
+        final DescribeClustersResponse response = DescribeClustersResponse.builder().build();
+        when(client.describeClusters(any(DescribeClustersRequest.class))).thenThrow(throttled()).thenThrow(throttled()).thenReturn(response);
+        final DescribeRateLimiter limiter = limiter();
+        final MemoryDbClient limited = limiter.limit(client);
+
+        assertThatThrownBy(() -> limited.describeClusters(DescribeClustersRequest.builder().build()))
+                .isInstanceOf(MemoryDbException.class);
+        assertThatThrownBy(() -> limited.describeClusters(DescribeClustersRequest.builder().build()))
+                .isInstanceOf(MemoryDbException.class);
+        // two throttles halve the rate twice, so the next call waits two seconds for its slot
+        assertThat(limiter.getRate()).isEqualTo(0.5);
+        assertThat(limited.describeClusters(DescribeClustersRequest.builder().build())).isSameAs(response);
+
+        verify(client, times(3)).describeClusters(any(DescribeClustersRequest.class));
+        assertThat(limiter.getRate()).isEqualTo(1.0);
+        assertThat(sleeps).containsExactly(2 * SECOND);
+    }
+
+    @Test
+    public void limit_PassesThroughOtherErrorsAndOperations() {
+        final MemoryDbClient client = mock(MemoryDbClient.class);
+        when(client.describeClusters(any(DescribeClustersRequest.class))).thenThrow(ClusterNotFoundException.builder().build());
+        when(client.deleteCluster(any(DeleteClusterRequest.class))).thenReturn(DeleteClusterResponse.builder().build());
+        final DescribeRateLimiter limiter = limiter();
+        final MemoryDbClient limited = limiter.limit(client);
+
+        assertThatThrownBy(() -> limited.describeClusters(DescribeClustersRequest.builder().build()))
+                .isInstanceOf(ClusterNotFoundException.class);
+        for (int i = 0; i < 5; i++) {
+            limited.deleteCluster(DeleteClusterRequest.builder().build());
+        }
+
+        verify(client, times(1)).describeClusters(any(DescribeClustersRequest.class));
+        assertThat(sleeps).isEmpty();
+        assertThat(limiter.getRate()).isEqualTo(2.0);
+    }
+}
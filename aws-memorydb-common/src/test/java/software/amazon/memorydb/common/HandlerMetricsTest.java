@@ -0,0 +1,87 @@
+package software.amazon.memorydb.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.DescribeClustersRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.memorydb.model.MemoryDbException;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+@ExtendWith(MockitoExtension.class)
+public class HandlerMetricsTest {
+
+    private static final String RESOURCE_TYPE = "AWS::MemoryDB::Cluster";
+
+    private final List<String> documents = new ArrayList<>();
+    @Mock
+    private ProxyClient<MemoryDbClient> baseProxyClient;
+    private MemoryDbClient sdkClient;
+    private Clock clock;
+
+    @BeforeEach
+    public void setup() {
+        sdkClient = mock(MemoryDbClient.class);
+        clock = mock(Clock.class);
+        documents.clear();
+    }
+
+    @Test
+    public void emit_RecordsCallsThrottlesAndRetriesByOperation() {
+        when(clock.millis()).thenReturn(1_000L, 4_000L, 6_000L);
+        when(sdkClient.describeClusters(any(DescribeClustersRequest.class)))
+                .thenThrow(MemoryDbException.builder().statusCode(429).message("Rate exceeded").build())
+                .thenReturn(DescribeClustersResponse.builder().build());
+        when(baseProxyClient.client()).thenReturn(sdkClient);
+        final HandlerMetrics metrics = new HandlerMetrics(RESOURCE_TYPE, "Update", clock);
+        final ProxyClient<MemoryDbClient> proxyClient = metrics.instrument(baseProxyClient);
+
+        final DescribeClustersRequest request = DescribeClustersRequest.builder().clusterName("test-cluster").build();
+        assertThatThrownBy(() -> proxyClient.client().describeClusters(request)).isInstanceOf(MemoryDbException.class);
+        proxyClient.client().describeClusters(request);
+        metrics.recordStabilizationPoll(false);
+        metrics.recordStabilizationPoll(true);
+        metrics.emit(documents::add, ProgressEvent.<Object, Object>builder().status(OperationStatus.SUCCESS).build());
+
+        assertThat(documents).hasSize(2);
+        assertThat(documents.get(0))
+                .startsWith("{\"_aws\":{\"Timestamp\":6000,\"CloudWatchMetrics\":[{\"Namespace\":\"MemoryDB/ResourceHandlers\"")
+                .contains("\"Dimensions\":[[\"ResourceType\",\"Operation\"],[\"ResourceType\",\"Action\",\"Operation\"]]")
+                .contains("{\"Name\":\"Latency\",\"Unit\":\"Milliseconds\"}")
+                .contains("\"ResourceType\":\"AWS::MemoryDB::Cluster\",\"Action\":\"Update\",\"Operation\":\"DescribeClusters\"")
+                .contains("\"Calls\":2,\"Throttles\":1,\"Retries\":1,\"Errors\":1");
+        assertThat(documents.get(1))
+                .contains("\"Dimensions\":[[\"ResourceType\",\"Action\"]]")
+                .contains("\"Status\":\"SUCCESS\",\"Duration\":5000,\"StabilizationPolls\":2,\"CallbackDelay\":0,\"TimeToStabilize\":3000");
+    }
+
+    @Test
+    public void emit_FailedInvocationWithoutCalls() {
+        when(clock.millis()).thenReturn(1_000L, 2_000L);
+        final HandlerMetrics metrics = new HandlerMetrics(RESOURCE_TYPE, "Create", clock);
+        metrics.recordStabilizationPoll(false);
+
+        metrics.emit(documents::add, null);
+
+        assertThat(documents).hasSize(1);
+        assertThat(documents.get(0))
+                .contains("\"Action\":\"Create\",\"Status\":\"FAILED\",\"Duration\":1000,\"StabilizationPolls\":1")
+                .doesNotContain("TimeToStabilize");
+    }
+}
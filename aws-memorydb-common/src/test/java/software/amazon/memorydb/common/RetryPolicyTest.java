@@ -0,0 +1,76 @@
+package software.amazon.memorydb.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.memorydb.model.InvalidUserStateException;
+import software.amazon.awssdk.services.memorydb.model.MemoryDbException;
+import software.amazon.awssdk.services.memorydb.model.UserAlreadyExistsException;
+import software.amazon.awssdk.services.memorydb.model.UserNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.proxy.Delay;
+
+public class RetryPolicyTest {
+
+    private static RetryPolicy policy(final double random) {
+        return RetryPolicy.of()
+                .terminal(UserNotFoundException.class, CfnAlreadyExistsException.class)
+                .conflict(InvalidUserStateException.class)
+                .backoff(RetryPolicy.Category.THROTTLING, Duration.ofSeconds(4), Duration.ofSeconds(32))
+                .backoff(RetryPolicy.Category.TRANSIENT, Duration.ofSeconds(2), Duration.ofSeconds(8))
+                .random(() -> random)
+                .build();
+    }
+
+    private static MemoryDbException throttled() {
+        return MemoryDbException.builder().statusCode(429).message("Rate exceeded").build();
+    }
+
+    @Test
+    public void classify_FollowsTheCauseChain() {
+        final RetryPolicy policy = policy(1.0);
+
+        assertThat(policy.classify(UserNotFoundException.builder().build())).isEqualTo(RetryPolicy.Category.TERMINAL);
+        assertThat(policy.classify(new CfnAlreadyExistsException(UserAlreadyExistsException.builder().build())))
+                .isEqualTo(RetryPolicy.Category.TERMINAL);
+        assertThat(policy.classify(InvalidUserStateException.builder().build())).isEqualTo(RetryPolicy.Category.CONFLICT);
+        assertThat(policy.classify(throttled())).isEqualTo(RetryPolicy.Category.THROTTLING);
+        assertThat(policy.classify(new CfnNotStabilizedException(throttled()))).isEqualTo(RetryPolicy.Category.THROTTLING);
+        assertThat(policy.classify(MemoryDbException.builder().statusCode(500).build())).isEqualTo(RetryPolicy.Category.TRANSIENT);
+        assertThat(policy.classify(new IllegalStateException())).isEqualTo(RetryPolicy.Category.TRANSIENT);
+    }
+
+    @Test
+    public void backoff_GrowsPerCategoryUpToCap() {
+        final RetryPolicy policy = policy(1.0);
+
+        assertThat(policy.backoff(RetryPolicy.Category.THROTTLING, 1)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(policy.backoff(RetryPolicy.Category.THROTTLING, 4)).isEqualTo(Duration.ofSeconds(32));
+        assertThat(policy.backoff(RetryPolicy.Category.THROTTLING, 40)).isEqualTo(Duration.ofSeconds(32));
+        assertThat(policy.backoff(RetryPolicy.Category.TRANSIENT, 1)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(policy.backoff(RetryPolicy.Category.TRANSIENT, 3)).isEqualTo(Duration.ofSeconds(8));
+        assertThat(policy.backoff(RetryPolicy.Category.CONFLICT, 1)).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void backoff_JitterKeepsAtLeastHalfTheBackoff() {
+        final RetryPolicy policy = policy(0.0);
+
+        assertThat(policy.backoff(RetryPolicy.Category.THROTTLING, 4)).isEqualTo(Duration.ofSeconds(16));
+        assertThat(policy.backoff(RetryPolicy.Category.TRANSIENT, 1)).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void withRetryBackoff_UsesPendingRetryDelayOnce() {
+        final AtomicReference<Duration> pending = new AtomicReference<>(Duration.ofSeconds(7));
+        final Delay delay = policy(1.0).withRetryBackoff(attempt -> Duration.ofSeconds(attempt), () -> pending.getAndSet(null));
+
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(7));
+        assertThat(delay.nextDelay(2)).isEqualTo(Duration.ofSeconds(2));
+    }
+}
@@ -0,0 +1,118 @@
+package software.amazon.memorydb.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+public class StabilizationDelayTest {
+
+    private static StabilizationDelay delay() {
+        return StabilizationDelay.of()
+                .initialDelay(Duration.ofSeconds(2))
+                .maxDelay(Duration.ofSeconds(16))
+                .timeout(Duration.ofSeconds(100))
+                .jitter(0)
+                .minimumDelay("Creating", Duration.ofSeconds(10))
+                .build();
+    }
+
+    @Test
+    public void nextDelay_BacksOffExponentiallyUpToCap() {
+        final StabilizationDelay delay = delay();
+
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(delay.nextDelay(2)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(delay.nextDelay(3)).isEqualTo(Duration.ofSeconds(8));
+        assertThat(delay.nextDelay(4)).isEqualTo(Duration.ofSeconds(16));
+        assertThat(delay.nextDelay(5)).isEqualTo(Duration.ofSeconds(16));
+    }
+
+    @Test
+    public void observing_AppliesMinimumDelayForObservedStatus() {
+        final AtomicReference<String> status = new AtomicReference<>();
+        final Delay delay = delay().observing(status::get);
+
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(2));
+        status.set("creating");
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(delay.nextDelay(4)).isEqualTo(Duration.ofSeconds(16));
+
+        status.set("available");
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(2));
+    }
+
+    @Test
+    public void observing_KeepsTheStatusOfEachResourceApart() {
+        final StabilizationDelay shared = delay();
+        final Delay creating = shared.observing(() -> "creating");
+        final Delay available = shared.observing(() -> "available");
+
+        assertThat(creating.nextDelay(1)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(available.nextDelay(1)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(shared.nextDelay(1)).isEqualTo(Duration.ofSeconds(2));
+    }
+
+    @Test
+    public void nextDelay_ReturnsZeroOnceTimeoutElapsed() {
+        final StabilizationDelay delay = delay();
+
+        // 2 + 4 + 8 + 16 * 5 = 94 seconds elapsed before the 9th attempt, 110 before the 10th
+        assertThat(delay.nextDelay(9)).isEqualTo(Duration.ofSeconds(16));
+        assertThat(delay.nextDelay(10)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void nextDelay_JitterStaysWithinBounds() {
+        final StabilizationDelay delay = StabilizationDelay.of()
+                .initialDelay(Duration.ofSeconds(10))
+                .maxDelay(Duration.ofSeconds(10))
+                .jitter(0.5)
+                .build();
+
+        for (int attempt = 1; attempt < 20; attempt++) {
+            assertThat(delay.nextDelay(attempt)).isBetween(Duration.ofSeconds(5), Duration.ofSeconds(10));
+        }
+    }
+
+    @Test
+    public void progressDelay_FollowsProgressRate() {
+        final StabilizationDelay delay = StabilizationDelay.of()
+                .initialDelay(Duration.ofSeconds(5))
+                .maxDelay(Duration.ofSeconds(300))
+                .jitter(0)
+                .minimumDelay("updating", Duration.ofSeconds(60))
+                .build();
+
+        // nothing to compare the first measure with
+        assertThat(delay.progressDelay(-1, 0L, 10, 0L)).isNull();
+        // 30% per minute, 60% remaining: polls in a quarter of the 2 remaining minutes
+        assertThat(delay.progressDelay(10, 0L, 40, 60_000L)).isEqualTo(Duration.ofSeconds(30));
+        // 55% per minute, 5% remaining: bounded by the initial delay
+        assertThat(delay.progressDelay(40, 60_000L, 95, 120_000L)).isEqualTo(Duration.ofSeconds(5));
+        // stalled
+        assertThat(delay.progressDelay(95, 120_000L, 95, 180_000L)).isNull();
+    }
+
+    @Test
+    public void observing_ProgressDelayReplacesStatusBasedBackoff() {
+        final StabilizationDelay delay = StabilizationDelay.of()
+                .initialDelay(Duration.ofSeconds(5))
+                .maxDelay(Duration.ofSeconds(300))
+                .jitter(0)
+                .minimumDelay("updating", Duration.ofSeconds(60))
+                .build();
+        final AtomicReference<Duration> progressDelay = new AtomicReference<>();
+        final Delay updating = delay.observing(() -> "updating", progressDelay::get);
+
+        assertThat(updating.nextDelay(1)).isEqualTo(Duration.ofSeconds(60));
+        progressDelay.set(Duration.ofSeconds(30));
+        assertThat(updating.nextDelay(2)).isEqualTo(Duration.ofSeconds(30));
+        progressDelay.set(null);
+        assertThat(updating.nextDelay(3)).isEqualTo(Duration.ofSeconds(60));
+    }
+}
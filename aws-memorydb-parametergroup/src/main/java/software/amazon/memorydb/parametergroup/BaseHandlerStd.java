@@ -1,12 +1,16 @@
 package software.amazon.memorydb.parametergroup;
 
+import com.amazonaws.util.StringUtils;
 import org.apache.commons.collections.CollectionUtils;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeParametersResponse;
 import software.amazon.awssdk.services.memorydb.model.InvalidParameterCombinationException;
 import software.amazon.awssdk.services.memorydb.model.InvalidParameterGroupStateException;
 import software.amazon.awssdk.services.memorydb.model.InvalidParameterValueException;
+import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
+import software.amazon.awssdk.services.memorydb.model.Parameter;
 import software.amazon.awssdk.services.memorydb.model.ParameterGroupAlreadyExistsException;
 import software.amazon.awssdk.services.memorydb.model.ParameterGroupNotFoundException;
 import software.amazon.cloudformation.exceptions.BaseHandlerException;
@@ -22,42 +26,87 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.memorydb.common.ConcurrentListTags;
+import software.amazon.memorydb.common.DescribeRateLimiter;
+import software.amazon.memorydb.common.HandlerMetrics;
+import software.amazon.memorydb.common.StabilizationDelay;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
 // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
-    protected static final Constant STABILIZATION_DELAY = Constant.of()
+    private static final String ARN_RESOURCE_TYPE = "parametergroup";
+    protected static final StabilizationDelay STABILIZATION_DELAY = StabilizationDelay.of()
             // Set the timeout to something silly/way too high, because
             // we already set the timeout in the schema https://github.com/aws-cloudformation/aws-cloudformation-resource-schema
             .timeout(Duration.ofDays(365L))
-            // Set the delay to 1 minutes so the stabilization code only calls
-            // DescribeGlobalReplicationgroups every 1 minute - create takes
-            // 10+ minutes so there's no need to check if the cluster is available more than every couple minutes.
-            .delay(Duration.ofSeconds(60))
+            // Parameter group calls are synchronous, the delay only paces retries of the create and update calls.
+            .initialDelay(Duration.ofSeconds(5))
+            .maxDelay(Duration.ofSeconds(60))
             .build();
     protected static final int CALLBACK_DELAY = 30;
     protected static final BiFunction<ResourceModel, ProxyClient<MemoryDbClient>, ResourceModel> EMPTY_CALL = (model, proxyClient) -> model;
     protected static String STABILIZED_STATUS = "in-sync";
     protected static String DEFAULT_PARAMETER_GROUP_NAME_PREFIX = "default.";
 
+    private final ParameterCatalog parameterCatalog;
+    private HandlerMetrics metrics = new HandlerMetrics(ResourceModel.TYPE_NAME, getAction());
+
+    protected BaseHandlerStd() {
+        this(ParameterCatalog.SHARED);
+    }
+
+    BaseHandlerStd(final ParameterCatalog parameterCatalog) {
+        this.parameterCatalog = parameterCatalog;
+    }
+
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(ClientBuilder::getClient),
-                logger
-        );
+        // handler instances are reused by warm containers
+        metrics = new HandlerMetrics(ResourceModel.TYPE_NAME, getAction());
+        ProgressEvent<ResourceModel, CallbackContext> event = null;
+        try {
+            event = handleRequest(
+                    proxy,
+                    request,
+                    callbackContext != null ? callbackContext : new CallbackContext(),
+                    metrics.instrument(proxy.newProxy(ClientBuilder::getClient)),
+                    logger
+            );
+            return event;
+        } finally {
+            metrics.emit(logger, event);
+        }
+    }
+
+    /**
+     * Records a stabilization poll in the metrics of the current invocation and returns its outcome.
+     */
+    protected boolean recordStabilizationPoll(final boolean stabilized) {
+        return metrics.recordStabilizationPoll(stabilized);
+    }
+
+    /**
+     * Retry filter of the call chains: a call or poll throttled by the service or by the {@link DescribeRateLimiter}
+     * is tried again after the backoff delay of the chain instead of failing the handler.
+     */
+    protected static boolean isThrottled(final Exception exception) {
+        return DescribeRateLimiter.isThrottled(exception);
+    }
+
+    private String getAction() {
+        return getClass().getSimpleName().replace("Handler", "");
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -105,6 +154,68 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         }
     }
 
+    ParameterCatalog getParameterCatalog() {
+        return parameterCatalog;
+    }
+
+    /**
+     * Rejects parameters that are unknown to the family of the group or whose value the family does not allow, before
+     * any call that would fail on them. Parameters that the snapshot of the family accepts go through without a call,
+     * the service checks them again when they are applied; only the defaults described by the service reject them.
+     * Validation is skipped when the defaults of the family cannot be described, the service then remains the
+     * authority on the parameters.
+     */
+    protected void validateParameters(final ProxyClient<MemoryDbClient> proxyClient,
+                                      final ResourceModel model,
+                                      final Logger logger) {
+        if (model.getParameters() == null || model.getParameters().isEmpty() || model.getFamily() == null) {
+            return;
+        }
+        final Map<String, Parameter> seed = parameterCatalog.getSeed(model.getFamily(), model.getParameters().keySet());
+        if (seed != null && ParameterValidator.validate(model.getParameters(), seed).isEmpty()) {
+            return;
+        }
+        final Map<String, Parameter> defaultParams;
+        try {
+            defaultParams = getDefaultParameters(proxyClient, model.getFamily());
+        } catch (final BaseHandlerException e) {
+            logger.log(String.format("Skipping validation of the parameters of family %s: %s", model.getFamily(), e.getMessage()));
+            return;
+        }
+        final List<String> errors = ParameterValidator.validate(model.getParameters(), defaultParams);
+        if (!errors.isEmpty()) {
+            throw new CfnInvalidRequestException(
+                    String.format("Invalid parameters for family %s: %s", model.getFamily(), String.join("; ", errors)));
+        }
+    }
+
+    /**
+     * Returns all the default parameters of a family by name, as described by the service.
+     */
+    protected Map<String, Parameter> getDefaultParameters(final ProxyClient<MemoryDbClient> proxyClient,
+                                                          final String family) {
+        return parameterCatalog.getParameters(family, key -> describeDefaultParameters(proxyClient, key));
+    }
+
+    private List<Parameter> describeDefaultParameters(final ProxyClient<MemoryDbClient> proxyClient,
+                                                      final String family) {
+        final List<Parameter> defaultParams = new ArrayList<>();
+        String nextToken = null;
+        do {
+            try {
+                final DescribeParametersResponse describeParametersResponse = proxyClient.injectCredentialsAndInvokeV2(
+                        Translator.translateToDescribeParametersRequest(DEFAULT_PARAMETER_GROUP_NAME_PREFIX + family, nextToken), proxyClient.client()::describeParameters);
+                defaultParams.addAll(describeParametersResponse.parameters());
+                nextToken = describeParametersResponse.nextToken();
+            } catch (final ParameterGroupNotFoundException e) {
+                throw new CfnNotFoundException(e);
+            } catch (final Exception e) {
+                throw new CfnGeneralServiceException(e);
+            }
+        } while (!StringUtils.isNullOrEmpty(nextToken));
+        return defaultParams;
+    }
+
     protected boolean isArnPresent(ResourceModel model) {
         return model.getARN() != null && !model.getARN().isEmpty();
     }
@@ -146,4 +257,16 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                         }
                 );
     }
+
+    /**
+     * Builds the ARN of the resource from the account and region of the request, so that ListTags can be issued
+     * without waiting for the describe call. Returns null when the request does not carry them.
+     */
+    protected static String buildArn(final ResourceHandlerRequest<ResourceModel> request, final String name) {
+        return ConcurrentListTags.buildArn(request, ARN_RESOURCE_TYPE, name);
+    }
+
+    protected ListTagsResponse joinListTags(final CompletableFuture<ListTagsResponse> listTags) {
+        return handleExceptions(() -> ConcurrentListTags.join(listTags));
+    }
 }
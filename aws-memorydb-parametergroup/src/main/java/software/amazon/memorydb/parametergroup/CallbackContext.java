@@ -1,5 +1,7 @@
 package software.amazon.memorydb.parametergroup;
 
+import java.util.Set;
+
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 @lombok.Getter
@@ -7,6 +9,7 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
-    private String nextToken;
     private boolean clusterStabilized;
+    // clusters using the parameter group that have not applied it yet, null until they have been looked up
+    private Set<String> boundClusterNames;
 }
@@ -2,6 +2,7 @@ package software.amazon.memorydb.parametergroup;
 
 import org.apache.commons.lang3.Validate;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.Parameter;
 
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -10,6 +11,8 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 
@@ -21,6 +24,14 @@ public class CreateHandler extends BaseHandlerStd {
     public static final String ID_WRONG_FORMAT = "Name must begin with a letter; must contain only lowercase ASCII "
             + "letters, digits, and hyphens; and must not end with a hyphen or contain two consecutive hyphens.";
 
+    public CreateHandler() {
+        super();
+    }
+
+    CreateHandler(final ParameterCatalog parameterCatalog) {
+        super(parameterCatalog);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -44,8 +55,13 @@ public class CreateHandler extends BaseHandlerStd {
             throw new CfnInvalidRequestException(e.getMessage());
         }
 
+        // the parameters are applied right after the group is created, they are checked first so that a bad template
+        // fails before a group is left behind with only part of them
+        validateParameters(proxyClient, desiredResourceState, logger);
+
         return ProgressEvent.progress(desiredResourceState, callbackContext).then(progress -> createParameterGroup(proxy, proxyClient, progress, request.getDesiredResourceTags()))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(progress -> applyParameters(proxy, proxyClient, progress))
+                .then(progress -> new ReadHandler(getParameterCatalog()).handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> createParameterGroup(final AmazonWebServicesClientProxy proxy,
@@ -56,6 +72,32 @@ public class CreateHandler extends BaseHandlerStd {
                 .translateToServiceRequest((resourceModel) -> Translator.translateToCreateRequest(resourceModel, tags))
                 .backoffDelay(STABILIZATION_DELAY)
                 .makeServiceCall((awsRequest, memorydbClientProxyClient) -> handleExceptions(() -> memorydbClientProxyClient.injectCredentialsAndInvokeV2(awsRequest, memorydbClientProxyClient.client()::createParameterGroup)))
+                .retryErrorFilter((awsRequest, exception, client, model, context) -> isThrottled(exception))
                 .progress();
     }
+
+    /**
+     * CreateParameterGroup only takes the family, the parameters of the template are applied right after with
+     * UpdateParameterGroup, one request per chunk. The group is not used by any cluster yet, so there is nothing to
+     * wait for once they are applied.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> applyParameters(final AmazonWebServicesClientProxy proxy,
+                                                                          final ProxyClient<MemoryDbClient> proxyClient,
+                                                                          final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        final ParameterDiff diff = ParameterDiff.between(null, progress.getResourceModel().getParameters(),
+                removedParamKeys -> Collections.emptySet());
+        final List<List<Parameter>> chunks = diff.getChunks();
+        ProgressEvent<ResourceModel, CallbackContext> result = progress;
+        for (int chunk = 0; chunk < chunks.size(); chunk++) {
+            final String callGraph = "AWS-memorydb-ParameterGroup::CreateParameters" + (chunk == 0 ? "" : "-" + chunk);
+            final List<Parameter> paramsToApply = chunks.get(chunk);
+            result = result.then(current -> proxy.initiate(callGraph, proxyClient, current.getResourceModel(), current.getCallbackContext())
+                    .translateToServiceRequest(model -> Translator.translateToUpdateRequest(model, paramsToApply))
+                    .backoffDelay(STABILIZATION_DELAY)
+                    .makeServiceCall((awsRequest, proxyInvocation) -> handleExceptions(() -> proxyInvocation.injectCredentialsAndInvokeV2(awsRequest, proxyInvocation.client()::updateParameterGroup)))
+                    .retryErrorFilter((awsRequest, exception, client, model, context) -> isThrottled(exception))
+                    .progress());
+        }
+        return result;
+    }
 }
@@ -0,0 +1,116 @@
+package software.amazon.memorydb.parametergroup;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.memorydb.model.Parameter;
+
+/**
+ * Default parameters of each parameter group family, indexed by name.
+ *
+ * A family is loaded from the service the first time its defaults are needed and kept for the life of the container.
+ * Only loaded families are trusted for default values and allowed values.
+ *
+ * A family may also have a bundled snapshot of its most common parameters, taken from its own default group; only
+ * memorydb_redis6 has one. The snapshot is only a hint for validation: parameters that it accepts are let through
+ * without an API call on a cold start, and the service checks them again when they are applied. It never rejects a
+ * template and never supplies a default value, those always come from the loaded family.
+ */
+class ParameterCatalog {
+    static final ParameterCatalog SHARED = new ParameterCatalog(seed());
+
+    private final Map<String, Map<String, Parameter>> seeds;
+    private final Map<String, Map<String, Parameter>> loaded = new ConcurrentHashMap<>();
+
+    ParameterCatalog(final Map<String, List<Parameter>> seeds) {
+        this.seeds = seeds.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, entry -> index(entry.getValue())));
+    }
+
+    /**
+     * Returns the default parameters of a family as described by the service.
+     *
+     * @param family parameter group family, e.g. memorydb_redis6
+     * @param loader loads all the default parameters of a family from the service
+     */
+    Map<String, Parameter> getParameters(final String family,
+                                         final Function<String, List<Parameter>> loader) {
+        return loaded.computeIfAbsent(family, key -> index(loader.apply(key)));
+    }
+
+    /**
+     * Returns the snapshot of a family when it holds all the given names and the family was not loaded yet, in which
+     * case the loaded parameters are as cheap and authoritative.
+     *
+     * @return the snapshot parameters by name, or null
+     */
+    Map<String, Parameter> getSeed(final String family, final Collection<String> names) {
+        if (loaded.containsKey(family)) {
+            return null;
+        }
+        final Map<String, Parameter> seed = seeds.get(family);
+        return seed != null && seed.keySet().containsAll(names) ? seed : null;
+    }
+
+    private static Map<String, Parameter> index(final List<Parameter> parameters) {
+        final Map<String, Parameter> index = new HashMap<>();
+        parameters.forEach(parameter -> index.put(parameter.name(), parameter));
+        return Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * Snapshot of default.memorydb-redis6.
+     */
+    static Map<String, List<Parameter>> seed() {
+        final List<Parameter> redis6 = Arrays.asList(
+                parameter("acllog-max-len", "128", "integer", "1-10000"),
+                parameter("active-defrag-cycle-max", "75", "integer", "1-75"),
+                parameter("active-defrag-cycle-min", "5", "integer", "1-75"),
+                parameter("active-defrag-ignore-bytes", "104857600", "integer", "1048576-"),
+                parameter("active-defrag-max-scan-fields", "1000", "integer", "1-1000000"),
+                parameter("active-defrag-threshold-lower", "10", "integer", "1-100"),
+                parameter("active-defrag-threshold-upper", "100", "integer", "1-100"),
+                parameter("active-expire-effort", "1", "integer", "1-10"),
+                parameter("activedefrag", "no", "string", "yes,no"),
+                parameter("activerehashing", "yes", "string", "yes,no"),
+                parameter("hash-max-ziplist-entries", "512", "integer", "0-"),
+                parameter("hash-max-ziplist-value", "64", "integer", "0-"),
+                parameter("hll-sparse-max-bytes", "3000", "integer", "0-16000"),
+                parameter("lazyfree-lazy-eviction", "no", "string", "yes,no"),
+                parameter("lazyfree-lazy-expire", "no", "string", "yes,no"),
+                parameter("lazyfree-lazy-server-del", "no", "string", "yes,no"),
+                parameter("lazyfree-lazy-user-del", "no", "string", "yes,no"),
+                parameter("lfu-decay-time", "1", "integer", "0-"),
+                parameter("lfu-log-factor", "10", "integer", "1-"),
+                parameter("list-compress-depth", "0", "integer", "0-"),
+                parameter("maxmemory-policy", "noeviction", "string",
+                        "volatile-lru,allkeys-lru,volatile-lfu,allkeys-lfu,volatile-random,allkeys-random,volatile-ttl,noeviction"),
+                parameter("maxmemory-samples", "3", "integer", "1-"),
+                parameter("notify-keyspace-events", "", "string", null),
+                parameter("set-max-intset-entries", "512", "integer", "0-500000000"),
+                parameter("slowlog-log-slower-than", "10000", "integer", "0-"),
+                parameter("slowlog-max-len", "128", "integer", "0-"),
+                parameter("stream-node-max-bytes", "4096", "integer", "0-"),
+                parameter("stream-node-max-entries", "100", "integer", "0-"),
+                parameter("tcp-keepalive", "300", "integer", "0-"),
+                parameter("timeout", "0", "integer", "0,20-"),
+                parameter("tracking-table-max-keys", "1000000", "integer", "1-100000000"),
+                parameter("zset-max-ziplist-entries", "128", "integer", "0-"),
+                parameter("zset-max-ziplist-value", "64", "integer", "0-"));
+        // memorydb_redis7 changed some defaults and allowed values, it has no snapshot until one is taken from its own
+        // default parameter group
+        final Map<String, List<Parameter>> seeds = new HashMap<>();
+        seeds.put("memorydb_redis6", redis6);
+        return seeds;
+    }
+
+    private static Parameter parameter(final String name, final String value, final String dataType, final String allowedValues) {
+        return Parameter.builder().name(name).value(value).dataType(dataType).allowedValues(allowedValues).build();
+    }
+}
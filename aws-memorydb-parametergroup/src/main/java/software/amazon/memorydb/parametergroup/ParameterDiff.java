@@ -0,0 +1,85 @@
+package software.amazon.memorydb.parametergroup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import com.google.common.collect.Lists;
+import software.amazon.awssdk.services.memorydb.model.Parameter;
+
+/**
+ * Parameters to send to UpdateParameterGroup to go from the previous to the desired parameters of a group: the added
+ * and changed parameters with their desired value, and the removed ones with their default value. Parameters whose
+ * value does not change, including removed parameters that were already set to their default, are left out so the
+ * clusters using the group do not re-apply them.
+ */
+final class ParameterDiff {
+    // UpdateParameterGroup accepts at most 20 parameters per request
+    static final int MAX_PARAMETERS_PER_UPDATE = 20;
+
+    private final List<Parameter> parameters;
+
+    private ParameterDiff(final List<Parameter> parameters) {
+        this.parameters = parameters;
+    }
+
+    /**
+     * @param previous previous parameters of the group, may be null
+     * @param desired  desired parameters of the group, may be null
+     * @param defaults default parameters of the family, looked up by the names of the removed parameters
+     */
+    static ParameterDiff between(final Map<String, Object> previous,
+                                 final Map<String, Object> desired,
+                                 final Function<Set<String>, Collection<Parameter>> defaults) {
+        final Map<String, Object> previousParameters = previous != null ? previous : Collections.emptyMap();
+        final Map<String, Object> desiredParameters = desired != null ? desired : Collections.emptyMap();
+
+        // sorted by name so the same update is always split into the same chunks
+        final Map<String, String> delta = new TreeMap<>();
+        desiredParameters.forEach((name, value) -> {
+            if (!previousParameters.containsKey(name) || !Objects.equals(valueOf(previousParameters.get(name)), valueOf(value))) {
+                delta.put(name, valueOf(value));
+            }
+        });
+
+        final Set<String> removedNames = new TreeSet<>(previousParameters.keySet());
+        removedNames.removeAll(desiredParameters.keySet());
+        if (!removedNames.isEmpty()) {
+            for (final Parameter defaultParameter : defaults.apply(removedNames)) {
+                if (!Objects.equals(valueOf(previousParameters.get(defaultParameter.name())), defaultParameter.value())) {
+                    delta.put(defaultParameter.name(), defaultParameter.value());
+                }
+            }
+        }
+
+        final List<Parameter> parameters = new ArrayList<>();
+        delta.forEach((name, value) -> parameters.add(Parameter.builder().name(name).value(value).build()));
+        return new ParameterDiff(parameters);
+    }
+
+    boolean isEmpty() {
+        return parameters.isEmpty();
+    }
+
+    List<Parameter> getParameters() {
+        return Collections.unmodifiableList(parameters);
+    }
+
+    /**
+     * The delta split in chunks small enough for a single UpdateParameterGroup request each.
+     */
+    List<List<Parameter>> getChunks() {
+        return Lists.partition(parameters, MAX_PARAMETERS_PER_UPDATE);
+    }
+
+    private static String valueOf(final Object value) {
+        return value == null ? null : String.valueOf(value);
+    }
+}
@@ -0,0 +1,80 @@
+package software.amazon.memorydb.parametergroup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.memorydb.model.Parameter;
+
+/**
+ * Checks parameter names and values against the metadata DescribeParameters returns for the default parameters of a
+ * family, so that a bad template is rejected before any API call.
+ *
+ * Integer parameters must hold an integer within one of their allowed values, each a single value or a range with an
+ * optional upper bound, e.g. "0,20-". Other parameters must hold one of their comma separated allowed values.
+ * Allowed values that do not follow these forms are not enforced, the service remains the authority for them.
+ */
+final class ParameterValidator {
+    private static final String INTEGER_DATA_TYPE = "integer";
+    private static final Pattern RANGE = Pattern.compile("(-?\\d+)(-(-?\\d+)?)?");
+
+    private ParameterValidator() {
+    }
+
+    /**
+     * @param parameters parameters of the template
+     * @param metadata   default parameters of the family, by name
+     * @return a description of each invalid parameter, sorted by parameter name, empty when all are valid
+     */
+    static List<String> validate(final Map<String, Object> parameters, final Map<String, Parameter> metadata) {
+        final List<String> errors = new ArrayList<>();
+        new TreeMap<>(parameters).forEach((name, value) -> {
+            final Parameter parameter = metadata.get(name);
+            final String error = parameter == null ? "is not a parameter of the family" : validate(String.valueOf(value), parameter);
+            if (error != null) {
+                errors.add(String.format("%s %s", name, error));
+            }
+        });
+        return errors;
+    }
+
+    private static String validate(final String value, final Parameter parameter) {
+        final List<String> allowedValues = parameter.allowedValues() == null || parameter.allowedValues().trim().isEmpty()
+                ? new ArrayList<>()
+                : Arrays.stream(parameter.allowedValues().split(",")).map(String::trim).collect(Collectors.toList());
+
+        if (INTEGER_DATA_TYPE.equalsIgnoreCase(parameter.dataType())) {
+            final long number;
+            try {
+                number = Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                return String.format("must be an integer, got \"%s\"", value);
+            }
+            final List<Matcher> ranges = allowedValues.stream().map(RANGE::matcher).collect(Collectors.toList());
+            if (ranges.isEmpty() || !ranges.stream().allMatch(Matcher::matches)) {
+                return null;
+            }
+            return ranges.stream().anyMatch(range -> isWithin(number, range))
+                    ? null : String.format("must be within %s, got %s", parameter.allowedValues(), value);
+        }
+
+        if (allowedValues.isEmpty() || allowedValues.stream().anyMatch(allowedValue -> allowedValue.contains(" "))) {
+            return null;
+        }
+        return allowedValues.contains(value)
+                ? null : String.format("must be one of %s, got \"%s\"", parameter.allowedValues(), value);
+    }
+
+    private static boolean isWithin(final long number, final Matcher range) {
+        final long lowerBound = Long.parseLong(range.group(1));
+        if (range.group(2) == null) {
+            return number == lowerBound;
+        }
+        return number >= lowerBound && (range.group(3) == null || number <= Long.parseLong(range.group(3)));
+    }
+}
@@ -1,16 +1,36 @@
 package software.amazon.memorydb.parametergroup;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+import com.amazonaws.util.StringUtils;
 import org.apache.commons.collections.CollectionUtils;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.DescribeParametersResponse;
+import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
+import software.amazon.awssdk.services.memorydb.model.Parameter;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.memorydb.common.ConcurrentListTags;
 
 public class ReadHandler extends BaseHandlerStd {
     private Logger logger;
 
+    public ReadHandler() {
+        super();
+    }
+
+    ReadHandler(final ParameterCatalog parameterCatalog) {
+        super(parameterCatalog);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -20,9 +40,85 @@ public class ReadHandler extends BaseHandlerStd {
 
         this.logger = logger;
 
+        // the read model is rebuilt from the service, the parameters declared by the template are captured first
+        final Map<String, Object> declaredParameters = request.getDesiredResourceState().getParameters();
+        final String arn = buildArn(request, request.getDesiredResourceState().getParameterGroupName());
+        if (arn == null) {
+            // the ARN is only known once the parameter group has been described
+            return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+                    .then(progress -> describeParameterGroups(proxy, progress, proxyClient))
+                    .then(progress -> describeParameters(proxyClient, progress, declaredParameters))
+                    .then(progress -> listTags(proxy, progress, proxyClient))
+                    .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
+        }
+
+        final CompletableFuture<ListTagsResponse> listTags = ConcurrentListTags.listTagsAsync(proxyClient, arn);
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(progress -> describeParameterGroups(proxy, progress, proxyClient))
-                .then(progress -> listTags(proxy, progress, proxyClient))
+                .then(progress -> describeParameters(proxyClient, progress, declaredParameters))
+                .then(progress -> {
+                    final ListTagsResponse listTagsResponse = joinListTags(listTags);
+                    if (CollectionUtils.isNotEmpty(listTagsResponse.tagList())) {
+                        progress.getResourceModel().setTags(Translator.translateTags(listTagsResponse.tagList()));
+                    }
+                    return progress;
+                })
                 .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
     }
+
+    /**
+     * Sets the parameters of the group that the template declared, with the values actually applied, so that drift
+     * detection compares the same keys, including the ones the template sets to their default. When the model declares
+     * no parameters, e.g. on a Read by identifier, only the parameters whose value differs from the default of the
+     * family are set; they are left out when the defaults of the family cannot be described, since every parameter
+     * would otherwise show as drifted. The parameters are read one page at a time and only the kept values are held.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> describeParameters(final ProxyClient<MemoryDbClient> proxyClient,
+                                                                            final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                            final Map<String, Object> declaredParameters) {
+        final ResourceModel model = progress.getResourceModel();
+        final Predicate<Parameter> isKept;
+        if (declaredParameters != null && !declaredParameters.isEmpty()) {
+            isKept = parameter -> declaredParameters.containsKey(parameter.name());
+        } else {
+            final Map<String, Parameter> defaultParams;
+            try {
+                defaultParams = getDefaultParameters(proxyClient, model.getFamily());
+            } catch (final BaseHandlerException e) {
+                logger.log(String.format("Skipping the parameters of %s, the defaults of family %s are unavailable: %s",
+                        model.getParameterGroupName(), model.getFamily(), e.getMessage()));
+                return progress;
+            }
+            isKept = parameter -> {
+                final Parameter defaultParam = defaultParams.get(parameter.name());
+                return defaultParam == null || !Objects.equals(valueOf(parameter), valueOf(defaultParam));
+            };
+        }
+
+        final Map<String, Object> params = new HashMap<>();
+        String nextToken = null;
+        do {
+            final DescribeParametersResponse page = describeParametersPage(proxyClient, model.getParameterGroupName(), nextToken);
+            for (final Parameter parameter : page.parameters()) {
+                if (isKept.test(parameter)) {
+                    params.put(parameter.name(), parameter.value());
+                }
+            }
+            nextToken = page.nextToken();
+        } while (!StringUtils.isNullOrEmpty(nextToken));
+
+        model.setParameters(params.isEmpty() ? null : params);
+        return progress;
+    }
+
+    private DescribeParametersResponse describeParametersPage(final ProxyClient<MemoryDbClient> proxyClient,
+                                                              final String parameterGroupName,
+                                                              final String nextToken) {
+        return handleExceptions(() -> proxyClient.injectCredentialsAndInvokeV2(
+                Translator.translateToDescribeParametersRequest(parameterGroupName, nextToken), proxyClient.client()::describeParameters));
+    }
+
+    private static String valueOf(final Parameter parameter) {
+        return parameter.value() == null ? "" : parameter.value();
+    }
 }
@@ -35,7 +35,8 @@ import java.util.stream.Stream;
  */
 
 public class Translator {
-  private static final int MAX_RECORDS_TO_DESCRIBE = 20;
+  private static final int MAX_CLUSTERS_TO_DESCRIBE = 100;
+  private static final int MAX_PARAMETERS_TO_DESCRIBE = 100;
 
   /**
    * Returns true if desiredValue is not null and it is not equal to the currentValue.
@@ -143,10 +144,22 @@ public class Translator {
             .build();
   }
 
+  /**
+   * Pages through all the clusters of the account at the largest page size. The shard details are not needed to tell
+   * which parameter group a cluster uses, and they make up most of the response.
+   */
   public static DescribeClustersRequest translateToDescribeClustersRequest(String token) {
     return DescribeClustersRequest.builder()
             .nextToken(token)
-            .maxResults(MAX_RECORDS_TO_DESCRIBE)
+            .maxResults(MAX_CLUSTERS_TO_DESCRIBE)
+            .showShardDetails(false)
+            .build();
+  }
+
+  public static DescribeClustersRequest translateToDescribeClusterRequest(String clusterName) {
+    return DescribeClustersRequest.builder()
+            .clusterName(clusterName)
+            .showShardDetails(false)
             .build();
   }
 
@@ -197,7 +210,7 @@ public class Translator {
   }
 
   public static DescribeParametersRequest translateToDescribeParametersRequest(String parameterGroupName, String nextToken) {
-    return DescribeParametersRequest.builder().parameterGroupName(parameterGroupName).maxResults(MAX_RECORDS_TO_DESCRIBE).nextToken(nextToken).build();
+    return DescribeParametersRequest.builder().parameterGroupName(parameterGroupName).maxResults(MAX_PARAMETERS_TO_DESCRIBE).nextToken(nextToken).build();
   }
 
   static Set<software.amazon.memorydb.parametergroup.Tag> translateTags(final Collection<Tag> tags) {
@@ -8,18 +8,15 @@ import com.google.common.collect.Sets;
 import org.apache.commons.collections.CollectionUtils;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.Cluster;
+import software.amazon.awssdk.services.memorydb.model.ClusterNotFoundException;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
 import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsResponse;
-import software.amazon.awssdk.services.memorydb.model.DescribeParametersResponse;
 import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
 import software.amazon.awssdk.services.memorydb.model.Parameter;
-import software.amazon.awssdk.services.memorydb.model.ParameterGroup;
-import software.amazon.awssdk.services.memorydb.model.ParameterGroupNotFoundException;
 import software.amazon.awssdk.services.memorydb.model.TagResourceResponse;
 import software.amazon.awssdk.services.memorydb.model.UntagResourceResponse;
 import software.amazon.cloudformation.exceptions.BaseHandlerException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -27,14 +24,24 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 public class UpdateHandler extends BaseHandlerStd {
 
+    public UpdateHandler() {
+        super();
+    }
+
+    UpdateHandler(final ParameterCatalog parameterCatalog) {
+        super(parameterCatalog);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -42,6 +49,9 @@ public class UpdateHandler extends BaseHandlerStd {
             final ProxyClient<MemoryDbClient> proxyClient,
             final Logger logger) {
         final ResourceModel desiredResourceState = request.getDesiredResourceState();
+        if (isUpdateNeeded(desiredResourceState, request.getPreviousResourceState())) {
+            validateParameters(proxyClient, desiredResourceState, logger);
+        }
         return ProgressEvent.progress(desiredResourceState, callbackContext)
                 .then(progress -> updateParameterGroup(proxy, proxyClient, progress, request))
                 .then(progress -> waitForStabilize(proxy, proxyClient, progress, request))
@@ -120,40 +130,68 @@ public class UpdateHandler extends BaseHandlerStd {
             return progress; // if same params then skip stabilization
         }
         final CallbackContext cxt = progress.getCallbackContext();
+        if (cxt.isClusterStabilized()) {
+            return progress;
+        }
+        final String parameterGroupName = request.getDesiredResourceState().getParameterGroupName();
         try {
-            if (!cxt.isClusterStabilized()) { // if not stabilized then we keep describing clusters and memoizing the nextToken into the set
-
-                final DescribeClustersResponse describeClustersResponse = proxyClient.injectCredentialsAndInvokeV2(Translator.translateToDescribeClustersRequest(cxt.getNextToken()), proxyClient.client()::describeClusters);
-
-                List<Cluster> clusters = describeClustersResponse.clusters();
-                if ((clusters == null) || (clusters != null && clusters.isEmpty())) {
-                    cxt.setClusterStabilized(true);
-                    return progress;
-                }
-
-                if (clusters.stream()
-                        .filter(cluster -> cluster.parameterGroupName() != null // could be null when the cluster is in create-failed state
-                                && cluster.parameterGroupStatus() != null // same as above
-                                && cluster.parameterGroupName().equals(request.getDesiredResourceState().getParameterGroupName())) // all db clusters that use the param group
-                        .allMatch(dbCluster -> STABILIZED_STATUS.equals(dbCluster.parameterGroupStatus()))) { // if all stabilized then move to the next page
-
-                    if (describeClustersResponse.nextToken() != null) { // more pages left
-                        cxt.setNextToken(describeClustersResponse.nextToken());
-                        progress.setCallbackDelaySeconds(CALLBACK_DELAY); // if there are more to describe
-                    } else { // nothing left to stabilized
-                        cxt.setClusterStabilized(true);
-                    }
-                } else {
-                    progress.setCallbackDelaySeconds(CALLBACK_DELAY); // if some still in transition status need some delay to describe
-                }
+            if (cxt.getBoundClusterNames() == null) {
+                // first pass, look up the clusters using the param group in a single invocation. They are all kept, as
+                // right after the update a cluster may still report in-sync before it starts applying the change
+                cxt.setBoundClusterNames(describeBoundClusters(proxyClient, parameterGroupName));
+            } else { // following polls only describe the clusters that have not applied the param group yet
+                cxt.getBoundClusterNames().removeIf(clusterName -> isApplied(proxyClient, clusterName, parameterGroupName));
+            }
+            cxt.setClusterStabilized(cxt.getBoundClusterNames().isEmpty());
+            if (!recordStabilizationPoll(cxt.isClusterStabilized())) {
+                progress.setCallbackDelaySeconds(CALLBACK_DELAY); // some clusters still in transition status need some delay to describe
             }
             progress.setCallbackContext(cxt);
             return progress;
         } catch (final Exception e) {
+            if (isThrottled(e)) { // the clusters left are described again on the next poll
+                progress.setCallbackDelaySeconds(CALLBACK_DELAY);
+                return progress;
+            }
             throw new CfnGeneralServiceException(e);
         }
     }
 
+    private Set<String> describeBoundClusters(final ProxyClient<MemoryDbClient> proxyClient,
+                                              final String parameterGroupName) {
+        final Set<String> clusterNames = new HashSet<>();
+        String nextToken = null;
+        do {
+            final DescribeClustersResponse describeClustersResponse = proxyClient.injectCredentialsAndInvokeV2(
+                    Translator.translateToDescribeClustersRequest(nextToken), proxyClient.client()::describeClusters);
+            describeClustersResponse.clusters().stream()
+                    .filter(cluster -> parameterGroupName.equals(cluster.parameterGroupName()))
+                    .map(Cluster::name)
+                    .forEach(clusterNames::add);
+            nextToken = describeClustersResponse.nextToken();
+        } while (!StringUtils.isNullOrEmpty(nextToken));
+        return clusterNames;
+    }
+
+    private boolean isApplied(final ProxyClient<MemoryDbClient> proxyClient,
+                              final String clusterName,
+                              final String parameterGroupName) {
+        try {
+            return proxyClient.injectCredentialsAndInvokeV2(Translator.translateToDescribeClusterRequest(clusterName), proxyClient.client()::describeClusters)
+                    .clusters().stream()
+                    .noneMatch(cluster -> isApplying(cluster, parameterGroupName));
+        } catch (final ClusterNotFoundException e) {
+            return true; // deleted clusters have nothing left to apply
+        }
+    }
+
+    private static boolean isApplying(final Cluster cluster, final String parameterGroupName) {
+        return cluster.parameterGroupName() != null // could be null when the cluster is in create-failed state
+                && cluster.parameterGroupStatus() != null // same as above
+                && cluster.parameterGroupName().equals(parameterGroupName)
+                && !STABILIZED_STATUS.equals(cluster.parameterGroupStatus());
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> updateParameterGroup(final AmazonWebServicesClientProxy proxy,
                                                                                  final ProxyClient<MemoryDbClient> proxyClient,
                                                                                  final ProgressEvent<ResourceModel, CallbackContext> progress,
@@ -164,36 +202,28 @@ public class UpdateHandler extends BaseHandlerStd {
                 return progress;
             }
 
-            Map<String, Object> specifiedParamsToUpdate = request.getDesiredResourceState().getParameters();
-
-            Map<String, Object> existingParams = request.getPreviousResourceState().getParameters();
-
-            Set<String> removedParamKeys = existingParams != null && !existingParams.isEmpty() ?
-                    existingParams.entrySet().stream().filter(existingParam ->
-                            !specifiedParamsToUpdate.containsKey(existingParam.getKey()))
-                            .map(removedParam -> removedParam.getKey())
-                            .collect(Collectors.toSet()) : null;
-
-            final List<Parameter> finalParamsToUpdate = specifiedParamsToUpdate
-                    .entrySet()
-                    .stream()
-                    .map(kv -> Parameter.builder()
-                            .name(kv.getKey())
-                            .value(String.valueOf(kv.getValue()))
-                            .build())
-                    .collect(Collectors.toList());
-
-            //get the default parameter values for all the params which were removed from the desired state
-            if(removedParamKeys != null && !removedParamKeys.isEmpty()) {
-                finalParamsToUpdate.addAll(getDefaultParametersForRemovedParams(removedParamKeys, proxyClient, progress));
+            final ParameterDiff diff = ParameterDiff.between(request.getPreviousResourceState().getParameters(),
+                    request.getDesiredResourceState().getParameters(),
+                    removedParamKeys -> getDefaultParametersForRemovedParams(removedParamKeys, proxyClient, progress));
+            if (diff.isEmpty()) { // no effective change, so the clusters have nothing to apply and there is nothing to wait for
+                progress.getCallbackContext().setClusterStabilized(true);
+                return progress;
             }
 
-            //initiate parameter-group update
-            return proxy.initiate("AWS-memorydb-ParameterGroup::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                    .translateToServiceRequest(model -> Translator.translateToUpdateRequest(model, finalParamsToUpdate))
-                    .backoffDelay(STABILIZATION_DELAY)
-                    .makeServiceCall((awsRequest, proxyInvocation) -> handleExceptions(() -> proxyInvocation.injectCredentialsAndInvokeV2(awsRequest, proxyInvocation.client()::updateParameterGroup)))
-                    .progress();
+            //initiate parameter-group update, one request per chunk of the delta
+            final List<List<Parameter>> chunks = diff.getChunks();
+            ProgressEvent<ResourceModel, CallbackContext> result = progress;
+            for (int chunk = 0; chunk < chunks.size(); chunk++) {
+                final String callGraph = "AWS-memorydb-ParameterGroup::Update" + (chunk == 0 ? "" : "-" + chunk);
+                final List<Parameter> paramsToUpdate = chunks.get(chunk);
+                result = result.then(current -> proxy.initiate(callGraph, proxyClient, current.getResourceModel(), current.getCallbackContext())
+                        .translateToServiceRequest(model -> Translator.translateToUpdateRequest(model, paramsToUpdate))
+                        .backoffDelay(STABILIZATION_DELAY)
+                        .makeServiceCall((awsRequest, proxyInvocation) -> handleExceptions(() -> proxyInvocation.injectCredentialsAndInvokeV2(awsRequest, proxyInvocation.client()::updateParameterGroup)))
+                        .retryErrorFilter((awsRequest, exception, client, model, context) -> isThrottled(exception))
+                        .progress());
+            }
+            return result;
         } catch (BaseHandlerException e) {
             throw e;
         } catch (final Exception e) {
@@ -204,26 +234,13 @@ public class UpdateHandler extends BaseHandlerStd {
     Set<Parameter> getDefaultParametersForRemovedParams(final Set<String> removedParamKeys,
                                                         final ProxyClient<MemoryDbClient> proxyClient,
                                                         final ProgressEvent<ResourceModel, CallbackContext> progress) {
-        Set<Parameter> removedParams;
-        String nextToken = null;
-        final ParameterGroup paramGroup = proxyClient.injectCredentialsAndInvokeV2(
-                Translator.translateToReadRequest(progress.getResourceModel()), proxyClient.client()::describeParameterGroups).parameterGroups().get(0);
-        do {
-            try {
-                final DescribeParametersResponse describeParametersResponse = proxyClient.injectCredentialsAndInvokeV2(
-                        Translator.translateToDescribeParametersRequest(DEFAULT_PARAMETER_GROUP_NAME_PREFIX + paramGroup.family(), nextToken), proxyClient.client()::describeParameters);
-
-                nextToken = describeParametersResponse.nextToken();
-                removedParams = describeParametersResponse.parameters().stream().filter(defaultParam -> removedParamKeys.contains(defaultParam.name())).collect(Collectors.toSet());
-                if (removedParams != null && removedParams.size() == removedParamKeys.size()) {
-                    break;
-                }
-            } catch (final ParameterGroupNotFoundException e) {
-                throw new CfnNotFoundException(e);
-            } catch (final Exception e) {
-                throw new CfnGeneralServiceException(e);
-            }
-        } while (!StringUtils.isNullOrEmpty(nextToken));
-        return removedParams;
+        final String family = Optional.ofNullable(progress.getResourceModel().getFamily())
+                .orElseGet(() -> proxyClient.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(progress.getResourceModel()),
+                        proxyClient.client()::describeParameterGroups).parameterGroups().get(0).family());
+        final Map<String, Parameter> defaultParams = getDefaultParameters(proxyClient, family);
+        return removedParamKeys.stream()
+                .map(defaultParams::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
     }
 }
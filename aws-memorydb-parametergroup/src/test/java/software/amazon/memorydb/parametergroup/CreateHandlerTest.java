@@ -1,6 +1,7 @@
 package software.amazon.memorydb.parametergroup;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -9,10 +10,16 @@ import software.amazon.awssdk.services.memorydb.model.CreateParameterGroupReques
 import software.amazon.awssdk.services.memorydb.model.CreateParameterGroupResponse;
 import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeParametersRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeParametersResponse;
 import software.amazon.awssdk.services.memorydb.model.ListTagsRequest;
 import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
+import software.amazon.awssdk.services.memorydb.model.Parameter;
 import software.amazon.awssdk.services.memorydb.model.ParameterGroup;
 import software.amazon.awssdk.services.memorydb.model.ParameterGroupAlreadyExistsException;
+import software.amazon.awssdk.services.memorydb.model.ParameterNameValue;
+import software.amazon.awssdk.services.memorydb.model.UpdateParameterGroupRequest;
+import software.amazon.awssdk.services.memorydb.model.UpdateParameterGroupResponse;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -24,16 +31,19 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.fail;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -64,7 +74,7 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         RESOURCE_MODEL = getDesiredTestResourceModel();
 
-        handler = new CreateHandler();
+        handler = new CreateHandler(new ParameterCatalog(Collections.emptyMap()));
     }
 
     @AfterEach
@@ -74,8 +84,6 @@ public class CreateHandlerTest extends AbstractTestBase {
 
     @Test
     public void handleRequest_SimpleSuccess() {
-        final CreateHandler handler = new CreateHandler();
-
         final CreateParameterGroupResponse createParameterGroupResponse = CreateParameterGroupResponse.builder().build();
         when(proxyClient.client().createParameterGroup(any(CreateParameterGroupRequest.class))).thenReturn(createParameterGroupResponse);
         final DescribeParameterGroupsResponse describeParameterGroupsResponse = DescribeParameterGroupsResponse.builder()
@@ -88,6 +96,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         final ListTagsResponse listTagsResponse = ListTagsResponse.builder()
                 .tagList(translateTagsToSdk(RESOURCE_MODEL.getTags())).build();
         when(proxyClient.client().listTags(any(ListTagsRequest.class))).thenReturn(listTagsResponse);
+        when(proxyClient.client().describeParameters(any(DescribeParametersRequest.class))).thenReturn(DescribeParametersResponse.builder().build());
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceTags(translateTagsToMap(TAG_SET))
@@ -106,6 +115,49 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client()).createParameterGroup(any(CreateParameterGroupRequest.class));
         verify(proxyClient.client()).describeParameterGroups(any(DescribeParameterGroupsRequest.class));
         verify(proxyClient.client()).listTags(any(ListTagsRequest.class));
+        // the defaults of the family, then the parameters of the new group
+        verify(proxyClient.client(), times(2)).describeParameters(any(DescribeParametersRequest.class));
+
+        verify(memoryDbClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_AppliesParameters() {
+        RESOURCE_MODEL.setParameters(new HashMap<>(PARAMS));
+        when(proxyClient.client().createParameterGroup(any(CreateParameterGroupRequest.class))).thenReturn(CreateParameterGroupResponse.builder().build());
+        when(proxyClient.client().updateParameterGroup(any(UpdateParameterGroupRequest.class))).thenReturn(UpdateParameterGroupResponse.builder().build());
+        when(proxyClient.client().describeParameterGroups(any(DescribeParameterGroupsRequest.class))).thenReturn(DescribeParameterGroupsResponse.builder()
+                .parameterGroups(ParameterGroup.builder()
+                        .arn(RESOURCE_MODEL.getARN())
+                        .name(RESOURCE_MODEL.getParameterGroupName())
+                        .family(RESOURCE_MODEL.getFamily())
+                        .description(RESOURCE_MODEL.getDescription()).build()).build());
+        when(proxyClient.client().listTags(any(ListTagsRequest.class))).thenReturn(ListTagsResponse.builder()
+                .tagList(translateTagsToSdk(RESOURCE_MODEL.getTags())).build());
+        // the defaults of the family and the parameters of the new group once applied
+        when(proxyClient.client().describeParameters(any(DescribeParametersRequest.class))).thenReturn(DescribeParametersResponse.builder()
+                .parameters(Parameter.builder().name("param").value("value").build(),
+                        Parameter.builder().name("param2").value("value").build(),
+                        Parameter.builder().name("timeout").value("0").build()).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceTags(translateTagsToMap(TAG_SET))
+                .desiredResourceState(RESOURCE_MODEL)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getParameters()).isEqualTo(PARAMS);
+        final ArgumentCaptor<UpdateParameterGroupRequest> captor = ArgumentCaptor.forClass(UpdateParameterGroupRequest.class);
+        verify(proxyClient.client()).createParameterGroup(any(CreateParameterGroupRequest.class));
+        verify(proxyClient.client()).updateParameterGroup(captor.capture());
+        assertThat(captor.getValue().parameterNameValues())
+                .extracting(ParameterNameValue::parameterName, ParameterNameValue::parameterValue)
+                .containsExactly(tuple("param", "value"), tuple("param2", "value"));
+        verify(proxyClient.client()).describeParameterGroups(any(DescribeParameterGroupsRequest.class));
+        verify(proxyClient.client()).listTags(any(ListTagsRequest.class));
+        verify(proxyClient.client(), times(2)).describeParameters(any(DescribeParametersRequest.class));
 
         verify(memoryDbClient, atLeastOnce()).serviceName();
     }
@@ -146,4 +198,33 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         verify(memoryDbClient, never()).serviceName();
     }
+
+    @Test
+    public void handleRequest_Failure_InvalidParameters() {
+        final Map<String, Object> params = new HashMap<>();
+        params.put("timeout", "5");
+        params.put("maxmemory-policy", "allkeys-lru");
+        RESOURCE_MODEL.setFamily("memorydb_redis6");
+        RESOURCE_MODEL.setParameters(params);
+
+        final ResourceHandlerRequest<ResourceModel> request =
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL).build();
+
+        // the snapshot of the family rejects the timeout, which the defaults described by the service confirm
+        handler = new CreateHandler(new ParameterCatalog(ParameterCatalog.seed()));
+        when(proxyClient.client().describeParameters(any(DescribeParametersRequest.class))).thenReturn(DescribeParametersResponse.builder()
+                .parameters(Parameter.builder().name("timeout").value("0").dataType("integer").allowedValues("0,20-").build(),
+                        Parameter.builder().name("maxmemory-policy").value("noeviction").dataType("string")
+                                .allowedValues("allkeys-lru,noeviction").build()).build());
+        try {
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            fail("Expected CfnInvalidRequestException");
+        } catch (CfnInvalidRequestException e) {
+            assertThat(e.getMessage()).contains("timeout must be within 0,20-, got 5");
+            assertThat(e.getMessage()).doesNotContain("maxmemory-policy");
+        }
+
+        verify(proxyClient.client()).describeParameters(any(DescribeParametersRequest.class));
+        verify(memoryDbClient, atLeastOnce()).serviceName();
+    }
 }
@@ -0,0 +1,62 @@
+package software.amazon.memorydb.parametergroup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.memorydb.model.Parameter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParameterCatalogTest {
+
+    private final List<String> loadedFamilies = new ArrayList<>();
+
+    private final Function<String, List<Parameter>> loader = family -> {
+        loadedFamilies.add(family);
+        return Arrays.asList(
+                Parameter.builder().name("timeout").value("0").build(),
+                Parameter.builder().name("maxmemory-policy").value("noeviction").build());
+    };
+
+    @Test
+    public void getSeed_AnswersKnownParametersOfUnloadedFamilies() {
+        final ParameterCatalog catalog = new ParameterCatalog(Collections.singletonMap("memorydb_redis6",
+                Collections.singletonList(Parameter.builder().name("timeout").value("0").build())));
+
+        assertThat(catalog.getSeed("memorydb_redis6", Collections.singleton("timeout")).get("timeout").value()).isEqualTo("0");
+        assertThat(catalog.getSeed("memorydb_redis6", Arrays.asList("timeout", "maxmemory-policy"))).isNull();
+        assertThat(catalog.getSeed("memorydb_redis7", Collections.singleton("timeout"))).isNull();
+        assertThat(loadedFamilies).isEmpty();
+
+        // once the family is loaded, the snapshot is no longer consulted
+        catalog.getParameters("memorydb_redis6", loader);
+        assertThat(catalog.getSeed("memorydb_redis6", Collections.singleton("timeout"))).isNull();
+    }
+
+    @Test
+    public void getParameters_AlwaysLoadsFamilyOnce() {
+        final ParameterCatalog catalog = new ParameterCatalog(Collections.singletonMap("memorydb_redis6",
+                Collections.singletonList(Parameter.builder().name("timeout").value("1").build())));
+
+        final Map<String, Parameter> parameters = catalog.getParameters("memorydb_redis6", loader);
+        assertThat(parameters).containsOnlyKeys("timeout", "maxmemory-policy");
+        // the described default wins over the snapshot
+        assertThat(parameters.get("timeout").value()).isEqualTo("0");
+        assertThat(catalog.getParameters("memorydb_redis6", loader)).isSameAs(parameters);
+        assertThat(loadedFamilies).containsExactly("memorydb_redis6");
+    }
+
+    @Test
+    public void seed_KeepsEachFamilyApart() {
+        final ParameterCatalog catalog = ParameterCatalog.SHARED;
+
+        assertThat(catalog.getSeed("memorydb_redis6", Collections.singleton("maxmemory-policy"))).isNotNull();
+        assertThat(catalog.getSeed("memorydb_redis7", Collections.singleton("maxmemory-policy"))).isNull();
+        assertThat(ParameterCatalog.seed()).containsOnlyKeys("memorydb_redis6");
+    }
+}
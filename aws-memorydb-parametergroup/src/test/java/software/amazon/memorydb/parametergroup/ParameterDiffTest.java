@@ -0,0 +1,69 @@
+package software.amazon.memorydb.parametergroup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.memorydb.model.Parameter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParameterDiffTest {
+
+    @Test
+    public void between_OnlyKeepsChangedParameters() {
+        final Map<String, Object> previous = new HashMap<>();
+        previous.put("timeout", "0");
+        previous.put("maxmemory-policy", "allkeys-lru");
+        previous.put("activedefrag", "yes");
+        previous.put("tcp-keepalive", "300");
+        final Map<String, Object> desired = new HashMap<>();
+        desired.put("timeout", 0);
+        desired.put("maxmemory-policy", "volatile-lru");
+        desired.put("slowlog-max-len", "256");
+
+        final ParameterDiff diff = ParameterDiff.between(previous, desired, names -> {
+            assertThat(names).containsExactly("activedefrag", "tcp-keepalive");
+            return Arrays.asList(
+                    Parameter.builder().name("activedefrag").value("no").build(),
+                    Parameter.builder().name("tcp-keepalive").value("300").build());
+        });
+
+        // timeout is unchanged and tcp-keepalive was already set to its default
+        assertThat(diff.getParameters()).containsExactly(
+                Parameter.builder().name("activedefrag").value("no").build(),
+                Parameter.builder().name("maxmemory-policy").value("volatile-lru").build(),
+                Parameter.builder().name("slowlog-max-len").value("256").build());
+    }
+
+    @Test
+    public void between_EmptyWhenNothingChanges() {
+        final Map<String, Object> previous = Collections.singletonMap("timeout", "0");
+
+        final ParameterDiff diff = ParameterDiff.between(previous, null,
+                names -> Collections.singletonList(Parameter.builder().name("timeout").value("0").build()));
+
+        assertThat(diff.isEmpty()).isTrue();
+        assertThat(diff.getChunks()).isEmpty();
+    }
+
+    @Test
+    public void getChunks_SplitsDeltaInRequestSizedChunks() {
+        final Map<String, Object> desired = new HashMap<>();
+        for (int i = 0; i < 45; i++) {
+            desired.put(String.format("param-%02d", i), i);
+        }
+
+        final List<List<Parameter>> chunks = ParameterDiff.between(null, desired, names -> new ArrayList<>()).getChunks();
+
+        assertThat(chunks).hasSize(3);
+        assertThat(chunks.get(0)).hasSize(ParameterDiff.MAX_PARAMETERS_PER_UPDATE);
+        assertThat(chunks.get(0).get(0).name()).isEqualTo("param-00");
+        assertThat(chunks.get(2)).hasSize(5);
+        assertThat(chunks.get(2).get(4).name()).isEqualTo("param-44");
+    }
+}
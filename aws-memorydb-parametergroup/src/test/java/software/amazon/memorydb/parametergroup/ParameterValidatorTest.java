@@ -0,0 +1,63 @@
+package software.amazon.memorydb.parametergroup;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.memorydb.model.Parameter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParameterValidatorTest {
+
+    private static final Map<String, Parameter> METADATA = new HashMap<>();
+
+    static {
+        METADATA.put("timeout", Parameter.builder().name("timeout").dataType("integer").allowedValues("0,20-").build());
+        METADATA.put("active-defrag-cycle-max", Parameter.builder().name("active-defrag-cycle-max").dataType("integer").allowedValues("1-75").build());
+        METADATA.put("activedefrag", Parameter.builder().name("activedefrag").dataType("string").allowedValues("yes,no").build());
+        METADATA.put("notify-keyspace-events", Parameter.builder().name("notify-keyspace-events").dataType("string").build());
+        METADATA.put("client-output-buffer-limit", Parameter.builder().name("client-output-buffer-limit").dataType("string")
+                .allowedValues("a valid class followed by three numbers").build());
+    }
+
+    @Test
+    public void validate_AcceptsAllowedValues() {
+        final Map<String, Object> parameters = new HashMap<>();
+        parameters.put("timeout", "0");
+        parameters.put("active-defrag-cycle-max", 75);
+        parameters.put("activedefrag", "yes");
+        parameters.put("notify-keyspace-events", "KEA");
+        parameters.put("client-output-buffer-limit", "normal 0 0 0");
+
+        assertThat(ParameterValidator.validate(parameters, METADATA)).isEmpty();
+
+        parameters.put("timeout", "3600");
+        assertThat(ParameterValidator.validate(parameters, METADATA)).isEmpty();
+    }
+
+    @Test
+    public void validate_RejectsValuesOutsideTheirRangeOrType() {
+        final Map<String, Object> parameters = new HashMap<>();
+        parameters.put("timeout", "10");
+        parameters.put("active-defrag-cycle-max", "76");
+        parameters.put("activedefrag", "true");
+
+        assertThat(ParameterValidator.validate(parameters, METADATA)).containsExactly(
+                "active-defrag-cycle-max must be within 1-75, got 76",
+                "activedefrag must be one of yes,no, got \"true\"",
+                "timeout must be within 0,20-, got 10");
+
+        parameters.clear();
+        parameters.put("timeout", "forever");
+        assertThat(ParameterValidator.validate(parameters, METADATA)).containsExactly("timeout must be an integer, got \"forever\"");
+    }
+
+    @Test
+    public void validate_RejectsUnknownParameters() {
+        final Map<String, Object> parameters = new HashMap<>();
+        parameters.put("maxmemory", "1gb");
+
+        assertThat(ParameterValidator.validate(parameters, METADATA)).containsExactly("maxmemory is not a parameter of the family");
+    }
+}
@@ -1,12 +1,18 @@
 package software.amazon.memorydb.parametergroup;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeParametersRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeParametersResponse;
 import software.amazon.awssdk.services.memorydb.model.ListTagsRequest;
 import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
+import software.amazon.awssdk.services.memorydb.model.Parameter;
 import software.amazon.awssdk.services.memorydb.model.ParameterGroup;
 import software.amazon.awssdk.services.memorydb.model.ParameterGroupNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
@@ -19,6 +25,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -28,6 +35,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -60,7 +68,7 @@ public class ReadHandlerTest extends AbstractTestBase {
     @Test
     public void handleRequest_SimpleSuccess() {
 
-        final ReadHandler handler = new ReadHandler();
+        final ReadHandler handler = new ReadHandler(new ParameterCatalog(Collections.emptyMap()));
         final ParameterGroup parameterGroup = getTestParameterGroup();
         final ResourceModel desiredTestResourceModel = getDesiredTestResourceModel();
         final DescribeParameterGroupsResponse describeParameterGroupsResponse = DescribeParameterGroupsResponse.builder()
@@ -69,6 +77,7 @@ public class ReadHandlerTest extends AbstractTestBase {
         final ListTagsResponse listTagsResponse = ListTagsResponse.builder()
                 .tagList(translateTagsToSdk(desiredTestResourceModel.getTags())).build();
         when(proxyClient.client().listTags(any(ListTagsRequest.class))).thenReturn(listTagsResponse);
+        when(proxyClient.client().describeParameters(any(DescribeParametersRequest.class))).thenReturn(DescribeParametersResponse.builder().build());
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(desiredTestResourceModel).build();
@@ -83,7 +92,79 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
         assertThat(response.getResourceModel().getTags()).isNotEmpty();
+        assertThat(response.getResourceModel().getParameters()).isNull();
+
+        verify(proxyClient.client()).describeParameterGroups(any(DescribeParameterGroupsRequest.class));
+        verify(proxyClient.client(), times(2)).describeParameters(any(DescribeParametersRequest.class));
+        verify(proxyClient.client()).listTags(any(ListTagsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ReadsNonDefaultParametersAcrossPages() {
+        final ReadHandler handler = new ReadHandler(new ParameterCatalog(Collections.emptyMap()));
+        final ResourceModel model = getDesiredTestResourceModel();
+        when(proxyClient.client().describeParameterGroups(any(DescribeParameterGroupsRequest.class)))
+                .thenReturn(DescribeParameterGroupsResponse.builder().parameterGroups(getTestParameterGroup()).build());
+        when(proxyClient.client().listTags(any(ListTagsRequest.class))).thenReturn(ListTagsResponse.builder().build());
+
+        when(proxyClient.client().describeParameters(Translator.translateToDescribeParametersRequest("default." + FAMILY, null)))
+                .thenReturn(DescribeParametersResponse.builder().parameters(
+                        Parameter.builder().name("timeout").value("0").build(),
+                        Parameter.builder().name("maxmemory-policy").value("noeviction").build(),
+                        Parameter.builder().name("notify-keyspace-events").build()).build());
+        when(proxyClient.client().describeParameters(Translator.translateToDescribeParametersRequest(model.getParameterGroupName(), null)))
+                .thenReturn(DescribeParametersResponse.builder().parameters(
+                        Parameter.builder().name("timeout").value("0").build(),
+                        Parameter.builder().name("maxmemory-policy").value("allkeys-lru").build()).nextToken("token").build());
+        when(proxyClient.client().describeParameters(Translator.translateToDescribeParametersRequest(model.getParameterGroupName(), "token")))
+                .thenReturn(DescribeParametersResponse.builder().parameters(
+                        Parameter.builder().name("notify-keyspace-events").value("").build()).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        final Map<String, Object> expected = new HashMap<>();
+        expected.put("maxmemory-policy", "allkeys-lru");
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getParameters()).isEqualTo(expected);
+
+        final ArgumentCaptor<DescribeParametersRequest> requests = ArgumentCaptor.forClass(DescribeParametersRequest.class);
+        verify(proxyClient.client(), times(3)).describeParameters(requests.capture());
+        assertThat(requests.getAllValues()).allMatch(describeParametersRequest -> describeParametersRequest.maxResults() == 100);
+        verify(proxyClient.client()).describeParameterGroups(any(DescribeParameterGroupsRequest.class));
+        verify(proxyClient.client()).listTags(any(ListTagsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ReadsDeclaredParametersIncludingDefaults() {
+        final ReadHandler handler = new ReadHandler(new ParameterCatalog(Collections.emptyMap()));
+        final Map<String, Object> declared = new HashMap<>();
+        declared.put("timeout", "0"); // the default of the family
+        declared.put("maxmemory-policy", "allkeys-lru");
+        final ResourceModel model = getDesiredTestResourceModel();
+        model.setParameters(declared);
+        when(proxyClient.client().describeParameterGroups(any(DescribeParameterGroupsRequest.class)))
+                .thenReturn(DescribeParameterGroupsResponse.builder().parameterGroups(getTestParameterGroup()).build());
+        when(proxyClient.client().listTags(any(ListTagsRequest.class))).thenReturn(ListTagsResponse.builder().build());
+        when(proxyClient.client().describeParameters(Translator.translateToDescribeParametersRequest(model.getParameterGroupName(), null)))
+                .thenReturn(DescribeParametersResponse.builder().parameters(
+                        Parameter.builder().name("timeout").value("0").build(),
+                        Parameter.builder().name("maxmemory-policy").value("volatile-lru").build(),
+                        Parameter.builder().name("notify-keyspace-events").value("Ex").build()).build());
 
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // the declared keys with the values applied, the defaults of the family are not needed
+        final Map<String, Object> expected = new HashMap<>();
+        expected.put("timeout", "0");
+        expected.put("maxmemory-policy", "volatile-lru");
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getParameters()).isEqualTo(expected);
+
+        verify(proxyClient.client()).describeParameters(any(DescribeParametersRequest.class));
         verify(proxyClient.client()).describeParameterGroups(any(DescribeParameterGroupsRequest.class));
         verify(proxyClient.client()).listTags(any(ListTagsRequest.class));
     }
@@ -105,4 +186,34 @@ public class ReadHandlerTest extends AbstractTestBase {
             assertThat(e.getCause() instanceof ParameterGroupNotFoundException).isTrue();
         }
     }
+
+    @Test
+    public void handleRequest_ListTagsWithDerivedArn() {
+        final ReadHandler handler = new ReadHandler(new ParameterCatalog(Collections.emptyMap()));
+
+        final ResourceModel model = getDesiredTestResourceModel();
+        final ArgumentCaptor<ListTagsRequest> captor = ArgumentCaptor.forClass(ListTagsRequest.class);
+        when(proxyClient.client().listTags(captor.capture())).thenReturn(ListTagsResponse.builder()
+                .tagList(software.amazon.awssdk.services.memorydb.model.Tag.builder().key("service").value("memorydb").build())
+                .build());
+        when(proxyClient.client().describeParameterGroups(any(DescribeParameterGroupsRequest.class)))
+                .thenReturn(DescribeParameterGroupsResponse.builder().parameterGroups(getTestParameterGroup()).build());
+        when(proxyClient.client().describeParameters(any(DescribeParametersRequest.class))).thenReturn(DescribeParametersResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .awsAccountId("123456789012")
+                .region("us-east-1")
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getTags()).hasSize(1);
+        assertThat(captor.getValue().resourceArn())
+                .isEqualTo("arn:aws:memorydb:us-east-1:123456789012:parametergroup/" + model.getParameterGroupName());
+        verify(proxyClient.client()).describeParameterGroups(any(DescribeParameterGroupsRequest.class));
+        verify(proxyClient.client(), times(2)).describeParameters(any(DescribeParametersRequest.class));
+        verify(proxyClient.client()).listTags(any(ListTagsRequest.class));
+    }
 }
@@ -1,14 +1,17 @@
 package software.amazon.memorydb.parametergroup;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
 import com.google.common.collect.Lists;
 import org.mockito.internal.util.collections.Sets;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.Cluster;
+import software.amazon.awssdk.services.memorydb.model.ClusterNotFoundException;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
 import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsRequest;
@@ -17,12 +20,15 @@ import software.amazon.awssdk.services.memorydb.model.DescribeParametersRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeParametersResponse;
 import software.amazon.awssdk.services.memorydb.model.ListTagsRequest;
 import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
+import software.amazon.awssdk.services.memorydb.model.MemoryDbException;
 import software.amazon.awssdk.services.memorydb.model.Parameter;
+import software.amazon.awssdk.services.memorydb.model.ParameterNameValue;
 import software.amazon.awssdk.services.memorydb.model.TagResourceRequest;
 import software.amazon.awssdk.services.memorydb.model.TagResourceResponse;
 import software.amazon.awssdk.services.memorydb.model.UntagResourceRequest;
 import software.amazon.awssdk.services.memorydb.model.UntagResourceResponse;
 import software.amazon.awssdk.services.memorydb.model.UpdateParameterGroupRequest;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -32,12 +38,15 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -70,7 +79,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         sdkClient = mock(MemoryDbClient.class);
         proxyClient = MOCK_PROXY(proxy, sdkClient);
-        handler = new UpdateHandler();
+        handler = new UpdateHandler(new ParameterCatalog(ParameterCatalog.seed()));
 
         RESOURCE_MODEL_PREV = getDesiredTestResourceModel();
         RESOURCE_MODEL_PREV.setTags(null);
@@ -110,6 +119,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(sdkClient.listTags(any(ListTagsRequest.class))).thenReturn(listTagsResponse);
         final TagResourceResponse tagResourceResponse = TagResourceResponse.builder().tagList(translateTagsToSdk(requestUpdParams.getDesiredResourceState().getTags())).build();
         when(sdkClient.tagResource(any(TagResourceRequest.class))).thenReturn(tagResourceResponse);
+        final DescribeParametersResponse describeParametersResponse = DescribeParametersResponse.builder()
+                .parameters(Parameter.builder().name("param").value("default_value").dataType("string").build(),
+                        Parameter.builder().name("param2").value("default_value").dataType("string").build()).build();
+        when(sdkClient.describeParameters(any(DescribeParametersRequest.class))).thenReturn(describeParametersResponse);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, requestUpdParams, callbackContext, proxyClient, logger);
 
@@ -121,6 +134,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
+        verify(proxyClient.client()).describeParameters(any(DescribeParametersRequest.class));
         verify(proxyClient.client()).updateParameterGroup(any(UpdateParameterGroupRequest.class));
         verify(proxyClient.client()).describeParameterGroups(any(DescribeParameterGroupsRequest.class));
         verify(proxyClient.client()).listTags(any(ListTagsRequest.class));
@@ -128,22 +142,49 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(sdkClient, atLeastOnce()).serviceName();
     }
 
+    @Test
+    public void handleRequest_RejectsInvalidParameters() {
+        final Map<String, Object> params = new HashMap<>();
+        params.put("maxmemory-policy", "least-recently-used");
+        params.put("unknown-param", "value");
+        RESOURCE_MODEL.setParameters(params);
+        RESOURCE_MODEL.setFamily("memorydb_redis6");
+
+        // unknown-param is missing from the snapshot, so the family is described once
+        final DescribeParametersResponse describeParametersResponse = DescribeParametersResponse.builder()
+                .parameters(Parameter.builder().name("maxmemory-policy").value("noeviction").dataType("string")
+                        .allowedValues("allkeys-lru,noeviction").build()).build();
+        when(sdkClient.describeParameters(any(DescribeParametersRequest.class))).thenReturn(describeParametersResponse);
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, requestUpdParams, new CallbackContext(), proxyClient, logger))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("maxmemory-policy must be one of allkeys-lru,noeviction, got \"least-recently-used\"")
+                .hasMessageContaining("unknown-param is not a parameter of the family");
+
+        verify(proxyClient.client()).describeParameters(any(DescribeParametersRequest.class));
+        verify(proxyClient.client(), never()).updateParameterGroup(any(UpdateParameterGroupRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+    }
+
 
     @Test
-    public void handleRequest_StabilizationWithNextPage(){
+    public void handleRequest_StabilizationReadsAllPages(){
 
         CallbackContext callbackContext = new CallbackContext();
         callbackContext.setClusterStabilized(false);
 
         final Cluster cluster = Cluster.builder()
+                .name("in-sync-cluster")
                 .parameterGroupName(RESOURCE_MODEL.getParameterGroupName())
                 .parameterGroupStatus("in-sync").build();
+        final Cluster otherCluster = Cluster.builder()
+                .name("other-cluster")
+                .parameterGroupName("other-parameter-group")
+                .parameterGroupStatus("applying").build();
 
-        final DescribeClustersResponse describeClustersResponse = DescribeClustersResponse.builder()
-                .clusters(Lists.newArrayList(cluster))
-                .nextToken("token")
-                .build();
-        when(sdkClient.describeClusters(any(DescribeClustersRequest.class))).thenReturn(describeClustersResponse);
+        when(sdkClient.describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(DescribeClustersResponse.builder().clusters(Lists.newArrayList(cluster)).nextToken("token").build())
+                .thenReturn(DescribeClustersResponse.builder().clusters(Lists.newArrayList(otherCluster)).build());
 
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.waitForStabilize(proxy, proxyClient, ProgressEvent.progress(RESOURCE_MODEL, callbackContext), requestUpdParams);
@@ -151,14 +192,20 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         assertThat(response.getCallbackContext()).isNotNull();
+        // the bound cluster is polled again even though it still reports in-sync
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(30);
         assertThat(response.getCallbackContext().isClusterStabilized()).isEqualTo(false);
+        assertThat(response.getCallbackContext().getBoundClusterNames()).containsExactly("in-sync-cluster");
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getNextToken()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        verify(proxyClient.client()).describeClusters(any(DescribeClustersRequest.class));
+        final ArgumentCaptor<DescribeClustersRequest> requests = ArgumentCaptor.forClass(DescribeClustersRequest.class);
+        verify(proxyClient.client(), times(2)).describeClusters(requests.capture());
+        assertThat(requests.getAllValues()).extracting(DescribeClustersRequest::nextToken).containsExactly(null, "token");
+        assertThat(requests.getAllValues()).allMatch(describeClustersRequest -> describeClustersRequest.maxResults() == 100
+                && !describeClustersRequest.showShardDetails());
     }
 
     @Test
@@ -168,8 +215,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
         callbackContext.setClusterStabilized(false);
 
         final Cluster cluster = Cluster.builder()
-                .parameterGroupName(RESOURCE_MODEL.getParameterGroupName())
-                .parameterGroupStatus("in-sync").build();
+                .name("other-cluster")
+                .parameterGroupName("other-parameter-group")
+                .parameterGroupStatus("applying").build();
 
         final DescribeClustersResponse describeClustersResponse = DescribeClustersResponse.builder()
                 .clusters(Lists.newArrayList(cluster))
@@ -184,6 +232,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getCallbackContext()).isNotNull();
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getCallbackContext().isClusterStabilized()).isEqualTo(true);
+        assertThat(response.getCallbackContext().getBoundClusterNames()).isEmpty();
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getNextToken()).isNull();
         assertThat(response.getMessage()).isNull();
@@ -199,6 +248,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         callbackContext.setClusterStabilized(false);
 
         final Cluster cluster = Cluster.builder()
+                .name("applying-cluster")
                 .parameterGroupName(RESOURCE_MODEL.getParameterGroupName())
                 .parameterGroupStatus("applying").build();
 
@@ -215,6 +265,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getCallbackContext()).isNotNull();
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(30);
         assertThat(response.getCallbackContext().isClusterStabilized()).isEqualTo(false);
+        assertThat(response.getCallbackContext().getBoundClusterNames()).containsExactly("applying-cluster");
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getNextToken()).isNull();
         assertThat(response.getMessage()).isNull();
@@ -223,6 +274,58 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client()).describeClusters(any(DescribeClustersRequest.class));
     }
 
+    @Test
+    public void handleRequest_StabilizationPollsBoundClustersOnly(){
+
+        CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setClusterStabilized(false);
+        callbackContext.setBoundClusterNames(Sets.newSet("applied-cluster", "applying-cluster", "deleted-cluster"));
+
+        final DescribeClustersRequest appliedRequest = Translator.translateToDescribeClusterRequest("applied-cluster");
+        final DescribeClustersRequest applyingRequest = Translator.translateToDescribeClusterRequest("applying-cluster");
+        final DescribeClustersRequest deletedRequest = Translator.translateToDescribeClusterRequest("deleted-cluster");
+        when(sdkClient.describeClusters(appliedRequest)).thenReturn(DescribeClustersResponse.builder().clusters(Cluster.builder()
+                .name("applied-cluster")
+                .parameterGroupName(RESOURCE_MODEL.getParameterGroupName())
+                .parameterGroupStatus("in-sync").build()).build());
+        when(sdkClient.describeClusters(applyingRequest)).thenReturn(DescribeClustersResponse.builder().clusters(Cluster.builder()
+                .name("applying-cluster")
+                .parameterGroupName(RESOURCE_MODEL.getParameterGroupName())
+                .parameterGroupStatus("applying").build()).build());
+        when(sdkClient.describeClusters(deletedRequest)).thenThrow(ClusterNotFoundException.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.waitForStabilize(proxy, proxyClient, ProgressEvent.progress(RESOURCE_MODEL, callbackContext), requestUpdParams);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(30);
+        assertThat(response.getCallbackContext().isClusterStabilized()).isEqualTo(false);
+        assertThat(response.getCallbackContext().getBoundClusterNames()).containsExactly("applying-cluster");
+
+        verify(proxyClient.client()).describeClusters(appliedRequest);
+        verify(proxyClient.client()).describeClusters(applyingRequest);
+        verify(proxyClient.client()).describeClusters(deletedRequest);
+    }
+
+    @Test
+    public void handleRequest_StabilizationPollsAgainWhenThrottled(){
+
+        CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setClusterStabilized(false);
+        callbackContext.setBoundClusterNames(Sets.newSet("applying-cluster"));
+
+        when(sdkClient.describeClusters(any(DescribeClustersRequest.class))).thenThrow(MemoryDbException.builder().statusCode(400)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build()).build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.waitForStabilize(proxy, proxyClient, ProgressEvent.progress(RESOURCE_MODEL, callbackContext), requestUpdParams);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(30);
+        assertThat(response.getCallbackContext().isClusterStabilized()).isEqualTo(false);
+        assertThat(response.getCallbackContext().getBoundClusterNames()).containsExactly("applying-cluster");
+
+        verify(proxyClient.client()).describeClusters(any(DescribeClustersRequest.class));
+    }
+
     @Test
     public void handleRequest_SimpleSuccessSameParams(){
         CallbackContext callbackContext = new CallbackContext();
@@ -267,14 +370,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
         RESOURCE_MODEL_PREV.setParameters(params
         );
 
-        final DescribeParameterGroupsResponse describeParameterGroupsResponse = DescribeParameterGroupsResponse.builder()
-                .parameterGroups(getTestParameterGroup()).build();
-        when(sdkClient.describeParameterGroups(any(DescribeParameterGroupsRequest.class))).thenReturn(describeParameterGroupsResponse);
-
         final DescribeParametersResponse describeParametersResponse = DescribeParametersResponse.builder()
-                .parameters(Parameter.builder().name("param").value("default_value").build()).build();
+                .parameters(Parameter.builder().name("param3").value("default_value").build()).build();
         when(sdkClient.describeParameters(any(DescribeParametersRequest.class))).thenReturn(describeParametersResponse);
 
+        handler = new UpdateHandler(new ParameterCatalog(Collections.emptyMap()));
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.updateParameterGroup(proxy, proxyClient, ProgressEvent.progress(RESOURCE_MODEL, new CallbackContext()), requestUpdParams);
 
         assertThat(response).isNotNull();
@@ -287,9 +387,63 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        verify(proxyClient.client()).describeParameterGroups(any(DescribeParameterGroupsRequest.class));
+        final ArgumentCaptor<DescribeParametersRequest> describeParametersRequest = ArgumentCaptor.forClass(DescribeParametersRequest.class);
+        verify(proxyClient.client()).describeParameters(describeParametersRequest.capture());
+        assertThat(describeParametersRequest.getValue().parameterGroupName()).isEqualTo("default." + FAMILY);
+        final ArgumentCaptor<UpdateParameterGroupRequest> updateRequest = ArgumentCaptor.forClass(UpdateParameterGroupRequest.class);
+        verify(proxyClient.client()).updateParameterGroup(updateRequest.capture());
+        assertThat(updateRequest.getValue().parameterNameValues())
+                .contains(ParameterNameValue.builder().parameterName("param3").parameterValue("default_value").build());
+        verify(sdkClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_UpdateParameterGroupWithoutEffectiveChange(){
+
+        // timeout is removed but was set to its default value, the other parameters are unchanged
+        Map<String, Object> params = new HashMap<>(PARAMS);
+        params.put("timeout", "0");
+        RESOURCE_MODEL_PREV.setParameters(params);
+        RESOURCE_MODEL_PREV.setFamily("memorydb_redis6");
+        RESOURCE_MODEL.setFamily("memorydb_redis6");
+        when(sdkClient.describeParameters(any(DescribeParametersRequest.class))).thenReturn(DescribeParametersResponse.builder()
+                .parameters(Parameter.builder().name("timeout").value("0").build()).build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.updateParameterGroup(proxy, proxyClient, ProgressEvent.progress(RESOURCE_MODEL, new CallbackContext()), requestUpdParams);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getCallbackContext().isClusterStabilized()).isEqualTo(true);
+
+        final ProgressEvent<ResourceModel, CallbackContext> stabilized = handler.waitForStabilize(proxy, proxyClient, response, requestUpdParams);
+
+        assertThat(stabilized.getCallbackDelaySeconds()).isEqualTo(0);
         verify(proxyClient.client()).describeParameters(any(DescribeParametersRequest.class));
-        verify(proxyClient.client()).updateParameterGroup(any(UpdateParameterGroupRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_UpdateParameterGroupWithParamsRemovedFromSeededFamily(){
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("param2", "value");
+        params.put("maxmemory-policy", "allkeys-lru");
+        RESOURCE_MODEL_PREV.setParameters(params);
+        RESOURCE_MODEL_PREV.setFamily("memorydb_redis6");
+        RESOURCE_MODEL.setFamily("memorydb_redis6");
+        when(sdkClient.describeParameters(any(DescribeParametersRequest.class))).thenReturn(DescribeParametersResponse.builder()
+                .parameters(Parameter.builder().name("maxmemory-policy").value("noeviction").build()).build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.updateParameterGroup(proxy, proxyClient, ProgressEvent.progress(RESOURCE_MODEL, new CallbackContext()), requestUpdParams);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+
+        // the default value is described by the service even though the family has a snapshot
+        verify(proxyClient.client()).describeParameters(any(DescribeParametersRequest.class));
+        final ArgumentCaptor<UpdateParameterGroupRequest> updateRequest = ArgumentCaptor.forClass(UpdateParameterGroupRequest.class);
+        verify(proxyClient.client()).updateParameterGroup(updateRequest.capture());
+        assertThat(updateRequest.getValue().parameterNameValues())
+                .contains(ParameterNameValue.builder().parameterName("maxmemory-policy").parameterValue("noeviction").build());
         verify(sdkClient, atLeastOnce()).serviceName();
     }
 
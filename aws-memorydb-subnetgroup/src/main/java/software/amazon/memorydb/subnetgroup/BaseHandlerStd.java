@@ -5,6 +5,7 @@ import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.DescribeSubnetGroupsResponse;
 import software.amazon.awssdk.services.memorydb.model.InvalidParameterCombinationException;
 import software.amazon.awssdk.services.memorydb.model.InvalidParameterValueException;
+import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
 import software.amazon.awssdk.services.memorydb.model.SubnetGroup;
 import software.amazon.awssdk.services.memorydb.model.SubnetGroupAlreadyExistsException;
 import software.amazon.awssdk.services.memorydb.model.SubnetGroupInUseException;
@@ -21,12 +22,16 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.memorydb.common.ConcurrentListTags;
+import software.amazon.memorydb.common.DescribeRateLimiter;
+import software.amazon.memorydb.common.HandlerMetrics;
+import software.amazon.memorydb.common.StabilizationDelay;
 
 import java.security.InvalidParameterException;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -35,10 +40,13 @@ import java.util.stream.Collectors;
 // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+  private static final String ARN_RESOURCE_TYPE = "subnetgroup";
 
-  protected static final Constant STABILIZATION_DELAY = Constant.of()
+  protected static final StabilizationDelay STABILIZATION_DELAY = StabilizationDelay.of()
           .timeout(Duration.ofHours(1L))
-          .delay(Duration.ofSeconds(60))
+          // subnet groups have no status, they are usable as soon as they can be described
+          .initialDelay(Duration.ofSeconds(1))
+          .maxDelay(Duration.ofSeconds(10))
           .build();
 
   static final String NAME_REQUIRED_FOR_SUBNET_GROUP = "Name is required for subnet group creation";
@@ -74,7 +82,16 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     return proxy.initiate("AWS-MemoryDB-SubnetGroup::stabilizeSubnetGroup", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
             .translateToServiceRequest(Function.identity()).backoffDelay(STABILIZATION_DELAY).makeServiceCall(EMPTY_CALL)
-            .stabilize((resourceModel, response, client, model, callbackContext) -> isStabilized(proxy, client, model)).progress();
+            .stabilize((resourceModel, response, client, model, callbackContext) -> isStabilized(proxy, client, model))
+            .retryErrorFilter((awsRequest, exception, client, model, context) -> isThrottled(exception)).progress();
+  }
+
+  /**
+   * Retry filter of the call chains: a call or poll throttled by the service or by the {@link DescribeRateLimiter}
+   * is tried again after the backoff delay of the chain instead of failing the handler.
+   */
+  protected static boolean isThrottled(final Exception exception) {
+    return DescribeRateLimiter.isThrottled(exception);
   }
 
   protected Boolean isStabilized(final AmazonWebServicesClientProxy proxy,
@@ -82,7 +99,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                  final ResourceModel model) {
     try {
       final SubnetGroup subnetGroup = getSubnetGroup(proxy, client, model);
-      return subnetGroup != null;
+      return recordStabilizationPoll(subnetGroup != null);
     } catch (SubnetGroupNotFoundException e) {
       throw new CfnNotFoundException(ResourceModel.TYPE_NAME, e.getMessage());
     } catch (Exception e) {
@@ -105,22 +122,42 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   }
 
 
+  private HandlerMetrics metrics = new HandlerMetrics(ResourceModel.TYPE_NAME, getAction());
+
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
     final AmazonWebServicesClientProxy proxy,
     final ResourceHandlerRequest<ResourceModel> request,
     final CallbackContext callbackContext,
     final Logger logger) {
+    // handler instances are reused by warm containers
+    metrics = new HandlerMetrics(ResourceModel.TYPE_NAME, getAction());
+    ProgressEvent<ResourceModel, CallbackContext> event = null;
     try {
-      return handleRequest(proxy, request, callbackContext != null ? callbackContext : new CallbackContext(), proxy.newProxy(ClientBuilder::getClient), logger);
+      event = handleRequest(proxy, request, callbackContext != null ? callbackContext : new CallbackContext(),
+              metrics.instrument(proxy.newProxy(ClientBuilder::getClient)), logger);
+      return event;
     } catch (Exception e) {
       logger.log("Request Failed : " + e.getMessage() + Arrays.stream(e.getStackTrace())
               .map(Objects::toString)
               .collect(Collectors.joining("\n")));
       throw e;
+    } finally {
+      metrics.emit(logger, event);
     }
   }
 
+  /**
+   * Records a stabilization poll in the metrics of the current invocation and returns its outcome.
+   */
+  protected boolean recordStabilizationPoll(final boolean stabilized) {
+    return metrics.recordStabilizationPoll(stabilized);
+  }
+
+  private String getAction() {
+    return getClass().getSimpleName().replace("Handler", "");
+  }
+
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
     final AmazonWebServicesClientProxy proxy,
     final ResourceHandlerRequest<ResourceModel> request,
@@ -169,4 +206,16 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                     }
             );
   }
+
+  /**
+   * Builds the ARN of the resource from the account and region of the request, so that ListTags can be issued
+   * without waiting for the describe call. Returns null when the request does not carry them.
+   */
+  protected static String buildArn(final ResourceHandlerRequest<ResourceModel> request, final String name) {
+    return ConcurrentListTags.buildArn(request, ARN_RESOURCE_TYPE, name);
+  }
+
+  protected ListTagsResponse joinListTags(final CompletableFuture<ListTagsResponse> listTags) {
+    return handleExceptions(() -> ConcurrentListTags.join(listTags));
+  }
 }
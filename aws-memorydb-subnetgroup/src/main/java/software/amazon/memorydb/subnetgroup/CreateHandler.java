@@ -42,10 +42,13 @@ public class CreateHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(desiredResourceState, callbackContext)
                 .then(progress -> createSubnetGroup(proxy, proxyClient, progress, request.getDesiredResourceTags()))
-                .then(progress -> waitForSubnetGroupAvailableStatus(proxy, proxyClient, progress))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
+    /**
+     * Creates the subnet group. A subnet group exists as soon as CreateSubnetGroup returns it, so the handler only
+     * waits for the subnet group when the response does not include it.
+     */
     private ProgressEvent<ResourceModel, CallbackContext> createSubnetGroup(final AmazonWebServicesClientProxy proxy,
                                                                             final ProxyClient<MemoryDbClient> proxyClient,
                                                                             final ProgressEvent<ResourceModel, CallbackContext> progress, Map<String, String> tags) {
@@ -54,7 +57,10 @@ public class CreateHandler extends BaseHandlerStd {
                 .backoffDelay(STABILIZATION_DELAY)
                 .makeServiceCall((awsRequest, memorydbClientProxyClient) -> handleExceptions(() ->
                         memorydbClientProxyClient.injectCredentialsAndInvokeV2(awsRequest, memorydbClientProxyClient.client()::createSubnetGroup)))
-                .progress();
+                .retryErrorFilter((awsRequest, exception, client, model, context) -> isThrottled(exception))
+                .done((createSubnetGroupRequest, createSubnetGroupResponse, proxyInvocation, model, context) ->
+                        createSubnetGroupResponse.subnetGroup() != null ? ProgressEvent.progress(model, context)
+                                : waitForSubnetGroupAvailableStatus(proxy, proxyInvocation, ProgressEvent.progress(model, context)));
     }
 
 }
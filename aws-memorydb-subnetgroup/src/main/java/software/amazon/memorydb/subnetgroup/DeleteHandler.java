@@ -51,6 +51,7 @@ public class DeleteHandler extends BaseHandlerStd {
                 .makeServiceCall((awsRequest, client) -> handleExceptions(() ->
                         client.injectCredentialsAndInvokeV2(awsRequest, client.client()::deleteSubnetGroup)))
                 .stabilize((awsRequest, awsResponse, client, model, context) -> isDeleted(proxyClient, model))
+                .retryErrorFilter((awsRequest, exception, client, model, context) -> isThrottled(exception))
                 .done((deleteSubnetGroupRequest, deleteSubnetGroupResponse, proxyInvocation, model, context) -> ProgressEvent
                         .defaultSuccessHandler(null));
     }
@@ -59,9 +60,9 @@ public class DeleteHandler extends BaseHandlerStd {
                               final ResourceModel model) {
         try {
             proxyClient.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model), proxyClient.client()::describeSubnetGroups);
-            return false;
+            return recordStabilizationPoll(false);
         } catch (SubnetGroupNotFoundException e) {
-            return true;
+            return recordStabilizationPoll(true);
         } catch (Exception e) {
             throw new CfnGeneralServiceException(e);
         }
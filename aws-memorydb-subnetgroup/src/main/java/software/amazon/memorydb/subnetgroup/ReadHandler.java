@@ -1,11 +1,16 @@
 package software.amazon.memorydb.subnetgroup;
 
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.commons.collections.CollectionUtils;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.memorydb.common.ConcurrentListTags;
 
 public class ReadHandler extends BaseHandlerStd {
     private Logger logger;
@@ -21,9 +26,25 @@ public class ReadHandler extends BaseHandlerStd {
         logger.log("Input Model: ");
         logger.log(request.getDesiredResourceState().toString());
 
+        final String arn = buildArn(request, request.getDesiredResourceState().getSubnetGroupName());
+        if (arn == null) {
+            // the ARN is only known once the subnet group has been described
+            return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+                    .then(progress -> describeSubnetGroups(proxy, progress, proxyClient))
+                    .then(progress -> listTags(proxy, progress, proxyClient))
+                    .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
+        }
+
+        final CompletableFuture<ListTagsResponse> listTags = ConcurrentListTags.listTagsAsync(proxyClient, arn);
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(progress -> describeSubnetGroups(proxy, progress, proxyClient))
-                .then(progress -> listTags(proxy, progress, proxyClient))
+                .then(progress -> {
+                    final ListTagsResponse listTagsResponse = joinListTags(listTags);
+                    if (CollectionUtils.isNotEmpty(listTagsResponse.tagList())) {
+                        progress.getResourceModel().setTags(Translator.translateTags(listTagsResponse.tagList()));
+                    }
+                    return progress;
+                })
                 .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
     }
 }
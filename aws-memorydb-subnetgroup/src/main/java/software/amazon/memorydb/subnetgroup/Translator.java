@@ -126,18 +126,25 @@ public class Translator {
             .build();
   }
 
-  static UpdateSubnetGroupRequest translateToUpdateRequest(final ResourceModel model,SubnetGroupUpdateFieldType fieldType) {
+  /**
+   * Request to update the given fields of a subnet group in a single call
+   * @param model resource model
+   * @param fieldTypes fields to update
+   * @return updateSubnetGroupRequest the aws service request to modify a resource
+   */
+  static UpdateSubnetGroupRequest translateToUpdateRequest(final ResourceModel model, final Set<SubnetGroupUpdateFieldType> fieldTypes) {
     UpdateSubnetGroupRequest.Builder builder = UpdateSubnetGroupRequest.builder().subnetGroupName(model.getSubnetGroupName());
-    switch (fieldType) {
-      case DESCRIPTION:
-        builder.description(model.getDescription());
-        break;
-      case SUBNET_IDS:
-        builder.subnetIds(model.getSubnetIds());
-        break;
-      default:
-        throw new RuntimeException("Unknown SubnetGroupUpdateFieldType " + fieldType);
-
+    for (final SubnetGroupUpdateFieldType fieldType : fieldTypes) {
+      switch (fieldType) {
+        case DESCRIPTION:
+          builder.description(model.getDescription());
+          break;
+        case SUBNET_IDS:
+          builder.subnetIds(model.getSubnetIds());
+          break;
+        default:
+          throw new RuntimeException("Unknown SubnetGroupUpdateFieldType " + fieldType);
+      }
     }
     return builder.build();
   }
@@ -5,7 +5,6 @@ import org.apache.commons.collections.CollectionUtils;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.TagResourceResponse;
 import software.amazon.awssdk.services.memorydb.model.UntagResourceResponse;
-import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -13,6 +12,7 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -33,8 +33,7 @@ public class UpdateHandler extends BaseHandlerStd {
         this.logger = logger;
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> updateSubnetGroup(proxy, proxyClient, progress, request, SubnetGroupUpdateFieldType.DESCRIPTION, logger))
-                .then(progress -> updateSubnetGroup(proxy, proxyClient, progress, request, SubnetGroupUpdateFieldType.SUBNET_IDS, logger))
+                .then(progress -> updateSubnetGroup(proxy, proxyClient, progress, request, logger))
                 .then(progress -> describeSubnetGroups(proxy, progress, proxyClient))
                 .then(progress -> tagResource(proxy, proxyClient, progress, request, logger))
                 .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
@@ -44,17 +43,16 @@ public class UpdateHandler extends BaseHandlerStd {
                                                                 final ProxyClient<MemoryDbClient> proxyClient,
                                                                 final ProgressEvent<ResourceModel, CallbackContext> progress,
                                                                 final ResourceHandlerRequest<ResourceModel> request,
-                                                                final SubnetGroupUpdateFieldType fieldType,
                                                                 final Logger logger) {
 
-        final ResourceModel desiredResourceState = request.getDesiredResourceState();
-        final ResourceModel currentResourceState = request.getPreviousResourceState();
-
-        if (!isUpdateNeeded(desiredResourceState, currentResourceState, fieldType, logger)) {
+        final Set<SubnetGroupUpdateFieldType> fieldTypes =
+                getModifiedFields(request.getDesiredResourceState(), request.getPreviousResourceState());
+        if (fieldTypes.isEmpty()) {
             return progress;
         }
 
-        return updateSubnetGroup(proxy, proxyClient, progress, desiredResourceState, fieldType, logger);
+        logger.log(String.format("Updating %s of subnet group %s", fieldTypes, request.getDesiredResourceState().getSubnetGroupName()));
+        return updateSubnetGroup(proxy, proxyClient, progress, fieldTypes);
     }
 
     private boolean isUpdateNeeded(final Map<String, String> desiredResourceTags,
@@ -62,23 +60,16 @@ public class UpdateHandler extends BaseHandlerStd {
         return Translator.isModified(desiredResourceTags, currentResourceTags);
     }
 
-    private boolean isUpdateNeeded(final ResourceModel desiredResourceState,
-                                   final ResourceModel currentResourceState,
-                                   final SubnetGroupUpdateFieldType fieldType,
-                                   final Logger logger) {
-        boolean isModified;
-        switch (fieldType) {
-            case DESCRIPTION:
-                isModified = Translator.isModified(desiredResourceState.getDescription(), currentResourceState.getDescription());
-                break;
-            case SUBNET_IDS:
-                isModified = Translator.isModified(desiredResourceState.getSubnetIds(), currentResourceState.getSubnetIds());
-                break;
-            default:
-                logger.log(String.format("Modification type [%s] not supported", fieldType));
-                throw new CfnInternalFailureException();
+    private Set<SubnetGroupUpdateFieldType> getModifiedFields(final ResourceModel desiredResourceState,
+                                                              final ResourceModel currentResourceState) {
+        final Set<SubnetGroupUpdateFieldType> fieldTypes = EnumSet.noneOf(SubnetGroupUpdateFieldType.class);
+        if (Translator.isModified(desiredResourceState.getDescription(), currentResourceState.getDescription())) {
+            fieldTypes.add(SubnetGroupUpdateFieldType.DESCRIPTION);
+        }
+        if (Translator.isModified(desiredResourceState.getSubnetIds(), currentResourceState.getSubnetIds())) {
+            fieldTypes.add(SubnetGroupUpdateFieldType.SUBNET_IDS);
         }
-        return isModified;
+        return fieldTypes;
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> tagResource(final AmazonWebServicesClientProxy proxy,
@@ -132,18 +123,23 @@ public class UpdateHandler extends BaseHandlerStd {
                 .orElse(Collections.emptySet());
     }
 
+    /**
+     * Sends all the modified fields in one UpdateSubnetGroup call. The subnet group returned by the call shows that the
+     * update has been applied, so the handler only waits for the subnet group when the response does not include it.
+     */
     ProgressEvent<ResourceModel, CallbackContext> updateSubnetGroup(final AmazonWebServicesClientProxy proxy,
                                                                 final ProxyClient<MemoryDbClient> proxyClient,
                                                                 final ProgressEvent<ResourceModel, CallbackContext> progress,
-                                                                final ResourceModel desiredResourceState,
-                                                                final SubnetGroupUpdateFieldType fieldType,
-                                                                final Logger logger) {
+                                                                final Set<SubnetGroupUpdateFieldType> fieldTypes) {
 
         return proxy.initiate("AWS-memorydb-SubnetGroup::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(model -> Translator.translateToUpdateRequest(model, fieldType))
+                .translateToServiceRequest(model -> Translator.translateToUpdateRequest(model, fieldTypes))
                 .backoffDelay(STABILIZATION_DELAY)
                 .makeServiceCall((awsRequest, memoryDbClientProxyClient) -> handleExceptions(() ->
                         memoryDbClientProxyClient.injectCredentialsAndInvokeV2(awsRequest, memoryDbClientProxyClient.client()::updateSubnetGroup)))
-                .progress();
+                .retryErrorFilter((awsRequest, exception, client, model, context) -> isThrottled(exception))
+                .done((updateSubnetGroupRequest, updateSubnetGroupResponse, proxyInvocation, model, context) ->
+                        updateSubnetGroupResponse.subnetGroup() != null ? ProgressEvent.progress(model, context)
+                                : waitForSubnetGroupAvailableStatus(proxy, proxyInvocation, ProgressEvent.progress(model, context)));
     }
 }
@@ -30,6 +30,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -144,4 +145,49 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         verify(sdkClient, atLeastOnce()).serviceName();
     }
+
+    @Test
+    public void handleRequest_SkipsStabilizationWhenCreateReturnsTheSubnetGroup() {
+        final CreateHandler handler = new CreateHandler();
+
+        when(proxyClient.client().createSubnetGroup(any(CreateSubnetGroupRequest.class))).thenReturn(getCreateSubnetGroupResponse());
+        when(proxyClient.client().describeSubnetGroups(any(DescribeSubnetGroupsRequest.class)))
+                .thenReturn(DescribeSubnetGroupsResponse.builder().subnetGroups(getSubnetGroup()).build());
+        when(proxyClient.client().listTags(any(ListTagsRequest.class))).thenReturn(ListTagsResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(getDesiredResourceStateModel())
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        verify(proxyClient.client()).createSubnetGroup(any(CreateSubnetGroupRequest.class));
+        // only the describe of the read that follows the create
+        verify(proxyClient.client(), times(1)).describeSubnetGroups(any(DescribeSubnetGroupsRequest.class));
+        verify(proxyClient.client()).listTags(any(ListTagsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ProbesSubnetGroupWhenCreateDoesNotReturnIt() {
+        final CreateHandler handler = new CreateHandler();
+
+        when(proxyClient.client().createSubnetGroup(any(CreateSubnetGroupRequest.class))).thenReturn(CreateSubnetGroupResponse.builder().build());
+        when(proxyClient.client().describeSubnetGroups(any(DescribeSubnetGroupsRequest.class)))
+                .thenReturn(DescribeSubnetGroupsResponse.builder().subnetGroups(getSubnetGroup()).build());
+        when(proxyClient.client().listTags(any(ListTagsRequest.class))).thenReturn(ListTagsResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(getDesiredResourceStateModel())
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        verify(proxyClient.client()).createSubnetGroup(any(CreateSubnetGroupRequest.class));
+        verify(proxyClient.client(), times(2)).describeSubnetGroups(any(DescribeSubnetGroupsRequest.class));
+        verify(proxyClient.client()).listTags(any(ListTagsRequest.class));
+    }
 }
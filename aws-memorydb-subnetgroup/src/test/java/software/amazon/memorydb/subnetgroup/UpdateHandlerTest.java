@@ -4,6 +4,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
@@ -12,6 +13,8 @@ import software.amazon.awssdk.services.memorydb.model.DescribeSubnetGroupsRespon
 import software.amazon.awssdk.services.memorydb.model.ListTagsRequest;
 import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
 import software.amazon.awssdk.services.memorydb.model.SubnetGroup;
+import software.amazon.awssdk.services.memorydb.model.UpdateSubnetGroupRequest;
+import software.amazon.awssdk.services.memorydb.model.UpdateSubnetGroupResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -19,6 +22,7 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
+import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -85,6 +89,34 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(sdkClient, atLeastOnce()).serviceName();
     }
 
+    @Test
+    public void handleRequest_UpdatesDescriptionAndSubnetsInOneCall() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel currentResourceModel = getDesiredResourceStateModel();
+        currentResourceModel.setDescription("previous description");
+        currentResourceModel.setSubnetIds(Collections.singleton("subnetid1"));
+        final ResourceModel desiredTestResourceModel = getDesiredResourceStateModel();
+        when(proxyClient.client().updateSubnetGroup(any(UpdateSubnetGroupRequest.class)))
+                .thenReturn(UpdateSubnetGroupResponse.builder().subnetGroup(getSubnetGroup()).build());
+        when(proxyClient.client().describeSubnetGroups(any(DescribeSubnetGroupsRequest.class)))
+                .thenReturn(DescribeSubnetGroupsResponse.builder().subnetGroups(getSubnetGroup()).build());
+        when(proxyClient.client().listTags(any(ListTagsRequest.class))).thenReturn(ListTagsResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = buildRequest(desiredTestResourceModel, currentResourceModel);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        final ArgumentCaptor<UpdateSubnetGroupRequest> captor = ArgumentCaptor.forClass(UpdateSubnetGroupRequest.class);
+        verify(proxyClient.client()).updateSubnetGroup(captor.capture());
+        assertThat(captor.getValue().description()).isEqualTo(DESCRIPTION);
+        assertThat(captor.getValue().subnetIds()).containsExactlyInAnyOrderElementsOf(SUBNET_IDS);
+        // the subnet group returned by the update needs no stabilization describe
+        verify(proxyClient.client(), times(1)).describeSubnetGroups(any(DescribeSubnetGroupsRequest.class));
+        verify(proxyClient.client(), times(1)).listTags(any(ListTagsRequest.class));
+    }
+
     private ResourceHandlerRequest<ResourceModel> buildRequest(ResourceModel desiredModel,
                                                                ResourceModel previousModel) {
         return ResourceHandlerRequest.<ResourceModel>builder()
@@ -0,0 +1,138 @@
+package software.amazon.memorydb.user;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Canonical form of an access string, so that strings granting the same permissions compare equal even though the
+ * service reorders and expands them (e.g. {@code allkeys} is read back as {@code ~*}).
+ *
+ * The canonical form lists the state, the key patterns, the channel patterns and the command rules in that order.
+ * Patterns are sorted and collapsed into {@code *} when it is granted. Command rules keep their order, since a later
+ * rule overrides an earlier one, but rules before the last {@code +@all}/{@code -@all}, rules repeated later and rules
+ * that repeat the current grant of their command (e.g. {@code +get} in {@code +@all -get +get}) are dropped. The
+ * commands of a category are not known here, so a rule that follows any category or subcommand rule is always kept.
+ * Parsed strings are cached, as the same few access strings are compared on every update and read.
+ */
+final class AccessString {
+  private static final int CACHE_SIZE = 256;
+  private static final String ALL = "*";
+  private static final String ALL_COMMANDS = "+@all";
+  private static final String NO_COMMANDS = "-@all";
+
+  private static final Map<String, String> CANONICAL = Collections.synchronizedMap(
+      new LinkedHashMap<String, String>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, String> eldest) {
+          return size() > CACHE_SIZE;
+        }
+      });
+
+  private AccessString() {
+  }
+
+  /**
+   * @return whether both access strings grant the same permissions, two null strings are equivalent
+   */
+  static boolean isEquivalent(final String a, final String b) {
+    if (a == null || b == null) {
+      return a == b;
+    }
+    return a.equals(b) || canonicalize(a).equals(canonicalize(b));
+  }
+
+  static String canonicalize(final String accessString) {
+    final String cached = CANONICAL.get(accessString);
+    if (cached != null) {
+      return cached;
+    }
+    final String canonical = parse(accessString);
+    CANONICAL.put(accessString, canonical);
+    return canonical;
+  }
+
+  private static String parse(final String accessString) {
+    // users are off and can access no keys or commands unless granted, but all channels (allchannels is the default)
+    String state = "off";
+    final Set<String> keys = new TreeSet<>();
+    final Set<String> channels = new TreeSet<>(Collections.singleton(ALL));
+    final List<String> commands = new ArrayList<>();
+    final List<String> others = new ArrayList<>();
+
+    for (final String token : accessString.trim().split("\\s+")) {
+      final String rule = token.toLowerCase(Locale.ROOT);
+      if (token.isEmpty()) {
+        continue;
+      } else if ("on".equals(rule) || "off".equals(rule)) {
+        state = rule;
+      } else if ("allkeys".equals(rule)) {
+        keys.add(ALL);
+      } else if (token.startsWith("~")) {
+        keys.add(token.substring(1));
+      } else if ("resetkeys".equals(rule)) {
+        keys.clear();
+      } else if ("allchannels".equals(rule)) {
+        channels.add(ALL);
+      } else if (token.startsWith("&")) {
+        channels.add(token.substring(1));
+      } else if ("resetchannels".equals(rule)) {
+        channels.clear();
+      } else if ("allcommands".equals(rule) || ALL_COMMANDS.equals(rule)) {
+        commands.clear();
+        commands.add(ALL_COMMANDS);
+      } else if ("nocommands".equals(rule) || NO_COMMANDS.equals(rule)) {
+        // no commands is the initial state
+        commands.clear();
+      } else if (rule.startsWith("+") || rule.startsWith("-")) {
+        // a later rule for the same command or category overrides this one
+        final String target = rule.substring(1);
+        commands.removeIf(command -> !ALL_COMMANDS.equals(command) && command.substring(1).equals(target));
+        if (!isCurrentGrant(commands, rule)) {
+          commands.add(rule);
+        }
+      } else {
+        others.add(token);
+      }
+    }
+
+    final List<String> canonical = new ArrayList<>();
+    canonical.add(state);
+    addPatterns(canonical, "~", keys);
+    addPatterns(canonical, "&", channels);
+    canonical.addAll(commands);
+    canonical.addAll(others);
+    return String.join(" ", canonical);
+  }
+
+  /**
+   * @return whether the rule grants or denies what the other rules already do for its command, which is only known
+   *     when the rules that remain are on other single commands, on top of {@code +@all} or of no commands
+   */
+  private static boolean isCurrentGrant(final List<String> commands, final String rule) {
+    if (rule.startsWith("+") != commands.contains(ALL_COMMANDS)) {
+      return false;
+    }
+    final String target = rule.substring(1);
+    final boolean isCommand = !target.startsWith("@") && !target.contains("|");
+    return commands.stream()
+        .filter(command -> !ALL_COMMANDS.equals(command))
+        .allMatch(command -> isCommand && !command.startsWith("+@") && !command.startsWith("-@")
+            && !command.substring(1).startsWith(target + "|"));
+  }
+
+  private static void addPatterns(final List<String> canonical, final String prefix, final Set<String> patterns) {
+    if (patterns.contains(ALL)) {
+      canonical.add(prefix + ALL);
+    } else {
+      patterns.forEach(pattern -> canonical.add(prefix + pattern));
+    }
+  }
+}
@@ -1,15 +1,13 @@
 package software.amazon.memorydb.user;
 
 import com.amazonaws.SdkClientException;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
 import java.time.Duration;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
-import org.apache.commons.lang3.exception.ExceptionUtils;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.AclNotFoundException;
@@ -19,6 +17,8 @@ import software.amazon.awssdk.services.memorydb.model.InvalidArnException;
 import software.amazon.awssdk.services.memorydb.model.InvalidClusterStateException;
 import software.amazon.awssdk.services.memorydb.model.InvalidParameterCombinationException;
 import software.amazon.awssdk.services.memorydb.model.InvalidParameterValueException;
+import software.amazon.awssdk.services.memorydb.model.InvalidUserStateException;
+import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
 import software.amazon.awssdk.services.memorydb.model.MemoryDbException;
 import software.amazon.awssdk.services.memorydb.model.ParameterGroupNotFoundException;
 import software.amazon.awssdk.services.memorydb.model.ServiceLinkedRoleNotFoundException;
@@ -31,23 +31,56 @@ import software.amazon.awssdk.services.memorydb.model.UserNotFoundException;
 import software.amazon.awssdk.services.memorydb.model.UserQuotaExceededException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.memorydb.common.ConcurrentListTags;
+import software.amazon.memorydb.common.HandlerMetrics;
+import software.amazon.memorydb.common.RetryPolicy;
+import software.amazon.memorydb.common.StabilizationDelay;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+  private static final String ARN_RESOURCE_TYPE = "user";
 
   private static final String MESSAGE_FORMAT_FAILED_TO_STABILIZE = "User %s failed to stabilize.";
   protected static final Integer RETRY_COUNT = 5;
-  protected static final Constant STABILIZATION_DELAY = Constant.of()
+  protected static final Integer THROTTLE_RETRY_COUNT = 10;
+  protected static final StabilizationDelay STABILIZATION_DELAY = StabilizationDelay.of()
       .timeout(Duration.ofHours(1L))
-      .delay(Duration.ofSeconds(60))
+      // users usually become active within seconds
+      .initialDelay(Duration.ofSeconds(2))
+      .maxDelay(Duration.ofSeconds(30))
       .build();
+  @VisibleForTesting
+  static RetryPolicy RETRY_POLICY = RetryPolicy.of()
+      .terminal(UserAlreadyExistsException.class
+          , UserQuotaExceededException.class
+          , DuplicateUserNameException.class
+          , InvalidParameterValueException.class
+          , InvalidParameterCombinationException.class
+          , TagQuotaPerResourceExceededException.class
+          , ClusterNotFoundException.class
+          , InvalidClusterStateException.class
+          , ParameterGroupNotFoundException.class
+          , SubnetGroupNotFoundException.class
+          , InvalidArnException.class
+          , ServiceLinkedRoleNotFoundException.class
+          , UserNotFoundException.class
+          , AclNotFoundException.class
+          , CfnAlreadyExistsException.class
+          , CfnNotFoundException.class
+          , CfnInvalidRequestException.class)
+      // the user is being modified by another request
+      .conflict(InvalidUserStateException.class)
+      .build();
+
+  private HandlerMetrics metrics = new HandlerMetrics(ResourceModel.TYPE_NAME, getAction());
 
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -55,13 +88,32 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     final ResourceHandlerRequest<ResourceModel> request,
     final CallbackContext callbackContext,
     final Logger logger) {
-    return handleRequest(
-      proxy,
-      request,
-      callbackContext != null ? callbackContext : new CallbackContext(),
-      proxy.newProxy(ClientBuilder::getClient),
-      logger
-    );
+    // handler instances are reused by warm containers
+    metrics = new HandlerMetrics(ResourceModel.TYPE_NAME, getAction());
+    ProgressEvent<ResourceModel, CallbackContext> event = null;
+    try {
+      event = handleRequest(
+        proxy,
+        request,
+        callbackContext != null ? callbackContext : new CallbackContext(),
+        metrics.instrument(proxy.newProxy(ClientBuilder::getClient)),
+        logger
+      );
+      return event;
+    } finally {
+      metrics.emit(logger, event);
+    }
+  }
+
+  /**
+   * Records a stabilization poll in the metrics of the current invocation and returns its outcome.
+   */
+  protected boolean recordStabilizationPoll(final boolean stabilized) {
+    return metrics.recordStabilizationPoll(stabilized);
+  }
+
+  private String getAction() {
+    return getClass().getSimpleName().replace("Handler", "");
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -109,37 +161,63 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     }
   }
 
+  /**
+   * Retry filter of the call chains. Terminal failures are not retried, throttled calls are retried from their own
+   * budget so that a throttling storm backs off instead of exhausting the retries of other failures. The backoff of
+   * the retry is left in the context for {@link #retryBackoff(Delay, CallbackContext)}.
+   */
   protected boolean shouldRetry(Exception exception, CallbackContext context, Logger logger) {
-    if(context.getRetriesRemaining() > 0 && isARetriableException(exception, logger)) {
-      logger.log("Caught a retriable exception, RetriesRemaining " + context.getRetriesRemaining());
+    final RetryPolicy.Category category = RETRY_POLICY.classify(exception);
+    final int attempt;
+    if (category == RetryPolicy.Category.TERMINAL) {
+      return false;
+    } else if (category == RetryPolicy.Category.THROTTLING) {
+      if (context.getThrottleRetriesRemaining() == null) {
+        context.setThrottleRetriesRemaining(THROTTLE_RETRY_COUNT);
+      }
+      if (context.getThrottleRetriesRemaining() <= 0) {
+        return false;
+      }
+      context.setThrottleRetriesRemaining(context.getThrottleRetriesRemaining() - 1);
+      attempt = THROTTLE_RETRY_COUNT - context.getThrottleRetriesRemaining();
+    } else {
+      if (context.getRetriesRemaining() <= 0) {
+        return false;
+      }
+      logger.log(exception.toString() + " " + exception.getMessage() + " " + exception.getCause() + "\n"
+          + Throwables.getStackTraceAsString(exception));
       context.setRetriesRemaining(context.getRetriesRemaining() - 1);
-      return true;
+      attempt = RETRY_COUNT - context.getRetriesRemaining();
     }
-    return false;
+
+    final Duration backoff = RETRY_POLICY.backoff(category, attempt);
+    context.setRetryDelaySeconds((int) backoff.getSeconds());
+    logger.log(String.format("Caught a %s exception, retrying in %ds, RetriesRemaining %s, ThrottleRetriesRemaining %s",
+        category, backoff.getSeconds(), context.getRetriesRemaining(), context.getThrottleRetriesRemaining()));
+    return true;
   }
-  List<Class<? extends Throwable>> expectedExceptionsList = Arrays.asList(UserAlreadyExistsException.class
-          , UserAlreadyExistsException.class
-          , UserQuotaExceededException.class
-          , DuplicateUserNameException.class
-          , InvalidParameterValueException.class
-          , InvalidParameterCombinationException.class
-          , TagQuotaPerResourceExceededException.class
-          , ClusterNotFoundException.class
-          , InvalidClusterStateException.class
-          , ParameterGroupNotFoundException.class
-          , SubnetGroupNotFoundException.class
-          , InvalidArnException.class
-          , ServiceLinkedRoleNotFoundException.class
-          , UserNotFoundException.class
-          , AclNotFoundException.class
-  );
-  private boolean isARetriableException(Exception exception, Logger logger){
-      if(expectedExceptionsList.stream().filter(eClass -> ExceptionUtils.hasCause(exception, eClass)).collect(Collectors.toList()).size() > 0) {
-        return false;
-      } else {
-        logger.log(exception.toString() + " " + exception.getMessage() + " " + exception.getCause() + "\n"
-                + Throwables.getStackTraceAsString(exception));
-        return true;
-      }
+
+  /**
+   * Delay of a call chain that waits for the backoff chosen by {@link #shouldRetry(Exception, CallbackContext, Logger)}
+   * before a retry and follows the given delay otherwise.
+   */
+  protected Delay retryBackoff(final Delay delay, final CallbackContext context) {
+    return RETRY_POLICY.withRetryBackoff(delay, () -> {
+      final Integer seconds = context.getRetryDelaySeconds();
+      context.setRetryDelaySeconds(null);
+      return seconds == null ? null : Duration.ofSeconds(seconds);
+    });
+  }
+
+  /**
+   * Builds the ARN of the resource from the account and region of the request, so that ListTags can be issued
+   * without waiting for the describe call. Returns null when the request does not carry them.
+   */
+  protected static String buildArn(final ResourceHandlerRequest<ResourceModel> request, final String name) {
+    return ConcurrentListTags.buildArn(request, ARN_RESOURCE_TYPE, name);
+  }
+
+  protected ListTagsResponse joinListTags(final CompletableFuture<ListTagsResponse> listTags) {
+    return handleExceptions(() -> ConcurrentListTags.join(listTags));
   }
 }
@@ -12,4 +12,7 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
     private Integer retriesRemaining;
+    private Integer throttleRetriesRemaining;
+    // backoff of the retry about to happen, consumed by the delay of the call chain
+    private Integer retryDelaySeconds;
 }
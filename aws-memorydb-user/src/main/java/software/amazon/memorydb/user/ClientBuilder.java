@@ -1,11 +1,11 @@
 package software.amazon.memorydb.user;
 
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
-import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.memorydb.common.CachedClientBuilder;
 
 public class ClientBuilder {
 
   public static MemoryDbClient getClient() {
-    return MemoryDbClient.builder().httpClient(LambdaWrapper.HTTP_CLIENT).build();
+    return CachedClientBuilder.getClient();
   }
 }
@@ -40,7 +40,7 @@ public class CreateHandler extends BaseHandlerStd {
                 proxy.initiate("AWS-MemoryDB-User::Create", proxyClient, progress.getResourceModel(),
                     progress.getCallbackContext())
                     .translateToServiceRequest(Translator::translateToCreateRequest)
-                    .backoffDelay(STABILIZATION_DELAY)
+                    .backoffDelay(retryBackoff(STABILIZATION_DELAY, progress.getCallbackContext()))
                     .makeServiceCall((awsRequest, client) -> handleExceptions(() ->
                         client.injectCredentialsAndInvokeV2(awsRequest, client.client()::createUser)))
                     .retryErrorFilter((awsRequest, exception, client, model, context) -> (shouldRetry(exception, context, logger)))
@@ -30,7 +30,7 @@ public class DeleteHandler extends BaseHandlerStd {
                 proxy.initiate("AWS-MemoryDB-User::Delete", proxyClient, progress.getResourceModel(),
                     progress.getCallbackContext())
                     .translateToServiceRequest(Translator::translateToDeleteRequest)
-                    .backoffDelay(STABILIZATION_DELAY)
+                    .backoffDelay(retryBackoff(STABILIZATION_DELAY, progress.getCallbackContext()))
                     .makeServiceCall((modelRequest, proxyInvocation) -> {
                         return handleExceptions(() -> {
                             try {
@@ -58,8 +58,8 @@ public class DeleteHandler extends BaseHandlerStd {
         try {
             isUserStabilized(proxyClient, model, logger);
         } catch (CfnNotFoundException e) {
-            return true;
+            return recordStabilizationPoll(true);
         }
-        return false;
+        return recordStabilizationPoll(false);
     }
 }
@@ -1,11 +1,15 @@
 package software.amazon.memorydb.user;
 
+import java.util.concurrent.CompletableFuture;
+
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.memorydb.common.ConcurrentListTags;
 
 public class ReadHandler extends BaseHandlerStd {
     private Logger logger;
@@ -24,9 +28,22 @@ public class ReadHandler extends BaseHandlerStd {
         }
 
         logger.log(String.format("%s read handler is being invoked", ResourceModel.TYPE_NAME));
+        final String arn = buildArn(request, request.getDesiredResourceState().getUserName());
+        if (arn == null) {
+            // the ARN is only known once the user has been described
+            return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+                .then(progress -> describeUser(proxy, progress, proxyClient))
+                .then(progress -> listTags(proxy, progress, proxyClient))
+                .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
+        }
+
+        final CompletableFuture<ListTagsResponse> listTags = ConcurrentListTags.listTagsAsync(proxyClient, arn);
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress -> describeUser(proxy, progress, proxyClient))
-            .then(progress -> listTags(proxy, progress, proxyClient))
+            .then(progress -> {
+                progress.getResourceModel().setTags(Translator.translateTags(joinListTags(listTags).tagList()));
+                return progress;
+            })
             .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
     }
 
@@ -39,11 +56,18 @@ public class ReadHandler extends BaseHandlerStd {
             .initiate("AWS-MemoryDB-User::Describe", proxyClient, progress.getResourceModel(),
                 progress.getCallbackContext())
             .translateToServiceRequest(Translator::translateToReadRequest)
+            .backoffDelay(retryBackoff(STABILIZATION_DELAY, progress.getCallbackContext()))
             .makeServiceCall((awsRequest, client) -> handleExceptions(() ->
                 client.injectCredentialsAndInvokeV2(awsRequest, client.client()::describeUsers)))
             .retryErrorFilter((awsRequest, exception, client, model, context) -> (shouldRetry(exception, context, logger)))
-            .done((describeUserRequest, describeUserResponse, proxyInvocation, resourceModel, context) ->
-                ProgressEvent.progress(Translator.translateFromReadResponse(describeUserResponse), context));
+            .done((describeUserRequest, describeUserResponse, proxyInvocation, resourceModel, context) -> {
+                final ResourceModel model = Translator.translateFromReadResponse(describeUserResponse);
+                // the service normalizes access strings, keep the one of the template when it grants the same permissions
+                if (AccessString.isEquivalent(resourceModel.getAccessString(), model.getAccessString())) {
+                    model.setAccessString(resourceModel.getAccessString());
+                }
+                return ProgressEvent.progress(model, context);
+            });
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> listTags(
@@ -54,6 +78,7 @@ public class ReadHandler extends BaseHandlerStd {
         return proxy
             .initiate("AWS-MemoryDB-User::ListTags", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
             .translateToServiceRequest(Translator::translateToListTagsRequest)
+            .backoffDelay(retryBackoff(STABILIZATION_DELAY, progress.getCallbackContext()))
             .makeServiceCall((awsRequest, client) -> handleExceptions(() -> client.injectCredentialsAndInvokeV2(awsRequest, client.client()::listTags)))
             .retryErrorFilter((awsRequest, exception, client, model, context) -> (shouldRetry(exception, context, logger)))
             .done( (listTagsRequest, listTagsResponse, proxyInvocation, resourceModel, context) -> {
@@ -90,19 +90,20 @@ public class Translator {
   }
 
   /**
-   * Request to update properties of a previously created resource
+   * Request to update properties of a previously created resource, carrying only the fields that changed
    * @param model resource model
+   * @param diff changes between the previous and the desired model
    * @return awsRequest the aws service request to modify a resource
    */
-  static UpdateUserRequest translateToUpdateRequest(final ResourceModel model) {
+  static UpdateUserRequest translateToUpdateRequest(final ResourceModel model, final UserModelDiff diff) {
     return UpdateUserRequest.builder()
         .userName(model.getUserName())
-        .authenticationMode(
+        .authenticationMode(diff.isAuthenticationModeChanged() ?
             software.amazon.awssdk.services.memorydb.model.AuthenticationMode.builder()
                 .type(model.getAuthenticationMode().getType())
                 .passwords(model.getAuthenticationMode().getPasswords())
-                .build())
-        .accessString(model.getAccessString())
+                .build() : null)
+        .accessString(diff.isAccessStringChanged() ? model.getAccessString() : null)
         .build();
   }
 
@@ -148,7 +149,11 @@ public class Translator {
   }
 
   static ListTagsRequest translateToListTagsRequest(final ResourceModel model) {
-    return ListTagsRequest.builder().resourceArn(model.getArn()).build();
+    return translateToListTagsRequest(model.getArn());
+  }
+
+  static ListTagsRequest translateToListTagsRequest(final String arn) {
+    return ListTagsRequest.builder().resourceArn(arn).build();
   }
 
   static Set<software.amazon.memorydb.user.Tag> translateTags(final Collection<Tag> tags) {
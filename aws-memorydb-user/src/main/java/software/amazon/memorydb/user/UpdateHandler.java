@@ -45,15 +45,17 @@ public class UpdateHandler extends BaseHandlerStd {
         ResourceHandlerRequest<ResourceModel> request,
         ProxyClient<MemoryDbClient> proxyClient
     ) {
-        if (hasChangeOnCoreModel(request.getDesiredResourceState(), request.getPreviousResourceState())) {
+        final UserModelDiff diff = UserModelDiff.between(request.getPreviousResourceState(), request.getDesiredResourceState());
+        if (!diff.isEmpty()) {
             return proxy.initiate("AWS-MemoryDB-User::Update", proxyClient, progress.getResourceModel(),
                 progress.getCallbackContext())
-                .translateToServiceRequest(Translator::translateToUpdateRequest)
+                .translateToServiceRequest(model -> Translator.translateToUpdateRequest(model, diff))
+                .backoffDelay(retryBackoff(STABILIZATION_DELAY, progress.getCallbackContext()))
                 .makeServiceCall((awsRequest, client) -> handleExceptions(() ->
                     client.injectCredentialsAndInvokeV2(awsRequest, client.client()::updateUser)))
                 .stabilize(
-                    (updateUserRequest, updateUserResponse, proxyInvocation, model, context) -> isUserStabilized(
-                        proxyInvocation, model, logger))
+                    (updateUserRequest, updateUserResponse, proxyInvocation, model, context) -> recordStabilizationPoll(
+                        isUserStabilized(proxyInvocation, model, logger)))
                 .retryErrorFilter((awsRequest, exception, client, model, context) -> (shouldRetry(exception, context, logger)))
                 .progress();
         } else {
@@ -116,20 +118,6 @@ public class UpdateHandler extends BaseHandlerStd {
         }
     }
 
-    private boolean hasChangeOnCoreModel(final ResourceModel r1, final ResourceModel r2){
-        return !getResourceWithoutTags(r1).equals(getResourceWithoutTags(r2));
-    }
-
-    private ResourceModel getResourceWithoutTags(final ResourceModel resourceModel) {
-        return ResourceModel.builder()
-            .status(resourceModel.getStatus())
-            .userName(resourceModel.getUserName())
-            .accessString(resourceModel.getAccessString())
-            .authenticationMode(resourceModel.getAuthenticationMode())
-            .arn(resourceModel.getArn())
-            .build();
-    }
-
     private void setModelArn(AmazonWebServicesClientProxy proxy, ProxyClient<MemoryDbClient> client,
         final ResourceModel model) {
         if (StringUtils.isNullOrEmpty(model.getArn())) {
@@ -0,0 +1,64 @@
+package software.amazon.memorydb.user;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Changes between two models of a user that UpdateUser can apply, i.e. its access string and its authentication
+ * mode. Read-only properties (status, arn) and tags are not compared, so they never cause an UpdateUser call. A
+ * property left out of the desired model is not changed, as UpdateUser keeps the current value of omitted fields.
+ * Access strings are compared by the permissions they grant rather than by their text.
+ */
+final class UserModelDiff {
+  private final boolean accessStringChanged;
+  private final boolean authenticationModeChanged;
+
+  private UserModelDiff(final boolean accessStringChanged, final boolean authenticationModeChanged) {
+    this.accessStringChanged = accessStringChanged;
+    this.authenticationModeChanged = authenticationModeChanged;
+  }
+
+  /**
+   * @param previous model before the update, may be null
+   * @param desired  model of the template
+   */
+  static UserModelDiff between(final ResourceModel previous, final ResourceModel desired) {
+    final boolean accessStringChanged = desired.getAccessString() != null
+        && (previous == null || !AccessString.isEquivalent(previous.getAccessString(), desired.getAccessString()));
+    final boolean authenticationModeChanged = desired.getAuthenticationMode() != null
+        && (previous == null || !isSameAuthenticationMode(previous.getAuthenticationMode(), desired.getAuthenticationMode()));
+    return new UserModelDiff(accessStringChanged, authenticationModeChanged);
+  }
+
+  private static boolean isSameAuthenticationMode(final AuthenticationMode previous, final AuthenticationMode desired) {
+    if (previous == null) {
+      return false;
+    }
+    // passwords are unique and the service does not keep their order
+    return Objects.equals(normalize(previous.getType()), normalize(desired.getType()))
+        && Objects.equals(toSet(previous.getPasswords()), toSet(desired.getPasswords()));
+  }
+
+  private static String normalize(final String type) {
+    return type == null ? null : type.toLowerCase(Locale.ROOT);
+  }
+
+  private static Set<String> toSet(final Collection<String> values) {
+    return values == null ? new HashSet<>() : new HashSet<>(values);
+  }
+
+  boolean isEmpty() {
+    return !accessStringChanged && !authenticationModeChanged;
+  }
+
+  boolean isAccessStringChanged() {
+    return accessStringChanged;
+  }
+
+  boolean isAuthenticationModeChanged() {
+    return authenticationModeChanged;
+  }
+}
@@ -1,6 +1,7 @@
 package software.amazon.memorydb.user;
 
 import com.google.common.collect.ImmutableList;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import org.mockito.internal.util.collections.Sets;
@@ -11,11 +12,18 @@ import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.Authentication;
+import software.amazon.awssdk.services.memorydb.model.InvalidUserStateException;
 import software.amazon.awssdk.services.memorydb.model.User;
+import software.amazon.awssdk.services.memorydb.model.UserAlreadyExistsException;
+import software.amazon.awssdk.services.memorydb.model.UserNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
 import software.amazon.cloudformation.proxy.LoggerProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.memorydb.common.RetryPolicy;
 import java.util.Set;
 
 public class AbstractTestBase {
@@ -46,6 +54,15 @@ public class AbstractTestBase {
     PASSWORD = "test";
     STATUS = ACTIVE;
     TAG_SET = Sets.newSet(Tag.builder().key("key").value("value").build());
+
+    BaseHandlerStd.RETRY_POLICY = RetryPolicy.of()
+        .terminal(UserAlreadyExistsException.class, UserNotFoundException.class, CfnAlreadyExistsException.class,
+            CfnNotFoundException.class, CfnInvalidRequestException.class)
+        .conflict(InvalidUserStateException.class)
+        .backoff(RetryPolicy.Category.THROTTLING, Duration.ofSeconds(1L), Duration.ofSeconds(1L))
+        .backoff(RetryPolicy.Category.TRANSIENT, Duration.ofSeconds(1L), Duration.ofSeconds(1L))
+        .backoff(RetryPolicy.Category.CONFLICT, Duration.ofSeconds(1L), Duration.ofSeconds(1L))
+        .build();
   }
 
   protected User buildDefaultUser() {
@@ -0,0 +1,51 @@
+package software.amazon.memorydb.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class AccessStringTest {
+
+  @Test
+  public void canonicalize_ExpandsAliasesAndSortsPatterns() {
+    assertThat(AccessString.canonicalize("on allkeys allchannels allcommands")).isEqualTo("on ~* &* +@all");
+    assertThat(AccessString.canonicalize("+@ALL ~b:* on ~a:*")).isEqualTo("on ~a:* ~b:* &* +@all");
+    assertThat(AccessString.canonicalize("on ~a:* ~* &chan resetchannels")).isEqualTo("on ~*");
+    assertThat(AccessString.canonicalize("  off   -@all ")).isEqualTo("off &*");
+  }
+
+  @Test
+  public void canonicalize_KeepsTheEffectiveCommandRulesInOrder() {
+    assertThat(AccessString.canonicalize("on ~* +get -@all +@read -keys +@write -keys"))
+        .isEqualTo("on ~* &* +@read +@write -keys");
+    assertThat(AccessString.canonicalize("on ~* +@all -flushall")).isNotEqualTo(AccessString.canonicalize("on ~* -flushall +@all"));
+  }
+
+  @Test
+  public void canonicalize_DropsRulesRepeatingTheCurrentGrant() {
+    assertThat(AccessString.canonicalize("on ~* +@all -get +get")).isEqualTo("on ~* &* +@all");
+    assertThat(AccessString.canonicalize("on ~* -set +get -@all -get")).isEqualTo("on ~* &*");
+    assertThat(AccessString.canonicalize("on ~* +@all -flushall -get +get")).isEqualTo("on ~* &* +@all -flushall");
+    // get may belong to @read, so the rule after a category rule is kept
+    assertThat(AccessString.canonicalize("on ~* +@all -@read +get")).isEqualTo("on ~* &* +@all -@read +get");
+    assertThat(AccessString.canonicalize("on ~* +@all -config|get +config")).isEqualTo("on ~* &* +@all -config|get +config");
+  }
+
+  @Test
+  public void isEquivalent_ComparesGrantedPermissions() {
+    assertThat(AccessString.isEquivalent("on ~* &* +@all", "on allkeys allchannels allcommands")).isTrue();
+    assertThat(AccessString.isEquivalent("on ~* +@all", "on ~* &* +@all")).isTrue();
+    assertThat(AccessString.isEquivalent("on ~* resetchannels +@all", "on ~* &* +@all")).isFalse();
+    assertThat(AccessString.isEquivalent("on ~* +@all", "off ~* +@all")).isFalse();
+    assertThat(AccessString.isEquivalent("on ~app:* +@read", "on ~app:* +@write")).isFalse();
+    assertThat(AccessString.isEquivalent(null, null)).isTrue();
+    assertThat(AccessString.isEquivalent(null, "on")).isFalse();
+  }
+
+  @Test
+  public void canonicalize_CachesParsedStrings() {
+    final String accessString = "on ~cached:* +@hash";
+
+    assertThat(AccessString.canonicalize(accessString)).isSameAs(AccessString.canonicalize(accessString));
+  }
+}
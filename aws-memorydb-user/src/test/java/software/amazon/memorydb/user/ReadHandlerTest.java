@@ -19,6 +19,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -90,6 +91,29 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_KeepsEquivalentAccessStringOfTemplate() {
+        final ReadHandler handler = new ReadHandler();
+
+        when(sdkClient.listTags(any(ListTagsRequest.class))).thenReturn(ListTagsResponse.builder().build());
+        when(sdkClient.describeUsers(any(DescribeUsersRequest.class))).thenReturn(DescribeUsersResponse.builder()
+            .users(buildDefaultUser().toBuilder().accessString("on ~* &* +@all").build()).build());
+
+        final ResourceModel model = buildDefaultResourceModel();
+        model.setAccessString("on allkeys allchannels allcommands");
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        ProgressEvent<ResourceModel, CallbackContext> response = handler
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        assertThat(response.getResourceModel().getAccessString()).isEqualTo("on allkeys allchannels allcommands");
+
+        model.setAccessString("on ~app:* +@all");
+        response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        assertThat(response.getResourceModel().getAccessString()).isEqualTo("on ~* &* +@all");
+    }
+
     @Test
     public void handleRequest_FailedWithResourceNotFound() {
         final ResourceModel model = ResourceModel.builder().build();
@@ -135,4 +159,33 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         verify(sdkClient, atLeast(1)).serviceName();
     }
+
+    @Test
+    public void handleRequest_ListTagsWithDerivedArn() {
+        final ReadHandler handler = new ReadHandler();
+
+        final ResourceModel model = buildDefaultResourceModel();
+        model.getAuthenticationMode().setPasswords(null);
+        final ArgumentCaptor<ListTagsRequest> captor = ArgumentCaptor.forClass(ListTagsRequest.class);
+        when(proxyClient.client().listTags(captor.capture())).thenReturn(ListTagsResponse.builder()
+                .tagList(software.amazon.awssdk.services.memorydb.model.Tag.builder().key("service").value("memorydb").build())
+                .build());
+        when(sdkClient.describeUsers(any(DescribeUsersRequest.class)))
+                .thenReturn(DescribeUsersResponse.builder().users(buildDefaultUser()).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .awsAccountId("123456789012")
+                .region("us-east-1")
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getTags()).hasSize(1);
+        assertThat(captor.getValue().resourceArn())
+                .isEqualTo("arn:aws:memorydb:us-east-1:123456789012:user/" + model.getUserName());
+        verify(sdkClient).describeUsers(any(DescribeUsersRequest.class));
+        verify(proxyClient.client()).listTags(any(ListTagsRequest.class));
+    }
 }
@@ -28,6 +28,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -37,6 +38,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -259,4 +262,98 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
         assertThat(model.getArn()).isNotNull();
     }
+
+    @Test
+    public void handleRequest_ReadOnlyChangesSkipUpdateUser() {
+        when(sdkClient.describeUsers(any(DescribeUsersRequest.class)))
+            .thenReturn(DescribeUsersResponse.builder().users(buildDefaultUser()).build());
+        when(sdkClient.listTags(any(ListTagsRequest.class))).thenReturn(ListTagsResponse.builder().build());
+
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel modelPrevious = buildDefaultResourceModel();
+        modelPrevious.setStatus(MODIFYING);
+        modelPrevious.setArn(null);
+        final ResourceModel modelDesired = buildDefaultResourceModel();
+        modelDesired.setAuthenticationMode(AuthenticationMode.builder()
+            .type(AUTHMODE.toUpperCase())
+            .passwords(ImmutableList.of(PASSWORD))
+            .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(modelPrevious)
+            .desiredResourceState(modelDesired)
+            .build();
+        request.setDesiredResourceTags(Collections.singletonMap("test", "test"));
+        request.setPreviousResourceTags(Collections.singletonMap("test", "test"));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
+            new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(sdkClient, never()).updateUser(any(UpdateUserRequest.class));
+        verify(sdkClient).describeUsers(any(DescribeUsersRequest.class));
+        verify(sdkClient).listTags(any(ListTagsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_SendsOnlyChangedFields() {
+        when(sdkClient.updateUser(any(UpdateUserRequest.class))).thenReturn(UpdateUserResponse.builder().build());
+        when(sdkClient.describeUsers(any(DescribeUsersRequest.class)))
+            .thenReturn(DescribeUsersResponse.builder().users(buildDefaultUser()).build());
+        when(sdkClient.listTags(any(ListTagsRequest.class))).thenReturn(ListTagsResponse.builder().build());
+
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel modelPrevious = buildDefaultResourceModel();
+        final ResourceModel modelDesired = buildDefaultResourceModel();
+        modelDesired.setAccessString("on ~app:* +@read");
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(modelPrevious)
+            .desiredResourceState(modelDesired)
+            .build();
+        request.setDesiredResourceTags(Collections.singletonMap("test", "test"));
+        request.setPreviousResourceTags(Collections.singletonMap("test", "test"));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
+            new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final ArgumentCaptor<UpdateUserRequest> captor = ArgumentCaptor.forClass(UpdateUserRequest.class);
+        verify(sdkClient).updateUser(captor.capture());
+        assertThat(captor.getValue().accessString()).isEqualTo("on ~app:* +@read");
+        assertThat(captor.getValue().authenticationMode()).isNull();
+        verify(sdkClient, times(2)).describeUsers(any(DescribeUsersRequest.class));
+        verify(sdkClient).listTags(any(ListTagsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_EquivalentAccessStringSkipsUpdateUser() {
+        when(sdkClient.describeUsers(any(DescribeUsersRequest.class)))
+            .thenReturn(DescribeUsersResponse.builder().users(buildDefaultUser()).build());
+        when(sdkClient.listTags(any(ListTagsRequest.class))).thenReturn(ListTagsResponse.builder().build());
+
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel modelPrevious = buildDefaultResourceModel();
+        modelPrevious.setAccessString("on ~* &* +@all");
+        final ResourceModel modelDesired = buildDefaultResourceModel();
+        modelDesired.setAccessString("on allcommands allchannels allkeys");
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(modelPrevious)
+            .desiredResourceState(modelDesired)
+            .build();
+        request.setDesiredResourceTags(Collections.singletonMap("test", "test"));
+        request.setPreviousResourceTags(Collections.singletonMap("test", "test"));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
+            new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(sdkClient, never()).updateUser(any(UpdateUserRequest.class));
+        verify(sdkClient).describeUsers(any(DescribeUsersRequest.class));
+        verify(sdkClient).listTags(any(ListTagsRequest.class));
+    }
 }
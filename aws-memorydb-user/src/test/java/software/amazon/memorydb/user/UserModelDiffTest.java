@@ -0,0 +1,50 @@
+package software.amazon.memorydb.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+
+import org.junit.jupiter.api.Test;
+
+public class UserModelDiffTest extends AbstractTestBase {
+
+  @Test
+  public void between_IgnoresReadOnlyPropertiesAndTags() {
+    final ResourceModel previous = buildDefaultResourceModel();
+    final ResourceModel desired = buildDefaultResourceModel();
+    desired.setStatus(MODIFYING);
+    desired.setArn("otherarn");
+    desired.setTags(null);
+
+    assertThat(UserModelDiff.between(previous, desired).isEmpty()).isTrue();
+  }
+
+  @Test
+  public void between_ComparesPasswordsRegardlessOfOrder() {
+    final ResourceModel previous = buildDefaultResourceModel();
+    previous.setAuthenticationMode(AuthenticationMode.builder().type(AUTHMODE).passwords(ImmutableList.of("a", "b")).build());
+    final ResourceModel desired = buildDefaultResourceModel();
+    desired.setAuthenticationMode(AuthenticationMode.builder().type(AUTHMODE).passwords(ImmutableList.of("b", "a")).build());
+
+    assertThat(UserModelDiff.between(previous, desired).isEmpty()).isTrue();
+
+    desired.setAuthenticationMode(AuthenticationMode.builder().type(AUTHMODE).passwords(ImmutableList.of("b", "c")).build());
+    final UserModelDiff diff = UserModelDiff.between(previous, desired);
+    assertThat(diff.isAuthenticationModeChanged()).isTrue();
+    assertThat(diff.isAccessStringChanged()).isFalse();
+  }
+
+  @Test
+  public void between_TreatsOmittedPropertiesAsUnchanged() {
+    final ResourceModel previous = buildDefaultResourceModel();
+    previous.setAccessString("on ~* +@all");
+    final ResourceModel desired = buildDefaultResourceModel();
+    desired.setAuthenticationMode(null);
+
+    assertThat(UserModelDiff.between(previous, desired).isEmpty()).isTrue();
+
+    desired.setAccessString("off");
+    assertThat(UserModelDiff.between(previous, desired).isAccessStringChanged()).isTrue();
+    assertThat(UserModelDiff.between(null, desired).isAccessStringChanged()).isTrue();
+  }
+}